@@ -0,0 +1,3 @@
+#!/bin/sh
+# lets the replica of docker-compose.yaml stream from this server with the database credentials
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,55 @@
+// Writes gzip and brotli variants next to the text files of a build, the server sends them to clients
+// that accept the encoding. A variant that would not be smaller than the file is not written.
+//
+//   node scripts/precompress.js [directory]
+
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const COMPRESSIBLE = /\.(js|cjs|css|html|json|svg|txt|map)$/;
+const SKIPPED = /\.LICENSE\.txt$/;
+
+function files(directory) {
+    return fs.readdirSync(directory, { withFileTypes: true }).flatMap((entry) => {
+        const file = path.join(directory, entry.name);
+        return entry.isDirectory() ? files(file) : [file];
+    });
+}
+
+function writeSmaller(file, content, compressed) {
+    if (compressed.length < content.length) {
+        fs.writeFileSync(file, compressed);
+        return compressed.length;
+    }
+    if (fs.existsSync(file)) {
+        fs.unlinkSync(file);
+    }
+    return content.length;
+}
+
+const root = path.resolve(process.argv[2] || 'build');
+const totals = { original: 0, gzip: 0, brotli: 0 };
+
+files(root)
+    .filter((file) => COMPRESSIBLE.test(file) && !SKIPPED.test(file))
+    .forEach((file) => {
+        const content = fs.readFileSync(file);
+        const gzip = writeSmaller(`${file}.gz`, content, zlib.gzipSync(content, { level: 9 }));
+        const brotli = writeSmaller(
+            `${file}.br`,
+            content,
+            zlib.brotliCompressSync(content, {
+                params: {
+                    [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+                    [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+                },
+            }),
+        );
+        totals.original += content.length;
+        totals.gzip += gzip;
+        totals.brotli += brotli;
+        console.log(`${path.relative(root, file)}: ${content.length} -> gzip ${gzip}, br ${brotli}`);
+    });
+
+console.log(`total: ${totals.original} -> gzip ${totals.gzip}, br ${totals.brotli}`);
@@ -0,0 +1,443 @@
+package com.softserve.datagen;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Fills a database, migrated by Liquibase, with a generated university: departments with their teachers,
+ * groups, room types and rooms, subjects, periods and semesters, the lessons of every group in every semester
+ * and their schedules. Rows are streamed with COPY in one transaction.
+ * <p>
+ * The schedules have no conflicts: in every semester a group, a teacher and a room take at most one lesson
+ * per day, period and week, a weekly lesson taking both weeks. {@code density} is the share of the group
+ * slots the generator tries to fill; a slot stays empty when no teacher of the group lessons or no room
+ * is free in it.
+ * The same options and seed give the same rows, names of unique columns carry the seed, so datasets
+ * of different seeds can be loaded into one database. The defaults give about 50 thousand schedules.
+ * <p>
+ * Run with {@code ./gradlew generateDataset -PdatasetArgs="--groups=2000 --semesters=2 --seed=7"},
+ * the connection is taken from {@code DB_URL}, {@code DB_USER} and {@code DB_PASSWORD}.
+ */
+public final class DatasetGenerator {
+
+    private static final String[] POSITIONS = {"assistant", "senior lecturer", "docent", "professor"};
+    private static final String[] LESSON_TYPES = {"LECTURE", "PRACTICAL", "LABORATORY"};
+    private static final String[] ROOM_TYPES = {"Lecture hall", "Practical room", "Laboratory", "Computer class"};
+    private static final int[] WEEKLY = {0, 1};
+    private static final int[] ODD = {0};
+    private static final int[] EVEN = {1};
+
+    private final Map<String, Integer> options;
+    private final double density;
+    private final long seed;
+    private final Random random;
+
+    private final Map<String, Long> nextIds = new HashMap<>();
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+
+    DatasetGenerator(Map<String, Integer> options, double density, long seed) {
+        this.options = options;
+        this.density = density;
+        this.seed = seed;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws SQLException, IOException {
+        Map<String, Integer> options = new LinkedHashMap<>();
+        options.put("departments", 40);
+        options.put("teachers", 2500);
+        options.put("groups", 1000);
+        options.put("rooms", 600);
+        options.put("subjects", 800);
+        options.put("periods", 7);
+        options.put("days", 6);
+        options.put("semesters", 2);
+        options.put("lessons-per-group", 12);
+        double density = 0.55;
+        long seed = 42;
+
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            switch (option[0]) {
+                case "density" -> density = Double.parseDouble(option[1]);
+                case "seed" -> seed = Long.parseLong(option[1]);
+                default -> {
+                    if (!options.containsKey(option[0])) {
+                        throw new IllegalArgumentException("Unknown option " + option[0] + ", known are "
+                                + options.keySet() + ", density and seed");
+                    }
+                    options.put(option[0], Integer.parseInt(option[1]));
+                }
+            }
+        }
+        if (options.get("days") < 1 || options.get("days") > 7) {
+            throw new IllegalArgumentException("days must be between 1 and 7");
+        }
+        options.forEach((name, value) -> {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+        });
+        if (options.get("teachers") < options.get("departments")) {
+            throw new IllegalArgumentException("Every department needs a teacher, teachers must be at least departments");
+        }
+
+        String url = env("DB_URL", "jdbc:postgresql://localhost:5432/schedule");
+        try (Connection connection = DriverManager.getConnection(url, env("DB_USER", "postgres"), env("DB_PASSWORD", "root"))) {
+            connection.setAutoCommit(false);
+            long started = System.nanoTime();
+            DatasetGenerator generator = new DatasetGenerator(options, density, seed);
+            generator.generate(connection);
+            connection.commit();
+            System.out.printf(Locale.ROOT, "Generated %s with seed %d in %.1f s%n", generator.counts, seed,
+                    (System.nanoTime() - started) / 1e9);
+        }
+    }
+
+    void generate(Connection connection) throws SQLException, IOException {
+        for (String table : List.of("department", "teachers", "groups", "room_types", "rooms", "subjects",
+                "periods", "semesters", "lessons", "schedules")) {
+            nextIds.put(table, maxId(connection, table) + 1);
+        }
+
+        long[] departments = departments(connection);
+        long[][] teachersByDepartment = teachers(connection, departments);
+        long[] groups = groups(connection);
+        long[] rooms = rooms(connection);
+        long[] subjects = subjects(connection);
+        long[] periods = periods(connection);
+        long[] semesters = semesters(connection, groups, periods);
+        lessonsAndSchedules(connection, semesters, groups, rooms, subjects, periods, teachersByDepartment);
+        scheduleReadModel(connection, semesters);
+
+        try (Statement statement = connection.createStatement()) {
+            for (String table : nextIds.keySet()) {
+                statement.execute("SELECT setval('" + table + "_id_seq', (SELECT max(id) FROM " + table + "))");
+            }
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private long[] departments(Connection connection) throws SQLException, IOException {
+        long[] ids = new long[options.get("departments")];
+        try (CsvCopy copy = new CsvCopy(connection, "department", "id", "name", "disable")) {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = nextId("department");
+                copy.row(ids[i], "Department " + (i + 1) + " #" + seed, false);
+            }
+            count("department", copy);
+        }
+        return ids;
+    }
+
+    private long[][] teachers(Connection connection, long[] departments) throws SQLException, IOException {
+        int teachers = options.get("teachers");
+        List<List<Long>> byDepartment = new ArrayList<>();
+        for (int i = 0; i < departments.length; i++) {
+            byDepartment.add(new ArrayList<>());
+        }
+        try (CsvCopy copy = new CsvCopy(connection, "teachers",
+                "id", "name", "surname", "patronymic", "position", "department_id", "disable")) {
+            for (int i = 0; i < teachers; i++) {
+                long id = nextId("teachers");
+                int department = i % departments.length;
+                byDepartment.get(department).add(id);
+                copy.row(id, "Name" + random.nextInt(500), "Surname" + (i + 1), "Patronymic" + random.nextInt(300),
+                        POSITIONS[random.nextInt(POSITIONS.length)], departments[department], false);
+            }
+            count("teachers", copy);
+        }
+        return byDepartment.stream()
+                .map(ids -> ids.stream().mapToLong(Long::longValue).toArray())
+                .toArray(long[][]::new);
+    }
+
+    private long[] groups(Connection connection) throws SQLException, IOException {
+        long[] ids = new long[options.get("groups")];
+        try (CsvCopy copy = new CsvCopy(connection, "groups", "id", "title", "sort_order", "disable")) {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = nextId("groups");
+                copy.row(ids[i], "G-" + (i + 1) + " #" + seed, i + 1, false);
+            }
+            count("groups", copy);
+        }
+        return ids;
+    }
+
+    private long[] rooms(Connection connection) throws SQLException, IOException {
+        long[] types = new long[ROOM_TYPES.length];
+        try (CsvCopy copy = new CsvCopy(connection, "room_types", "id", "description")) {
+            for (int i = 0; i < types.length; i++) {
+                types[i] = nextId("room_types");
+                copy.row(types[i], ROOM_TYPES[i] + " #" + seed);
+            }
+            count("room_types", copy);
+        }
+        long[] ids = new long[options.get("rooms")];
+        try (CsvCopy copy = new CsvCopy(connection, "rooms", "id", "name", "room_type_id", "sort_order", "disable")) {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = nextId("rooms");
+                copy.row(ids[i], "Room " + (100 + i), types[random.nextInt(types.length)], i + 1, false);
+            }
+            count("rooms", copy);
+        }
+        return ids;
+    }
+
+    private long[] subjects(Connection connection) throws SQLException, IOException {
+        long[] ids = new long[options.get("subjects")];
+        try (CsvCopy copy = new CsvCopy(connection, "subjects", "id", "name", "disable")) {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = nextId("subjects");
+                copy.row(ids[i], "Subject " + (i + 1) + " #" + seed, false);
+            }
+            count("subjects", copy);
+        }
+        return ids;
+    }
+
+    private long[] periods(Connection connection) throws SQLException, IOException {
+        long[] ids = new long[options.get("periods")];
+        try (CsvCopy copy = new CsvCopy(connection, "periods", "id", "name", "start_time", "end_time")) {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = nextId("periods");
+                LocalTime start = LocalTime.of(8, 0).plusMinutes(95L * i);
+                copy.row(ids[i], (i + 1) + " #" + seed, start, start.plusMinutes(80));
+            }
+            count("periods", copy);
+        }
+        return ids;
+    }
+
+    private long[] semesters(Connection connection, long[] groups, long[] periods) throws SQLException, IOException {
+        long[] ids = new long[options.get("semesters")];
+        int days = options.get("days");
+        try (CsvCopy copy = new CsvCopy(connection, "semesters", "id", "description", "year", "start_day", "end_day",
+                "current_semester", "default_semester", "disable")) {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = nextId("semesters");
+                int year = 2026 - (ids.length - 1 - i) / 2;
+                boolean autumn = (ids.length - 1 - i) % 2 == 0;
+                LocalDate start = autumn ? LocalDate.of(year, 9, 1) : LocalDate.of(year, 2, 1);
+                // the current and the default semester are left as they are, a generated one is never chosen
+                copy.row(ids[i], (autumn ? "Autumn " : "Spring ") + year + " #" + seed, year, start,
+                        start.plusMonths(4).minusDays(1), false, false, false);
+            }
+            count("semesters", copy);
+        }
+        try (CsvCopy copy = new CsvCopy(connection, "semester_day", "semester_id", "day")) {
+            for (long semester : ids) {
+                for (int day = 1; day <= days; day++) {
+                    copy.row(semester, DayOfWeek.of(day));
+                }
+            }
+        }
+        try (CsvCopy copy = new CsvCopy(connection, "semester_period", "semester_id", "period_id")) {
+            for (long semester : ids) {
+                for (long period : periods) {
+                    copy.row(semester, period);
+                }
+            }
+        }
+        try (CsvCopy copy = new CsvCopy(connection, "semester_group", "semester_id", "group_id")) {
+            for (long semester : ids) {
+                for (long group : groups) {
+                    copy.row(semester, group);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void lessonsAndSchedules(Connection connection, long[] semesters, long[] groups, long[] rooms,
+                                     long[] subjects, long[] periods, long[][] teachersByDepartment)
+            throws SQLException, IOException {
+        int lessonsPerGroup = options.get("lessons-per-group");
+        // lessons get consecutive ids, the one of lesson l of group g in semester s is
+        // firstLesson + (s * groups + g) * lessonsPerGroup + l
+        long firstLesson = nextIds.get("lessons");
+        long[] lessonTeachers = new long[semesters.length * groups.length * lessonsPerGroup];
+
+        try (CsvCopy copy = new CsvCopy(connection, "lessons", "id", "hours", "lessontype", "subject_for_site",
+                "link_to_meeting", "teacher_id", "subject_id", "group_id", "semester_id", "grouped")) {
+            for (long semester : semesters) {
+                for (int g = 0; g < groups.length; g++) {
+                    // most lessons of a group are taught by the teachers of its department
+                    long[] ownTeachers = teachersByDepartment[g % teachersByDepartment.length];
+                    for (int l = 0; l < lessonsPerGroup; l++) {
+                        long[] pool = random.nextInt(5) > 0
+                                ? ownTeachers
+                                : teachersByDepartment[random.nextInt(teachersByDepartment.length)];
+                        long id = nextId("lessons");
+                        long teacher = pool[random.nextInt(pool.length)];
+                        int subject = random.nextInt(subjects.length);
+                        lessonTeachers[Math.toIntExact(id - firstLesson)] = teacher;
+                        copy.row(id, 2 * (1 + random.nextInt(4)), LESSON_TYPES[random.nextInt(LESSON_TYPES.length)],
+                                "Subject " + (subject + 1), random.nextInt(3) == 0 ? "https://meet.example.com/" + id : null,
+                                teacher, subjects[subject], groups[g], semester, false);
+                    }
+                }
+            }
+            count("lessons", copy);
+        }
+
+        int slots = options.get("days") * periods.length;
+        try (CsvCopy copy = new CsvCopy(connection, "schedules",
+                "id", "day_of_week", "evenodd", "room_id", "period_id", "lesson_id")) {
+            for (int s = 0; s < semesters.length; s++) {
+                // busy[slot * 2 + week], week 0 is odd and 1 is even, indexed by teacher id and room index
+                BitSet[] busyTeachers = new BitSet[slots * 2];
+                BitSet[] busyRooms = new BitSet[slots * 2];
+                for (int i = 0; i < busyTeachers.length; i++) {
+                    busyTeachers[i] = new BitSet();
+                    busyRooms[i] = new BitSet(rooms.length);
+                }
+                for (int g = 0; g < groups.length; g++) {
+                    int groupLessons = (s * groups.length + g) * lessonsPerGroup;
+                    for (int slot = 0; slot < slots; slot++) {
+                        if (random.nextDouble() >= density) {
+                            continue;
+                        }
+                        Slot target = new Slot(slot, DayOfWeek.of(slot / periods.length + 1), periods[slot % periods.length]);
+                        if (random.nextInt(3) > 0) {
+                            placeLesson(copy, busyTeachers, busyRooms, rooms, target, WEEKLY, "WEEKLY",
+                                    firstLesson, lessonTeachers, groupLessons, lessonsPerGroup);
+                        } else {
+                            placeLesson(copy, busyTeachers, busyRooms, rooms, target, ODD, "ODD",
+                                    firstLesson, lessonTeachers, groupLessons, lessonsPerGroup);
+                            if (random.nextBoolean()) {
+                                placeLesson(copy, busyTeachers, busyRooms, rooms, target, EVEN, "EVEN",
+                                        firstLesson, lessonTeachers, groupLessons, lessonsPerGroup);
+                            }
+                        }
+                    }
+                }
+            }
+            count("schedules", copy);
+        }
+    }
+
+    /**
+     * Puts the first of the group lessons, counting from a random one, whose teacher is free in the weeks
+     * of the slot into a room free in them, looking for the room from a random one on. The slot stays empty
+     * when no such lesson or no such room is left.
+     */
+    private void placeLesson(CsvCopy copy, BitSet[] busyTeachers, BitSet[] busyRooms, long[] rooms, Slot slot,
+                             int[] weeks, String evenOdd, long firstLesson, long[] lessonTeachers,
+                             int groupLessons, int lessonsPerGroup) throws IOException {
+        BitSet takenRooms = new BitSet(rooms.length);
+        for (int week : weeks) {
+            takenRooms.or(busyRooms[slot.index() * 2 + week]);
+        }
+        int start = random.nextInt(rooms.length);
+        int room = takenRooms.nextClearBit(start);
+        if (room >= rooms.length) {
+            room = takenRooms.nextClearBit(0);
+        }
+        if (room >= rooms.length) {
+            return;
+        }
+
+        int first = random.nextInt(lessonsPerGroup);
+        for (int i = 0; i < lessonsPerGroup; i++) {
+            int lesson = groupLessons + (first + i) % lessonsPerGroup;
+            int teacher = Math.toIntExact(lessonTeachers[lesson]);
+            if (!isBusy(busyTeachers, slot.index(), weeks, teacher)) {
+                for (int week : weeks) {
+                    busyTeachers[slot.index() * 2 + week].set(teacher);
+                    busyRooms[slot.index() * 2 + week].set(room);
+                }
+                copy.row(nextId("schedules"), slot.day(), evenOdd, rooms[room], slot.period(), firstLesson + lesson);
+                return;
+            }
+        }
+    }
+
+    private static boolean isBusy(BitSet[] busy, int slot, int[] weeks, int index) {
+        for (int week : weeks) {
+            if (busy[slot * 2 + week].get(index)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long nextId(String table) {
+        return nextIds.merge(table, 1L, Long::sum) - 1;
+    }
+
+    /**
+     * The services keep the read model in step with their writes, rows copied in around them are added here.
+     */
+    private void scheduleReadModel(Connection connection, long[] semesters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO schedule_read_model (schedule_id, semester_id, day_of_week, evenodd, " +
+                        "lesson_id, lesson_type, lesson_hours, lesson_grouped, subject_for_site, link_to_meeting, " +
+                        "subject_id, subject_name, group_id, group_title, group_sort_order, " +
+                        "teacher_id, teacher_name, teacher_surname, teacher_patronymic, teacher_position, " +
+                        "teacher_user_id, department_id, department_name, room_id, room_name, room_sort_order, " +
+                        "period_id, period_name, period_start_time, period_end_time, visible) " +
+                        "SELECT s.id, l.semester_id, s.day_of_week, s.evenodd, " +
+                        "l.id, l.lessontype, l.hours, l.grouped, l.subject_for_site, l.link_to_meeting, " +
+                        "subj.id, subj.name, g.id, g.title, g.sort_order, " +
+                        "t.id, t.name, t.surname, t.patronymic, t.position, t.user_id, d.id, d.name, " +
+                        "r.id, r.name, r.sort_order, p.id, p.name, p.start_time, p.end_time, " +
+                        "NOT (r.disable OR sem.disable OR g.disable OR t.disable OR subj.disable) " +
+                        "FROM schedules s " +
+                        "JOIN lessons l ON l.id = s.lesson_id " +
+                        "JOIN semesters sem ON sem.id = l.semester_id " +
+                        "JOIN groups g ON g.id = l.group_id " +
+                        "JOIN teachers t ON t.id = l.teacher_id " +
+                        "JOIN subjects subj ON subj.id = l.subject_id " +
+                        "JOIN rooms r ON r.id = s.room_id " +
+                        "JOIN periods p ON p.id = s.period_id " +
+                        "LEFT JOIN department d ON d.id = t.department_id " +
+                        "WHERE l.semester_id = ANY (?)")) {
+            Long[] ids = new Long[semesters.length];
+            for (int i = 0; i < semesters.length; i++) {
+                ids[i] = semesters[i];
+            }
+            statement.setArray(1, connection.createArrayOf("bigint", ids));
+            counts.merge("schedule_read_model", (long) statement.executeUpdate(), Long::sum);
+        }
+    }
+
+    private void count(String table, CsvCopy copy) {
+        counts.merge(table, copy.rows(), Long::sum);
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT coalesce(max(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private record Slot(int index, DayOfWeek day, long period) {
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+}
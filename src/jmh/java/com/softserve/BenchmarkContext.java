@@ -0,0 +1,93 @@
+package com.softserve;
+
+import com.softserve.dto.SemesterWithGroupsDTO;
+import com.softserve.mapper.SemesterMapper;
+import com.softserve.repository.ScheduleReadModelRepository;
+import com.softserve.service.ScheduleReportService;
+import com.softserve.service.SemesterService;
+import com.softserve.service.UserService;
+import com.softserve.service.impl.ScheduleCacheService;
+import com.softserve.service.impl.ScheduleServiceImpl;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Spring context with the MapStruct mappers and a {@link ScheduleServiceImpl} that reads a
+ * {@link SyntheticSemester} instead of the database. Transactions and caching are not enabled,
+ * so a benchmark measures the assembly of the schedule and nothing around it. Every other
+ * collaborator of the service is a stub that fails when called.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static AnnotationConfigApplicationContext create(SyntheticSemester data) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        // there is no entity manager outside of the application and the measured code does not use it
+        if (context.containsBeanDefinition(AnnotationConfigUtils.PERSISTENCE_ANNOTATION_PROCESSOR_BEAN_NAME)) {
+            context.removeBeanDefinition(AnnotationConfigUtils.PERSISTENCE_ANNOTATION_PROCESSOR_BEAN_NAME);
+        }
+
+        Supplier<SemesterWithGroupsDTO> semester = memoize(() ->
+                context.getBean(SemesterMapper.class).semesterToSemesterWithGroupsDTO(data.getSemester()));
+        registerStub(context, ScheduleReadModelRepository.class,
+                Map.of("findVisibleBySemester", args -> data.getSchedules()));
+        registerStub(context, SemesterService.class, Map.of("getById", args -> semester.get()));
+        registerStub(context, UserService.class, Map.of());
+        context.registerBean(ScheduleCacheService.class,
+                () -> new ScheduleCacheService(stub(ScheduleReportService.class, Map.of())));
+        for (Class<?> type : ScheduleServiceImpl.class.getConstructors()[0].getParameterTypes()) {
+            if (type.isInterface() && !type.getPackageName().equals("com.softserve.mapper")
+                    && context.getBeanNamesForType(type).length == 0) {
+                registerStub(context, type, Map.of());
+            }
+        }
+        context.register(ScheduleServiceImpl.class);
+        context.scan("com.softserve.mapper");
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * Returns an implementation of the interface that answers the named methods
+     * and throws {@link UnsupportedOperationException} for the rest.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> "stub of " + type.getSimpleName();
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+
+    private static <T> void registerStub(AnnotationConfigApplicationContext context, Class<T> type,
+                                         Map<String, Function<Object[], Object>> answers) {
+        context.registerBean(type, () -> stub(type, answers));
+    }
+
+    private static <T> Supplier<T> memoize(Supplier<T> supplier) {
+        Object[] value = new Object[1];
+        return () -> {
+            if (value[0] == null) {
+                value[0] = supplier.get();
+            }
+            @SuppressWarnings("unchecked")
+            T result = (T) value[0];
+            return result;
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package com.softserve;
+
+import com.softserve.entity.*;
+import com.softserve.entity.enums.EvenOdd;
+import com.softserve.entity.enums.LessonType;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A generated semester for the benchmarks: {@code groups} groups with a pool of teachers, rooms and subjects
+ * in proportion, and every group slot (day, period) taken with the probability {@code fill}. A taken slot
+ * holds one weekly lesson or an odd week lesson with an even week one most of the time. The same seed gives
+ * the same semester, so runs on different commits compare like with like.
+ */
+public final class SyntheticSemester {
+
+    private static final LessonType[] LESSON_TYPES = LessonType.values();
+    private static final String[] ROOM_TYPES = {"Lecture hall", "Laboratory", "Practical room"};
+
+    private final Semester semester;
+    private final List<Group> groups = new ArrayList<>();
+    private final List<Room> rooms = new ArrayList<>();
+    private final List<Lesson> lessons = new ArrayList<>();
+    private final List<Schedule> schedules = new ArrayList<>();
+
+    public SyntheticSemester(int groupCount, int periodsPerDay, int daysPerWeek, double fill, long seed) {
+        Random random = new Random(seed);
+
+        semester = new Semester();
+        semester.setId(1L);
+        semester.setDescription("Synthetic semester");
+        semester.setYear(2026);
+        semester.setStartDay(LocalDate.of(2026, 9, 1));
+        semester.setEndDay(LocalDate.of(2026, 12, 31));
+        semester.setDaysOfWeek(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.of(daysPerWeek)));
+        Set<Period> periods = new LinkedHashSet<>();
+        for (int i = 0; i < periodsPerDay; i++) {
+            periods.add(new Period((long) i + 1, LocalTime.of(8, 0).plusMinutes(95L * i),
+                    LocalTime.of(9, 20).plusMinutes(95L * i), String.valueOf(i + 1)));
+        }
+        semester.setPeriods(periods);
+
+        List<RoomType> roomTypes = new ArrayList<>();
+        for (int i = 0; i < ROOM_TYPES.length; i++) {
+            RoomType type = new RoomType();
+            type.setId((long) i + 1);
+            type.setDescription(ROOM_TYPES[i]);
+            roomTypes.add(type);
+        }
+        for (int i = 0; i < Math.max(groupCount, 1); i++) {
+            Room room = new Room();
+            room.setId((long) i + 1);
+            room.setName("Room " + (100 + i));
+            room.setType(roomTypes.get(i % roomTypes.size()));
+            room.setSortOrder(i + 1);
+            rooms.add(room);
+        }
+
+        List<Teacher> teachers = new ArrayList<>();
+        for (int i = 0; i < Math.max(groupCount * 2, 1); i++) {
+            Teacher teacher = new Teacher();
+            teacher.setId((long) i + 1);
+            teacher.setName("Name" + i);
+            teacher.setSurname("Surname" + i);
+            teacher.setPatronymic("Patronymic" + i);
+            teacher.setPosition(i % 3 == 0 ? "professor" : "docent");
+            teachers.add(teacher);
+        }
+        List<Subject> subjects = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Subject subject = new Subject();
+            subject.setId((long) i + 1);
+            subject.setName("Subject " + i);
+            subjects.add(subject);
+        }
+
+        for (int i = 0; i < groupCount; i++) {
+            Group group = Group.builder().id((long) i + 1).title("G-" + (i + 1)).sortOrder(i + 1).build();
+            groups.add(group);
+            List<Lesson> groupLessons = new ArrayList<>();
+            for (int j = 0; j < 10; j++) {
+                Lesson lesson = new Lesson();
+                lesson.setId((long) lessons.size() + 1);
+                lesson.setHours(2);
+                lesson.setSemester(semester);
+                lesson.setGroup(group);
+                lesson.setTeacher(teachers.get(random.nextInt(teachers.size())));
+                lesson.setSubject(subjects.get(random.nextInt(subjects.size())));
+                lesson.setSubjectForSite(lesson.getSubject().getName());
+                lesson.setLessonType(LESSON_TYPES[random.nextInt(LESSON_TYPES.length)]);
+                lesson.setLinkToMeeting(random.nextBoolean() ? "https://meet.example.com/" + lesson.getId() : null);
+                groupLessons.add(lesson);
+                lessons.add(lesson);
+            }
+            for (DayOfWeek day : semester.getDaysOfWeek()) {
+                for (Period period : periods) {
+                    if (random.nextDouble() >= fill) {
+                        continue;
+                    }
+                    if (random.nextInt(3) > 0) {
+                        addSchedule(day, period, EvenOdd.WEEKLY, groupLessons, random);
+                    } else {
+                        addSchedule(day, period, EvenOdd.ODD, groupLessons, random);
+                        if (random.nextBoolean()) {
+                            addSchedule(day, period, EvenOdd.EVEN, groupLessons, random);
+                        }
+                    }
+                }
+            }
+        }
+        semester.setGroups(new LinkedHashSet<>(groups));
+    }
+
+    private void addSchedule(DayOfWeek day, Period period, EvenOdd evenOdd, List<Lesson> groupLessons, Random random) {
+        schedules.add(new Schedule((long) schedules.size() + 1, day, evenOdd,
+                rooms.get(random.nextInt(rooms.size())), period, groupLessons.get(random.nextInt(groupLessons.size()))));
+    }
+
+    public Semester getSemester() {
+        return semester;
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    public List<Schedule> getSchedules() {
+        return schedules;
+    }
+
+    /**
+     * Returns the schedules by room, rooms in their sort order, as {@code ScheduleService.getAllOrdered} does.
+     *
+     * @return the schedules of every room that has any
+     */
+    public Map<Room, List<Schedule>> getSchedulesByRoom() {
+        return schedules.stream()
+                .sorted(Comparator.comparing((Schedule s) -> s.getRoom().getSortOrder())
+                        .thenComparing(Schedule::getDayOfWeek)
+                        .thenComparing(s -> s.getPeriod().getStartTime()))
+                .collect(Collectors.groupingBy(Schedule::getRoom, LinkedHashMap::new, Collectors.toList()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.softserve.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.softserve.BenchmarkContext;
+import com.softserve.SyntheticSemester;
+import com.softserve.service.ScheduleService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of {@link ScheduleFullDTO}, the body of {@code /schedules/full/semester},
+ * and of {@link ScheduleFullCompactDTO}, its body with {@code compact=true}, as JSON and as the CBOR and Smile
+ * a client gets with {@code Accept}, with an object mapper set up the way Spring Boot sets up the one of
+ * the application. The sizes of the documents are printed once per trial.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhInclude=ScheduleFullSerializationBenchmark -PjmhGroups=50,500}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScheduleFullSerializationBenchmark {
+
+    @Param({"20", "100", "400"})
+    private int groups;
+
+    @Param({"6"})
+    private int periodsPerDay;
+
+    @Param({"0.6"})
+    private double fill;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectWriter writer;
+    private ObjectWriter compactWriter;
+    private ScheduleFullDTO schedule;
+    private ScheduleFullCompactDTO compactSchedule;
+
+    @Setup
+    public void setUp() {
+        try (AnnotationConfigApplicationContext context =
+                     BenchmarkContext.create(new SyntheticSemester(groups, periodsPerDay, 6, fill, 42))) {
+            schedule = context.getBean(ScheduleService.class).getFullScheduleForSemester(1L);
+            compactSchedule = context.getBean(ScheduleService.class).getFullCompactScheduleForSemester(1L);
+        }
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        writer = builder.build().writerFor(ScheduleFullDTO.class);
+        compactWriter = builder.build().writerFor(ScheduleFullCompactDTO.class);
+        try {
+            System.out.println("ScheduleFullDTO of " + groups + " groups as " + format + ": "
+                    + writer.writeValueAsBytes(schedule).length + " bytes");
+            System.out.println("ScheduleFullCompactDTO of " + groups + " groups as " + format + ": "
+                    + compactWriter.writeValueAsBytes(compactSchedule).length + " bytes");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(schedule);
+    }
+
+    @Benchmark
+    public byte[] serializeCompact() throws JsonProcessingException {
+        return compactWriter.writeValueAsBytes(compactSchedule);
+    }
+}
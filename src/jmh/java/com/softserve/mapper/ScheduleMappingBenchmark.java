@@ -0,0 +1,86 @@
+package com.softserve.mapper;
+
+import com.softserve.BenchmarkContext;
+import com.softserve.SyntheticSemester;
+import com.softserve.dto.RoomDTO;
+import com.softserve.dto.SemesterDTO;
+import com.softserve.entity.Lesson;
+import com.softserve.entity.Room;
+import com.softserve.entity.Schedule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mapping of a whole semester: the room schedules of {@link ConverterToSchedulesInRoom},
+ * every lesson through {@link LessonsInScheduleMapper} and every schedule through
+ * {@link ScheduleWithoutSemesterMapper}, as the {@code /schedules} endpoints do.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhInclude=ScheduleMappingBenchmark -PjmhGroups=50,500}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScheduleMappingBenchmark {
+
+    @Param({"20", "100", "400"})
+    private int groups;
+
+    @Param({"6"})
+    private int periodsPerDay;
+
+    @Param({"0.6"})
+    private double fill;
+
+    private AnnotationConfigApplicationContext context;
+    private ConverterToSchedulesInRoom converterToSchedulesInRoom;
+    private LessonsInScheduleMapper lessonsInScheduleMapper;
+    private ScheduleWithoutSemesterMapper scheduleWithoutSemesterMapper;
+
+    private SemesterDTO semester;
+    private List<RoomDTO> rooms;
+    private Map<Room, List<Schedule>> schedulesByRoom;
+    private List<Lesson> lessons;
+    private List<Schedule> schedules;
+
+    @Setup
+    public void setUp() {
+        SyntheticSemester data = new SyntheticSemester(groups, periodsPerDay, 6, fill, 42);
+        context = BenchmarkContext.create(data);
+        converterToSchedulesInRoom = context.getBean(ConverterToSchedulesInRoom.class);
+        lessonsInScheduleMapper = context.getBean(LessonsInScheduleMapper.class);
+        scheduleWithoutSemesterMapper = context.getBean(ScheduleWithoutSemesterMapper.class);
+
+        semester = context.getBean(SemesterMapper.class).semesterToSemesterDTO(data.getSemester());
+        rooms = context.getBean(RoomMapper.class).convertToDtoList(data.getRooms());
+        schedulesByRoom = data.getSchedulesByRoom();
+        lessons = data.getLessons();
+        schedules = data.getSchedules();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object roomSchedules() {
+        return converterToSchedulesInRoom.getBySemester(rooms, semester, schedulesByRoom);
+    }
+
+    @Benchmark
+    public void lessonsInSchedule(Blackhole blackhole) {
+        for (Lesson lesson : lessons) {
+            blackhole.consume(lessonsInScheduleMapper.lessonToLessonsInScheduleDTO(lesson));
+        }
+    }
+
+    @Benchmark
+    public Object schedulesWithoutSemester() {
+        return scheduleWithoutSemesterMapper.scheduleToScheduleWithoutSemesterDTOs(schedules);
+    }
+}
@@ -0,0 +1,89 @@
+package com.softserve.security.jwt;
+
+import com.softserve.service.TokenVersionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time {@link JwtTokenFilter} and {@link JwtTokenRefreshFilter} add to an authenticated request.
+ * The user lookup and the token version are in-memory stubs, so only token handling is measured. With
+ * {@code claimsCacheSize = 0} every request verifies the token once; with a cache a repeated token is served
+ * by its digest. {@code claimsAuthentication} switches between the principal built from the claims and the
+ * one loaded through the user details service, which is a database query in the application.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhInclude=JwtTokenFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenFilterBenchmark {
+
+    @Param({"0", "10000"})
+    private int claimsCacheSize;
+
+    @Param({"false", "true"})
+    private boolean claimsAuthentication;
+
+    private JwtTokenFilter tokenFilter;
+    private JwtTokenRefreshFilter refreshFilter;
+    private HttpServlet servlet;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        UserDetails user = new JwtUser(1L, "first@mail.com", "",
+                List.of(new SimpleGrantedAuthority("ROLE_MANAGER")), true);
+        UserDetailsService userDetailsService = username -> user;
+        TokenVersionService tokenVersionService = new TokenVersionService() {
+            @Override
+            public long getVersion(Long userId) {
+                return 0;
+            }
+
+            @Override
+            public void revoke(Long userId) {
+            }
+        };
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secret", "benchmark-secret");
+        ReflectionTestUtils.setField(provider, "validity", Duration.ofHours(24));
+        ReflectionTestUtils.setField(provider, "claimsCacheSize", claimsCacheSize);
+        ReflectionTestUtils.setField(provider, "claimsAuthentication", claimsAuthentication);
+        ReflectionTestUtils.setField(provider, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(provider, "tokenVersionService", tokenVersionService);
+        provider.init();
+
+        tokenFilter = new JwtTokenFilter(provider);
+        refreshFilter = new JwtTokenRefreshFilter(provider);
+        servlet = new HttpServlet() {
+        };
+        authorization = "Bearer_" + provider.createToken(1L, "first@mail.com", "ROLE_MANAGER");
+    }
+
+    @Benchmark
+    public int authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/teachers");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            new MockFilterChain(servlet, tokenFilter, refreshFilter).doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+}
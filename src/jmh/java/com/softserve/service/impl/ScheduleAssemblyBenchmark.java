@@ -0,0 +1,66 @@
+package com.softserve.service.impl;
+
+import com.softserve.BenchmarkContext;
+import com.softserve.SyntheticSemester;
+import com.softserve.service.ScheduleService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long {@link ScheduleServiceImpl} takes to turn the schedules of a semester, already loaded,
+ * into the full semester schedule ({@code buildDaysFromMemory} and {@code buildLessonDTO}), into its compact form
+ * and into the group and teacher schedules the pdf exports are rendered from.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhInclude=ScheduleAssemblyBenchmark -PjmhGroups=50,500}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScheduleAssemblyBenchmark {
+
+    @Param({"20", "100", "400"})
+    private int groups;
+
+    @Param({"6"})
+    private int periodsPerDay;
+
+    @Param({"0.6"})
+    private double fill;
+
+    private AnnotationConfigApplicationContext context;
+    private ScheduleService scheduleService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.create(new SyntheticSemester(groups, periodsPerDay, 6, fill, 42));
+        scheduleService = context.getBean(ScheduleService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object fullScheduleForSemester() {
+        return scheduleService.getFullScheduleForSemester(1L);
+    }
+
+    @Benchmark
+    public Object fullCompactScheduleForSemester() {
+        return scheduleService.getFullCompactScheduleForSemester(1L);
+    }
+
+    @Benchmark
+    public Object schedulesForAllGroups() {
+        return scheduleService.getSchedulesForGroups(1L, List.of());
+    }
+
+    @Benchmark
+    public Object schedulesForAllTeachers() {
+        return scheduleService.getSchedulesForTeachers(1L, List.of());
+    }
+}
@@ -0,0 +1,69 @@
+package com.softserve.util;
+
+import com.softserve.dto.TeacherImportDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures streaming a teachers csv file of {@code rows} rows through {@link CsvFileParser#parseInChunks}.
+ * With the gc profiler the allocation rate per operation shows whether the parser keeps the rows it already
+ * passed on: it stays flat per row while the file grows, the bound the import relies on.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhInclude=CsvFileParserBenchmark -PjmhProfilers=gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvFileParserBenchmark {
+
+    private static final String HEADER = "name,surname,patronymic,position,email\n";
+
+    @Param({"20000", "200000"})
+    private int rows;
+
+    @Param({"1000"})
+    private int chunkSize;
+
+    @Benchmark
+    public int parseInChunks() {
+        int[] parsed = new int[1];
+        CsvFileParser.parseInChunks(new GeneratedCsvInputStream(rows), "teachers.csv", TeacherImportDTO.class,
+                chunkSize, chunk -> parsed[0] += chunk.size(), e -> { });
+        if (parsed[0] != rows) {
+            throw new IllegalStateException("Parsed " + parsed[0] + " of " + rows + " rows");
+        }
+        return parsed[0];
+    }
+
+    /**
+     * Produces a csv file row by row, so the benchmark itself does not hold the whole file in memory.
+     */
+    private static final class GeneratedCsvInputStream extends InputStream {
+
+        private final int rowCount;
+        private int row = -1;
+        private byte[] line = new byte[0];
+        private int position;
+
+        GeneratedCsvInputStream(int rowCount) {
+            this.rowCount = rowCount;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length) {
+                if (++row > rowCount) {
+                    return -1;
+                }
+                line = (row == 0 ? HEADER
+                        : "Name" + row + ",Surname" + row + ",Patronymic" + row + ",Position,teacher" + row + "@test.com\n")
+                        .getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return line[position++];
+        }
+    }
+}
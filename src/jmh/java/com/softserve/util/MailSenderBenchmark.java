@@ -0,0 +1,72 @@
+package com.softserve.util;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many messages per second reach a local SMTP server with AUTH when every message opens
+ * its own connection ({@code plain}) and when connections are taken from {@link PooledJavaMailSender}.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhInclude=MailSenderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MailSenderBenchmark {
+
+    private static final int PORT = 3925;
+
+    @Param({"plain", "pooled"})
+    private String sender;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl mailSender;
+    private SimpleMailMessage message;
+
+    @Setup
+    public void setUp() {
+        greenMail = new GreenMail(new ServerSetup(PORT, "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+        greenMail.setUser("sender@localhost", "sender", "secret");
+        greenMail.start();
+
+        mailSender = "pooled".equals(sender)
+                ? new PooledJavaMailSender(4, Duration.ofMinutes(1), Duration.ofSeconds(30), 100)
+                : new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(PORT);
+        mailSender.setUsername("sender");
+        mailSender.setPassword("secret");
+        mailSender.getJavaMailProperties().setProperty("mail.smtp.auth", "true");
+
+        message = new SimpleMailMessage();
+        message.setFrom("sender@localhost");
+        message.setTo("teacher@localhost");
+        message.setSubject("Schedule");
+        message.setText("Schedule for teacher");
+    }
+
+    @TearDown(Level.Iteration)
+    public void purge() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (mailSender instanceof PooledJavaMailSender pooled) {
+            pooled.destroy();
+        }
+        greenMail.stop();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void send() {
+        mailSender.send(message);
+    }
+}
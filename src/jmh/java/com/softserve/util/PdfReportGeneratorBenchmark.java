@@ -0,0 +1,163 @@
+package com.softserve.util;
+
+import com.itextpdf.text.DocumentException;
+import com.softserve.dto.*;
+import com.softserve.entity.enums.LessonType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many teacher and group pdf reports per second one shared {@link PdfReportGenerator} renders.
+ * The cold variants build a new rendering context per report, which is what every download used to pay for.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhInclude=PdfReportGeneratorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PdfReportGeneratorBenchmark {
+
+    private static final Locale LANGUAGE = new Locale("uk");
+
+    @Param({"6"})
+    private int periodsPerDay;
+
+    private PdfReportGenerator generator;
+    private ScheduleForTeacherDTO teacherSchedule;
+    private ScheduleForGroupDTO groupSchedule;
+
+    @Setup
+    public void setUp() throws DocumentException, IOException {
+        generator = new PdfReportGenerator(new ReportRenderingContext());
+        List<PeriodDTO> periods = new ArrayList<>();
+        for (int i = 0; i < periodsPerDay; i++) {
+            periods.add(period(i));
+        }
+        teacherSchedule = teacherSchedule(periods);
+        groupSchedule = groupSchedule(periods);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int teacherReport() {
+        return generator.teacherScheduleReport(teacherSchedule, LANGUAGE).size();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int groupReport() {
+        return generator.groupScheduleReport(groupSchedule, LANGUAGE).size();
+    }
+
+    @Benchmark
+    public int teacherReportCold() throws DocumentException, IOException {
+        return new PdfReportGenerator(new ReportRenderingContext())
+                .teacherScheduleReport(teacherSchedule, LANGUAGE).size();
+    }
+
+    @Benchmark
+    public int groupReportCold() throws DocumentException, IOException {
+        return new PdfReportGenerator(new ReportRenderingContext())
+                .groupScheduleReport(groupSchedule, LANGUAGE).size();
+    }
+
+    private static PeriodDTO period(int index) {
+        PeriodDTO period = new PeriodDTO();
+        period.setId((long) index + 1);
+        period.setName(String.valueOf(index + 1));
+        period.setStartTime(LocalTime.of(8, 0).plusMinutes(95L * index));
+        period.setEndTime(LocalTime.of(9, 20).plusMinutes(95L * index));
+        return period;
+    }
+
+    private static TeacherDTO teacher() {
+        TeacherDTO teacher = new TeacherDTO();
+        teacher.setId(1L);
+        teacher.setName("Олена");
+        teacher.setSurname("Петренко");
+        teacher.setPatronymic("Іванівна");
+        teacher.setPosition("доцент");
+        return teacher;
+    }
+
+    private static ScheduleForTeacherDTO teacherSchedule(List<PeriodDTO> periods) {
+        List<DaysOfWeekWithClassesForTeacherDTO> days = new ArrayList<>();
+        for (DayOfWeek dayOfWeek : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            DaysOfWeekWithClassesForTeacherDTO day = new DaysOfWeekWithClassesForTeacherDTO();
+            day.setDay(dayOfWeek);
+            day.setOddWeek(teacherClasses(periods, "Вища математика", "https://meet.example.com/odd"));
+            day.setEvenWeek(teacherClasses(periods, "Фізика", null));
+            days.add(day);
+        }
+        ScheduleForTeacherDTO schedule = new ScheduleForTeacherDTO();
+        schedule.setTeacher(teacher());
+        schedule.setDays(days);
+        return schedule;
+    }
+
+    private static ClassesInScheduleForTeacherDTO teacherClasses(List<PeriodDTO> periods, String subject, String link) {
+        List<ClassForTeacherScheduleDTO> classes = new ArrayList<>();
+        for (PeriodDTO period : periods) {
+            LessonForTeacherScheduleDTO lesson = new LessonForTeacherScheduleDTO();
+            lesson.setId(period.getId());
+            lesson.setSubjectForSite(subject);
+            lesson.setLessonType(LessonType.LECTURE);
+            lesson.setGroup(new GroupDTO(period.getId(), false, "КН-" + period.getId()));
+            lesson.setRoom("Аудиторія " + (100 + period.getId()));
+            lesson.setLinkToMeeting(link);
+            ClassForTeacherScheduleDTO clazz = new ClassForTeacherScheduleDTO();
+            clazz.setPeriod(period);
+            clazz.setLessons(List.of(lesson));
+            classes.add(clazz);
+        }
+        ClassesInScheduleForTeacherDTO result = new ClassesInScheduleForTeacherDTO();
+        result.setPeriods(classes);
+        return result;
+    }
+
+    private static ScheduleForGroupDTO groupSchedule(List<PeriodDTO> periods) {
+        List<DaysOfWeekWithClassesForGroupDTO> days = new ArrayList<>();
+        for (DayOfWeek dayOfWeek : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            List<ClassesInScheduleForGroupDTO> classes = new ArrayList<>();
+            for (PeriodDTO period : periods) {
+                LessonInScheduleByWeekDTO weeks = new LessonInScheduleByWeekDTO();
+                weeks.setOdd(groupLesson(period, "Вища математика", "https://meet.example.com/odd"));
+                weeks.setEven(groupLesson(period, "Фізика", null));
+                ClassesInScheduleForGroupDTO clazz = new ClassesInScheduleForGroupDTO();
+                clazz.setPeriod(period);
+                clazz.setWeeks(weeks);
+                classes.add(clazz);
+            }
+            DaysOfWeekWithClassesForGroupDTO day = new DaysOfWeekWithClassesForGroupDTO();
+            day.setDay(dayOfWeek);
+            day.setClasses(classes);
+            days.add(day);
+        }
+        ScheduleForGroupDTO schedule = new ScheduleForGroupDTO();
+        schedule.setGroup(new GroupDTO(1L, false, "КН-1"));
+        schedule.setDays(days);
+        return schedule;
+    }
+
+    private static LessonsInScheduleDTO groupLesson(PeriodDTO period, String subject, String link) {
+        RoomForScheduleDTO room = new RoomForScheduleDTO();
+        room.setId(period.getId());
+        room.setName("Аудиторія " + (100 + period.getId()));
+        LessonsInScheduleDTO lesson = new LessonsInScheduleDTO();
+        lesson.setTeacher(teacher());
+        lesson.setSubjectForSite(subject);
+        lesson.setLessonType(LessonType.PRACTICAL.name());
+        lesson.setRoom(room);
+        lesson.setLinkToMeeting(link);
+        return lesson;
+    }
+}
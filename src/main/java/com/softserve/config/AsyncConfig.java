@@ -0,0 +1,128 @@
+package com.softserve.config;
+
+import com.softserve.util.ContextCopyingTaskDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors of the background work, one per workload so a burst of one cannot starve another.
+ * Tasks run with the logging and security context of the caller, and every executor publishes
+ * how long its tasks wait and run; the pools' queue depth and active threads are published by
+ * Spring Boot for every {@link ThreadPoolTaskExecutor} bean.
+ */
+@Slf4j
+@EnableAsync
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final MeterRegistry registry;
+
+    @Value("${app.import.pool-size:2}")
+    private int importPoolSize;
+
+    @Value("${app.import.queue-capacity:10}")
+    private int importQueueCapacity;
+
+    @Value("${app.mail.outbox.workers:4}")
+    private int mailWorkers;
+
+    @Value("${app.mail.outbox.max-in-flight:8}")
+    private int mailMaxInFlight;
+
+    @Value("${app.mail.notification.pool-size:2}")
+    private int notificationPoolSize;
+
+    @Value("${app.mail.notification.queue-capacity:100}")
+    private int notificationQueueCapacity;
+
+    @Value("${app.async.concurrency-limit:64}")
+    private int asyncConcurrencyLimit;
+
+    public AsyncConfig(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Executor for background csv imports. The pool and the queue are bounded,
+     * so an import submitted while both are full is rejected instead of piling up.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor importExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(importPoolSize);
+        executor.setMaxPoolSize(importPoolSize);
+        executor.setQueueCapacity(importQueueCapacity);
+        executor.setThreadNamePrefix("import-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(new ContextCopyingTaskDecorator("importExecutor", registry));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * Executor for letters claimed from the mail outbox. The dispatcher never claims more letters
+     * than the queue can hold, so the queue is sized to the in-flight limit.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailWorkers);
+        executor.setMaxPoolSize(mailWorkers);
+        executor.setQueueCapacity(mailMaxInFlight);
+        executor.setThreadNamePrefix("mail-");
+        executor.setTaskDecorator(new ContextCopyingTaskDecorator("mailExecutor", registry));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Executor for account letters, such as activation links and reset passwords, sent after the request
+     * that asked for them has been answered. When the queue is full the letter is sent on the caller's
+     * thread, a user waiting for it must not lose it.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notificationPoolSize);
+        executor.setMaxPoolSize(notificationPoolSize);
+        executor.setQueueCapacity(notificationQueueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new ContextCopyingTaskDecorator("notificationExecutor", registry));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Executor of {@code @Async} methods that do not name one. Every task gets a virtual thread,
+     * at most {@code app.async.concurrency-limit} run at once and the rest wait for a slot.
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(asyncConcurrencyLimit);
+        executor.setTaskDecorator(new ContextCopyingTaskDecorator("async", registry));
+        return executor;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("Async method {}.{} failed: {}",
+                method.getDeclaringClass().getSimpleName(), method.getName(), ex.getMessage(), ex);
+    }
+}
@@ -1,5 +1,7 @@
 package com.softserve.config;
 
+import com.softserve.metrics.MeteredCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -36,11 +38,13 @@ public class CacheConfiguration {
     }
 
     @Bean
-    CacheManager cacheManager(RedissonClient redissonClient) {
+    CacheManager cacheManager(RedissonClient redissonClient, MeterRegistry registry) {
         Map<String, CacheConfig> config = new HashMap<>();
 
         // Schedule caches (12 hours TTL)
         config.put("scheduleDTO", new CacheConfig(12 * HOUR, 6 * HOUR));
+        config.put("scheduleCompactDTO", new CacheConfig(12 * HOUR, 6 * HOUR));
+        config.put("scheduleResponses", new CacheConfig(12 * HOUR, 6 * HOUR));
         config.put("scheduleForGroup", new CacheConfig(12 * HOUR, 6 * HOUR));
         config.put("scheduleForTeacher", new CacheConfig(12 * HOUR, 6 * HOUR));
         config.put("semesterSchedules", new CacheConfig(6 * HOUR, 3 * HOUR));
@@ -62,6 +66,6 @@ public class CacheConfiguration {
         config.put("semesterList", new CacheConfig(HOUR, 30 * MINUTE));
         config.put("schedules", new CacheConfig(HOUR, 30 * MINUTE));
 
-        return new RedissonSpringCacheManager(redissonClient, config);
+        return new MeteredCacheManager(new RedissonSpringCacheManager(redissonClient, config), registry);
     }
 }
@@ -1,19 +1,31 @@
 package com.softserve.config;
 
+import com.softserve.metrics.QueryCountInspector;
+import com.softserve.util.PrimaryReads;
+import com.softserve.util.ReplicaDataSource;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.hibernate5.HibernateTransactionManager;
 import org.springframework.orm.hibernate5.LocalSessionFactoryBean;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 @Configuration
@@ -30,6 +42,27 @@ public class HibernateConfig {
     @Value("${hibernate.entity.package:com.softserve.entity}")
     private String entityPackage;
 
+    @Value("${hibernate.jdbc.batch_size:50}")
+    private String batchSize;
+
+    @Value("${hibernate.generate_statistics:false}")
+    private String generateStatistics;
+
+    @Value("${hibernate.cache.use_second_level_cache:false}")
+    private boolean secondLevelCache;
+
+    @Value("${hibernate.cache.max-entries:10000}")
+    private int cacheMaxEntries;
+
+    @Value("${hibernate.cache.time-to-live:12h}")
+    private Duration cacheTimeToLive;
+
+    @Value("${app.datasource.replica.urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replica.max-lag:5s}")
+    private Duration replicaMaxLag;
+
     @Bean
     @Primary
     @ConfigurationProperties("spring.datasource")
@@ -46,13 +79,50 @@ public class HibernateConfig {
                 .build();
     }
 
+    /**
+     * One pool per replica, configured like the primary pool apart from the url. With no replica urls
+     * every connection comes from the primary.
+     */
+    @Bean
+    public ReplicaDataSource replicaDataSource(HikariDataSource dataSource, ObjectProvider<MeterRegistry> registry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            dataSource.copyStateTo(replica);
+            replica.setJdbcUrl(url.trim());
+            replica.setPoolName(dataSource.getPoolName() + "-replica-" + (replicas.size() + 1));
+            replica.setReadOnly(true);
+            // the pools are not beans, so the Hikari meters of Spring Boot do not reach them
+            if (replica.getMetricsTrackerFactory() == null && replica.getMetricRegistry() == null) {
+                registry.ifAvailable(meters -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meters)));
+            }
+            replicas.put(replica.getPoolName(), replica);
+        }
+        log.info("Reading from {} replica pools", replicas.size());
+        return new ReplicaDataSource(dataSource, replicas, replicaMaxLag);
+    }
+
+    @Bean
+    public PrimaryReads primaryReads() {
+        return new PrimaryReads();
+    }
+
+    @Bean
+    public QueryCountInspector queryCountInspector() {
+        return new QueryCountInspector();
+    }
+
     @Bean
-    public LocalSessionFactoryBean sessionFactory(DataSource dataSource) {
+    public LocalSessionFactoryBean sessionFactory(DataSource dataSource, ReplicaDataSource replicaDataSource,
+                                                  QueryCountInspector queryCountInspector) {
         log.info("Creating SessionFactory bean...");
         LocalSessionFactoryBean sessionFactory = new LocalSessionFactoryBean();
-        sessionFactory.setDataSource(dataSource);
+        sessionFactory.setDataSource(routingDataSource(dataSource, replicaDataSource));
         sessionFactory.setPackagesToScan(entityPackage);
-        sessionFactory.setHibernateProperties(hibernateProperties());
+        sessionFactory.setHibernateProperties(hibernateProperties(queryCountInspector));
         return sessionFactory;
     }
 
@@ -61,11 +131,54 @@ public class HibernateConfig {
         return new HibernateTransactionManager(sessionFactory);
     }
 
-    private Properties hibernateProperties() {
+    /**
+     * Connections are handed out lazily, by the time the first statement runs the transaction manager
+     * has marked the connection of a read-only transaction as such and it is taken from a replica.
+     * Read-write transactions, and so every write, stay on the primary.
+     */
+    private DataSource routingDataSource(DataSource primary, ReplicaDataSource replicaDataSource) {
+        if (!replicaDataSource.hasReplicas()) {
+            return primary;
+        }
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(replicaDataSource);
+        return routing;
+    }
+
+    private Properties hibernateProperties(QueryCountInspector queryCountInspector) {
         Properties props = new Properties();
         props.put("hibernate.show_sql", showSql);
         props.put("hibernate.hbm2ddl.auto", hbm2ddl);
         props.put("hibernate.format_sql", "true");
+        props.put("hibernate.jdbc.batch_size", batchSize);
+        props.put("hibernate.order_inserts", "true");
+        props.put("hibernate.order_updates", "true");
+        props.put(AvailableSettings.GENERATE_STATISTICS, generateStatistics);
+        props.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+        props.putAll(secondLevelCacheProperties());
+        return props;
+    }
+
+    /**
+     * The second level cache keeps the reference entities marked with {@code @Cache} in Redis, so every
+     * instance of the application reads and invalidates the same entries. Each region is an LRU map
+     * bounded by {@code hibernate.cache.max-entries}; when Redis is unavailable the entities are
+     * loaded from the database as if the cache was off.
+     */
+    private Properties secondLevelCacheProperties() {
+        Properties props = new Properties();
+        props.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, String.valueOf(secondLevelCache));
+        if (!secondLevelCache) {
+            return props;
+        }
+        props.put(AvailableSettings.CACHE_REGION_FACTORY, "org.redisson.hibernate.RedissonRegionFactory");
+        props.put("hibernate.cache.redisson.config", "redisson-hibernate.yaml");
+        props.put("hibernate.cache.redisson.fallback", "true");
+        for (String region : new String[]{"entity", "collection"}) {
+            props.put("hibernate.cache.redisson." + region + ".eviction.max_entries", String.valueOf(cacheMaxEntries));
+            props.put("hibernate.cache.redisson." + region + ".expiration.time_to_live",
+                    String.valueOf(cacheTimeToLive.toMillis()));
+        }
         return props;
     }
 }
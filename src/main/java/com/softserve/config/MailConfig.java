@@ -1,11 +1,12 @@
 package com.softserve.config;
 
+import com.softserve.util.PooledJavaMailSender;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 
+import java.time.Duration;
 import java.util.Properties;
 
 @Configuration
@@ -23,9 +24,31 @@ public class MailConfig {
     @Value("${spring.mail.port:587}")
     private int port;
 
+    @Value("${spring.mail.properties.mail.smtp.auth:true}")
+    private boolean auth;
+
+    @Value("${spring.mail.properties.mail.smtp.starttls.enable:true}")
+    private boolean starttls;
+
+    @Value("${app.mail.pool.max-connections:4}")
+    private int maxConnections;
+
+    @Value("${app.mail.pool.idle-timeout:60s}")
+    private Duration idleTimeout;
+
+    @Value("${app.mail.pool.borrow-timeout:30s}")
+    private Duration borrowTimeout;
+
+    @Value("${app.mail.pool.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    @Value("${app.mail.pool.socket-timeout:30s}")
+    private Duration socketTimeout;
+
     @Bean
     public JavaMailSender javaMailSender() {
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(maxConnections, idleTimeout, borrowTimeout,
+                maxMessagesPerConnection);
 
         mailSender.setHost(host);
         mailSender.setPort(port);
@@ -34,8 +57,12 @@ public class MailConfig {
 
         Properties properties = mailSender.getJavaMailProperties();
         properties.setProperty("mail.transport.protocol", "smtp");
-        properties.setProperty("mail.smtp.auth", "true");
-        properties.setProperty("mail.smtp.starttls.enable", "true");
+        properties.setProperty("mail.smtp.auth", String.valueOf(auth));
+        properties.setProperty("mail.smtp.starttls.enable", String.valueOf(starttls));
+        // a long-lived connection must not hang a sender forever on a server that stopped answering
+        properties.setProperty("mail.smtp.connectiontimeout", String.valueOf(socketTimeout.toMillis()));
+        properties.setProperty("mail.smtp.timeout", String.valueOf(socketTimeout.toMillis()));
+        properties.setProperty("mail.smtp.writetimeout", String.valueOf(socketTimeout.toMillis()));
         properties.setProperty("mail.debug", "false");
 
         return mailSender;
@@ -0,0 +1,85 @@
+package com.softserve.config;
+
+import com.softserve.metrics.MethodMetricsAspect;
+import com.softserve.metrics.QueryCountFilter;
+import com.softserve.metrics.QueryCountInspector;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Instrumentation published on the Prometheus endpoint of the management port. Hikari pool
+ * gauges are registered by Spring Boot for the data source; method timers, per request query
+ * counts and Hibernate statistics are added here, cache meters in {@link CacheConfiguration}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MethodMetricsAspect methodMetricsAspect(MeterRegistry registry) {
+        return new MethodMetricsAspect(registry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            QueryCountInspector queryCountInspector, MeterRegistry registry,
+            @Value("${app.metrics.query-guard.max-queries:0}") int maxQueries,
+            @Value("${app.metrics.query-guard.max-repeats:0}") int maxRepeats) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(
+                new QueryCountFilter(queryCountInspector, registry, maxQueries, maxRepeats));
+        // outermost, so the queries run by authentication are counted as well
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Statement, entity load and second level cache counters of Hibernate,
+     * collected when {@code hibernate.generate_statistics} is on ({@code HIBERNATE_STATISTICS=true}).
+     * The statistics are off by default, as collecting them slows every session down.
+     */
+    @Bean
+    public MeterBinder hibernateMetrics(SessionFactory sessionFactory) {
+        return registry -> new HibernateMetrics(sessionFactory, "sessionFactory", Tags.empty()).bindTo(registry);
+    }
+
+    /**
+     * Share of second level cache lookups answered from the cache, overall and per region.
+     * The regions are known once the session factory is built, so they are bound at startup.
+     * Left out when the statistics are off, the ratio would never move.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheHitRatio(SessionFactory sessionFactory) {
+        Statistics statistics = sessionFactory.getStatistics();
+        return registry -> {
+            if (!statistics.isStatisticsEnabled()) {
+                return;
+            }
+            Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics,
+                            stats -> hitRatio(stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount()))
+                    .tag("region", "all")
+                    .register(registry);
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+                Gauge.builder("hibernate.second.level.cache.hit.ratio", regionStatistics,
+                                stats -> hitRatio(stats.getHitCount(), stats.getMissCount()))
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(long hits, long misses) {
+        long lookups = hits + misses;
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+}
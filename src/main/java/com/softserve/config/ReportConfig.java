@@ -0,0 +1,53 @@
+package com.softserve.config;
+
+import com.itextpdf.text.DocumentException;
+import com.softserve.util.AsyncRequestTimeout;
+import com.softserve.util.PdfReportGenerator;
+import com.softserve.util.ReportRenderingContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ReportConfig {
+
+    /**
+     * Fonts, styles and translations for pdf reports, loaded once at startup.
+     * A missing or broken font file fails the startup instead of the first download.
+     */
+    @Bean
+    public ReportRenderingContext reportRenderingContext() throws DocumentException, IOException {
+        return new ReportRenderingContext();
+    }
+
+    @Bean
+    public PdfReportGenerator pdfReportGenerator(ReportRenderingContext reportRenderingContext) {
+        return new PdfReportGenerator(reportRenderingContext);
+    }
+
+    /**
+     * Executor for rendering reports in bulk exports. Every report gets its own virtual thread,
+     * the number of reports rendered at once is limited by the export itself.
+     * Task wait and run times are published as the {@code executor} timers.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService reportExecutor(MeterRegistry registry) {
+        return ExecutorServiceMetrics.monitor(registry, Executors.newVirtualThreadPerTaskExecutor(), "reportExecutor");
+    }
+
+    /**
+     * Async timeout of the bulk exports, a zip of every schedule of a semester takes longer to write
+     * than the default allows for any other request.
+     */
+    @Bean
+    public AsyncRequestTimeout exportRequestTimeout(@Value("${app.reports.export-timeout:10m}") Duration timeout) {
+        return new AsyncRequestTimeout(timeout);
+    }
+}
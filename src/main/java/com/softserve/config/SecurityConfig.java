@@ -81,6 +81,9 @@ public class SecurityConfig {
                                 "/webjars/**"
                         ).permitAll()
 
+                        // Actuator, served on the management port
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+
                         // Role-based access
                         .requestMatchers("/groups/teacher/**", "/groups/*/with-students")
                         .hasAnyRole("MANAGER", "TEACHER")
@@ -124,7 +127,7 @@ public class SecurityConfig {
             OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
             var user = userService.createSocialUser(oAuth2User);
             String jwtToken = jwtTokenProvider.createToken(
-                    user.getEmail(), user.getRole().toString()
+                    user.getId(), user.getEmail(), user.getRole().toString()
             );
             response.sendRedirect(backendUrl + "login?social=true&token=" + jwtToken);
         };
@@ -63,7 +63,7 @@ public class AuthenticationController {
         }
         String username = requestDto.getEmail();
         authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, requestDto.getPassword()));
-        String token = jwtTokenProvider.createToken(username, user.getRole().toString());
+        String token = jwtTokenProvider.createToken(user.getId(), username, user.getRole().toString());
 
         return ResponseEntity.ok(new AuthenticationResponseDTO(username, token));
     }
@@ -2,23 +2,26 @@ package com.softserve.controller;
 
 import com.softserve.dto.ScheduleForGroupDTO;
 import com.softserve.dto.ScheduleForTeacherDTO;
-import com.softserve.mapper.TeacherMapper;
+import com.softserve.service.ScheduleExportService;
+import com.softserve.service.ScheduleReportService;
 import com.softserve.service.ScheduleService;
-import com.softserve.util.PdfReportGenerator;
+import com.softserve.util.AsyncRequestTimeout;
+import com.softserve.util.PdfReport;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -31,53 +34,85 @@ import java.util.Locale;
 @Slf4j
 public class DownloadFileController {
 
+    private static final String ZIP_MEDIA_TYPE = "application/zip";
+
     private final ScheduleService scheduleService;
+    private final ScheduleExportService scheduleExportService;
+    private final ScheduleReportService scheduleReportService;
+    private final AsyncRequestTimeout exportRequestTimeout;
 
     private String encodeFilename(String filename) {
         String encoded = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
         return "inline; filename=\"schedule.pdf\"; filename*=UTF-8''" + encoded;
     }
 
+    private String zipAttachment(String filename) {
+        return "attachment; filename=\"" + filename + "\"";
+    }
+
     @GetMapping(value = "/schedule-for-teacher-in-pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<InputStreamResource> teacherSchedulesReport(@RequestParam Long teacherId,
-                                                                      @RequestParam Long semesterId,
+    public ResponseEntity<StreamingResponseBody> teacherSchedulesReport(@RequestParam Long teacherId,
+                                                                        @RequestParam Long semesterId,
+                                                                        @RequestParam Locale language) {
+        PdfReport report = scheduleReportService.getTeacherReport(semesterId, teacherId, language,
+                () -> scheduleService.getScheduleForTeacher(semesterId, teacherId));
+        return pdfResponse(report);
+    }
+
+    @GetMapping(value = "/schedule-for-group-in-pdf", produces = MediaType.APPLICATION_PDF_VALUE)
+    public ResponseEntity<StreamingResponseBody> groupSchedulesReport(@RequestParam Long groupId, @RequestParam Long semesterId,
                                                                       @RequestParam Locale language) {
-        ScheduleForTeacherDTO schedule = scheduleService.getScheduleForTeacher(semesterId, teacherId);
+        PdfReport report = scheduleReportService.getGroupReport(semesterId, groupId, language,
+                () -> scheduleService.getFullScheduleForGroup(semesterId, groupId).get(0));
+        return pdfResponse(report);
+    }
 
-        PdfReportGenerator generatePdfReport = new PdfReportGenerator();
-        ByteArrayOutputStream bis = generatePdfReport.teacherScheduleReport(schedule, language);
+    private ResponseEntity<StreamingResponseBody> pdfResponse(PdfReport report) {
+        ResponseEntity.BodyBuilder response = ResponseEntity
+                .ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, encodeFilename(report.fileName()))
+                .contentType(MediaType.APPLICATION_PDF);
+        if (report.hasContentLength()) {
+            response.contentLength(report.contentLength());
+        }
+        return response.body(report.content()::writeTo);
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        String fileName = "schedule for "
-                .concat(TeacherMapper.teacherDTOToTeacherForSite(schedule.getTeacher()))
-                .concat(".pdf");
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, encodeFilename(fileName));
+    @GetMapping(value = "/schedules-for-teachers-in-zip", produces = ZIP_MEDIA_TYPE)
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Download pdf schedules of several teachers in one zip archive")
+    public ResponseEntity<StreamingResponseBody> teachersSchedulesZip(@RequestParam Long semesterId,
+                                                                      @RequestParam(required = false) List<Long> teacherIds,
+                                                                      @RequestParam Locale language,
+                                                                      HttpServletRequest request) {
+        log.info("Enter into teachersSchedulesZip with semesterId {} and teacherIds {}", semesterId, teacherIds);
+        exportRequestTimeout.applyTo(request);
+        List<ScheduleForTeacherDTO> schedules = scheduleService.getSchedulesForTeachers(semesterId,
+                teacherIds == null ? List.of() : teacherIds);
 
         return ResponseEntity
                 .ok()
-                .headers(headers)
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(new InputStreamResource(new ByteArrayInputStream(bis.toByteArray())));
+                .header(HttpHeaders.CONTENT_DISPOSITION, zipAttachment("teachers-schedules-" + semesterId + ".zip"))
+                .contentType(MediaType.parseMediaType(ZIP_MEDIA_TYPE))
+                .body(outputStream -> scheduleExportService.writeTeacherSchedulesZip(schedules, language, outputStream));
     }
 
-    @GetMapping(value = "/schedule-for-group-in-pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<InputStreamResource> groupSchedulesReport(@RequestParam Long groupId, @RequestParam Long semesterId,
-                                                                    @RequestParam Locale language) {
-        List<ScheduleForGroupDTO> schedules = scheduleService.getFullScheduleForGroup(semesterId, groupId);
-        ScheduleForGroupDTO schedule = schedules.get(0);
-        PdfReportGenerator generatePdfReport = new PdfReportGenerator();
-        ByteArrayOutputStream bis = generatePdfReport.groupScheduleReport(schedule, language);
-
-        HttpHeaders headers = new HttpHeaders();
-        String fileName = "schedule for "
-                .concat(schedule.getGroup().getTitle())
-                .concat(" group.pdf");
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, encodeFilename(fileName));
+    @GetMapping(value = "/schedules-for-groups-in-zip", produces = ZIP_MEDIA_TYPE)
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Download pdf schedules of several groups in one zip archive")
+    public ResponseEntity<StreamingResponseBody> groupsSchedulesZip(@RequestParam Long semesterId,
+                                                                    @RequestParam(required = false) List<Long> groupIds,
+                                                                    @RequestParam Locale language,
+                                                                    HttpServletRequest request) {
+        log.info("Enter into groupsSchedulesZip with semesterId {} and groupIds {}", semesterId, groupIds);
+        exportRequestTimeout.applyTo(request);
+        List<ScheduleForGroupDTO> schedules = scheduleService.getSchedulesForGroups(semesterId,
+                groupIds == null ? List.of() : groupIds);
 
         return ResponseEntity
                 .ok()
-                .headers(headers)
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(new InputStreamResource(new ByteArrayInputStream(bis.toByteArray())));
+                .header(HttpHeaders.CONTENT_DISPOSITION, zipAttachment("groups-schedules-" + semesterId + ".zip"))
+                .contentType(MediaType.parseMediaType(ZIP_MEDIA_TYPE))
+                .body(outputStream -> scheduleExportService.writeGroupSchedulesZip(schedules, language, outputStream));
     }
 }
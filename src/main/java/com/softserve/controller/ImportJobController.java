@@ -0,0 +1,68 @@
+package com.softserve.controller;
+
+import com.softserve.dto.ImportJobDTO;
+import com.softserve.service.ImportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+@RestController
+@Tag(name = "Import Job API")
+@RequestMapping("/import-jobs")
+@PreAuthorize("hasRole('MANAGER')")
+@Slf4j
+@RequiredArgsConstructor
+public class ImportJobController {
+
+    private static final int MAX_RESULT_PAGE_SIZE = 1000;
+
+    private final ImportJobService importJobService;
+
+    @PostMapping("/teachers")
+    @Operation(summary = "Start background import of teachers from file")
+    public ResponseEntity<ImportJobDTO> importTeachers(
+            @Parameter(description = "CSV format is required")
+            @RequestParam("file") MultipartFile file,
+            @RequestParam Long departmentId) {
+        log.info("Starting teachers import job for department: {}", departmentId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(importJobService.startTeacherImport(file, departmentId));
+    }
+
+    @PostMapping("/students")
+    @Operation(summary = "Start background import of students from file")
+    public ResponseEntity<ImportJobDTO> importStudents(
+            @Parameter(description = "CSV format is required")
+            @RequestParam("file") MultipartFile file,
+            @RequestParam Long groupId) {
+        log.info("Starting students import job for group: {}", groupId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(importJobService.startStudentImport(file, groupId));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get status and progress of import job")
+    public ResponseEntity<ImportJobDTO> getById(@PathVariable String id) {
+        log.info("Getting import job by id: {}", id);
+        return ResponseEntity.ok(importJobService.getById(id));
+    }
+
+    @GetMapping("/{id}/result")
+    @Operation(summary = "Get page of per-row report of import job")
+    public ResponseEntity<List<Object>> getResult(@PathVariable String id,
+                                                  @RequestParam(defaultValue = "0") int offset,
+                                                  @RequestParam(defaultValue = "100") int limit) {
+        log.info("Getting result of import job: {}, offset: {}, limit: {}", id, offset, limit);
+        return ResponseEntity.ok(importJobService.getResult(id, Math.max(offset, 0),
+                Math.min(limit, MAX_RESULT_PAGE_SIZE)));
+    }
+}
@@ -39,6 +39,23 @@ public class LessonController {
         return ResponseEntity.ok(lessonService.getAll());
     }
 
+    @Operation(summary = "Get page of lessons sorted by subject name")
+    @GetMapping("/page")
+    public ResponseEntity<PageDTO<LessonInfoDTO>> getPage(
+            @RequestParam(required = false) Long semesterId,
+            @RequestParam(required = false) Long groupId,
+            @Parameter(description = "Department of the teacher")
+            @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "Text to find in the subject name or the teacher surname")
+            @RequestParam(required = false) String text,
+            @Parameter(description = "Cursor of the page returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        log.info("In getPage(semesterId = [{}], groupId = [{}], departmentId = [{}], text = [{}], cursor = [{}], "
+                + "size = [{}])", semesterId, groupId, departmentId, text, cursor, size);
+        return ResponseEntity.ok(lessonService.getPage(semesterId, groupId, departmentId, text, cursor, size));
+    }
+
     @Operation(summary = "Get lesson info by id")
     @GetMapping("/{id}")
     public ResponseEntity<LessonInfoDTO> get(@PathVariable("id") Long id) {
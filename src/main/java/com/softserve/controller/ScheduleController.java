@@ -4,12 +4,15 @@ import com.softserve.dto.*;
 import com.softserve.entity.enums.EvenOdd;
 import com.softserve.mapper.*;
 import com.softserve.service.*;
+import com.softserve.service.impl.ScheduleResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -39,6 +42,7 @@ public class ScheduleController {
     private final RoomService roomService;
     private final ConverterToSchedulesInRoom converterToSchedulesInRoom;
     private final SchedulePublishService publishService;
+    private final ScheduleResponseCache scheduleResponseCache;
 
 //    @GetMapping
 //    @Operation(summary = "Get the list of all schedules")
@@ -132,31 +136,47 @@ public class ScheduleController {
     }
 
     @GetMapping("/full/groups")
-    @Operation(summary = "Get full schedule for groupId in some semester")
+    @Operation(summary = "Get full schedule for groupId in some semester",
+            description = "JSON unless application/cbor or application/x-jackson-smile is accepted")
     public ResponseEntity<?> getFullScheduleForGroup(@RequestParam Long semesterId,
-                                                     @RequestParam Long groupId, Authentication authentication) {
+                                                     @RequestParam Long groupId,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                     Authentication authentication) {
         log.info("In getFullScheduleForGroup(semesterId = [{}], groupId = [{}])", semesterId, groupId);
 
         if (!isManager(authentication) && !publishService.isPublished()) {
             return ResponseEntity.ok(publishService.getStatus());
         }
 
-        ScheduleFullDTO scheduleFullDTO = new ScheduleFullDTO();
-        scheduleFullDTO.setSemester(semesterService.getById(semesterId));
-        scheduleFullDTO.setSchedule(scheduleService.getFullScheduleForGroup(semesterId, groupId));
-        return ResponseEntity.ok(scheduleFullDTO);
+        MediaType format = scheduleResponseCache.negotiate(accept);
+        return scheduleResponseCache.respond("groups:" + semesterId + ":" + groupId, format, () -> {
+            ScheduleFullDTO scheduleFullDTO = new ScheduleFullDTO();
+            scheduleFullDTO.setSemester(semesterService.getById(semesterId));
+            scheduleFullDTO.setSchedule(scheduleService.getFullScheduleForGroup(semesterId, groupId));
+            return scheduleFullDTO;
+        });
     }
 
     @GetMapping("/full/semester")
-    @Operation(summary = "Get full schedule for semester")
-    public ResponseEntity<?> getFullScheduleForSemester(@RequestParam Long semesterId, Authentication authentication) {
-        log.info("In getFullScheduleForSemester(semesterId = [{}])", semesterId);
+    @Operation(summary = "Get full schedule for semester",
+            description = "JSON unless application/cbor or application/x-jackson-smile is accepted")
+    public ResponseEntity<?> getFullScheduleForSemester(
+            @RequestParam Long semesterId,
+            @Parameter(description = "Write teachers, subjects, rooms, groups, days and periods once "
+                    + "and refer to them by index from the classes")
+            @RequestParam(defaultValue = "false") boolean compact,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            Authentication authentication) {
+        log.info("In getFullScheduleForSemester(semesterId = [{}], compact = [{}])", semesterId, compact);
 
         if (!isManager(authentication) && !publishService.isPublished()) {
             return ResponseEntity.ok(publishService.getStatus());
         }
 
-        return ResponseEntity.ok(scheduleService.getFullScheduleForSemester(semesterId));
+        MediaType format = scheduleResponseCache.negotiate(accept);
+        return scheduleResponseCache.respond("semester:" + semesterId + ":" + compact, format, () -> compact
+                ? scheduleService.getFullCompactScheduleForSemester(semesterId)
+                : scheduleService.getFullScheduleForSemester(semesterId));
     }
 
     @GetMapping("/full/teachers")
@@ -1,5 +1,6 @@
 package com.softserve.controller;
 
+import com.softserve.dto.PageDTO;
 import com.softserve.dto.StudentDTO;
 import com.softserve.dto.StudentImportDTO;
 import com.softserve.mapper.StudentMapper;
@@ -40,6 +41,21 @@ public class StudentController {
         return ResponseEntity.status(HttpStatus.OK).body(studentMapper.convertToDTOList(studentService.getAll()));
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get page of students sorted by surname")
+    public ResponseEntity<PageDTO<StudentDTO>> getPage(
+            @RequestParam(required = false) Long groupId,
+            @RequestParam(required = false) Long semesterId,
+            @Parameter(description = "Text to find in the surname, the name or the email")
+            @RequestParam(required = false) String text,
+            @Parameter(description = "Cursor of the page returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        log.info("Enter into getPage of StudentController with groupId {}, semesterId {}, text {}, cursor {}, size {}",
+                groupId, semesterId, text, cursor, size);
+        return ResponseEntity.ok(studentService.getPage(groupId, semesterId, text, cursor, size));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get student by id")
     public ResponseEntity<StudentDTO> getById(@PathVariable("id") long id) {
@@ -1,8 +1,11 @@
 package com.softserve.controller;
 
+import com.softserve.dto.MailBatchDTO;
+import com.softserve.dto.PageDTO;
 import com.softserve.dto.TeacherDTO;
 import com.softserve.dto.TeacherForUpdateDTO;
 import com.softserve.dto.TeacherImportDTO;
+import com.softserve.service.MailOutboxService;
 import com.softserve.service.ScheduleService;
 import com.softserve.service.TeacherService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,6 +29,7 @@ public class TeacherController {
 
     private final TeacherService teacherService;
     private final ScheduleService scheduleService;
+    private final MailOutboxService mailOutboxService;
 
     @GetMapping(path = {"/teachers", "/public/teachers"})
     @Operation(summary = "Get the list of all teachers")
@@ -34,6 +38,20 @@ public class TeacherController {
         return ResponseEntity.ok(teacherService.getAll());
     }
 
+    @GetMapping("/teachers/page")
+    @Operation(summary = "Get page of teachers sorted by surname")
+    public ResponseEntity<PageDTO<TeacherDTO>> getPage(
+            @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "Text to find in the surname, the name or the email")
+            @RequestParam(required = false) String text,
+            @Parameter(description = "Cursor of the page returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        log.info("Getting page of teachers, departmentId: {}, text: {}, cursor: {}, size: {}",
+                departmentId, text, cursor, size);
+        return ResponseEntity.ok(teacherService.getPage(departmentId, text, cursor, size));
+    }
+
     @GetMapping("/teachers/{id}")
     @Operation(summary = "Get teacher by id")
     public ResponseEntity<TeacherDTO> getById(@PathVariable Long id) {
@@ -80,14 +98,21 @@ public class TeacherController {
     }
 
     @GetMapping("/send-pdf-to-email/semester/{id}")
-    @Operation(summary = "Send pdf with schedule to teachers emails")
-    public ResponseEntity<Void> sendSchedulesToEmail(
+    @Operation(summary = "Queue pdf with schedule to be sent to teachers emails")
+    public ResponseEntity<MailBatchDTO> sendSchedulesToEmail(
             @PathVariable("id") Long semesterId,
             @RequestParam Long[] teachersId,
             @RequestParam Locale language) {
         log.info("Sending schedules to teachers: {} for semester: {}", teachersId, semesterId);
-        scheduleService.sendScheduleToTeachers(semesterId, teachersId, language);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(scheduleService.sendScheduleToTeachers(semesterId, teachersId, language));
+    }
+
+    @GetMapping("/send-pdf-to-email/batches/{batchId}")
+    @Operation(summary = "Get delivery status of letters with schedule sent to teachers")
+    public ResponseEntity<MailBatchDTO> getMailBatch(@PathVariable String batchId) {
+        log.info("Getting mail batch: {}", batchId);
+        return ResponseEntity.ok(mailOutboxService.getBatch(batchId));
     }
 
     @PostMapping("/teachers/import")
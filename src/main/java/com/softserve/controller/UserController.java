@@ -1,6 +1,7 @@
 package com.softserve.controller;
 
 import com.softserve.dto.EmailMessageDTO;
+import com.softserve.dto.PageDTO;
 import com.softserve.dto.UserCreateDTO;
 import com.softserve.dto.UserDTO;
 import com.softserve.dto.UserDataDTO;
@@ -13,6 +14,7 @@ import com.softserve.service.MailService;
 import com.softserve.service.TeacherService;
 import com.softserve.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,6 +47,20 @@ public class UserController {
         return ResponseEntity.ok(userMapper.toUserDTOs(userService.getAll()));
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get page of users sorted by email")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<PageDTO<UserDTO>> getPage(
+            @RequestParam(required = false) Role role,
+            @Parameter(description = "Text to find in the email")
+            @RequestParam(required = false) String text,
+            @Parameter(description = "Cursor of the page returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        log.info("Getting page of users, role: {}, text: {}, cursor: {}, size: {}", role, text, cursor, size);
+        return ResponseEntity.ok(userService.getPage(role, text, cursor, size));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get user by id")
     @PreAuthorize("hasRole('MANAGER')")
@@ -0,0 +1,30 @@
+package com.softserve.dto;
+
+import com.softserve.dto.enums.ImportJobStatus;
+import com.softserve.dto.enums.ImportJobType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ImportJobDTO implements Serializable {
+    private String id;
+    private ImportJobType type;
+    private ImportJobStatus status;
+    private String fileName;
+    private long rowsRead;
+    private long rowsSaved;
+    private long rowsAlreadyExist;
+    private long rowsFailed;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
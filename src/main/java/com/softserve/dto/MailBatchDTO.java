@@ -0,0 +1,20 @@
+package com.softserve.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class MailBatchDTO {
+    private String batchId;
+    private long pending;
+    private long sent;
+    private long failed;
+    private List<MailOutboxMessageDTO> messages;
+}
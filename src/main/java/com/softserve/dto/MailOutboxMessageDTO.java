@@ -0,0 +1,23 @@
+package com.softserve.dto;
+
+import com.softserve.entity.enums.MailOutboxStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class MailOutboxMessageDTO {
+    private Long id;
+    private Long teacherId;
+    private MailOutboxStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime sentAt;
+    private String lastError;
+}
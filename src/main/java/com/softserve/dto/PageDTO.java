@@ -0,0 +1,34 @@
+package com.softserve.dto;
+
+import com.softserve.util.KeysetCursor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record PageDTO<T>(
+        @Schema(description = "Items of the page in the order of the list")
+        List<T> content,
+
+        @Schema(description = "Cursor of the next page, absent on the last page")
+        String nextCursor
+) {
+
+    /**
+     * Builds a page from rows fetched with one row more than the page size, the extra row only tells
+     * that there is a next page.
+     *
+     * @param rows   the rows fetched with the limit of {@code pageSize + 1}
+     * @param size   the size of the page
+     * @param cursor the function that returns the position of a row in the list
+     * @param <T>    the type of the rows
+     * @return the page
+     */
+    public static <T> PageDTO<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursor) {
+        if (rows.size() <= size) {
+            return new PageDTO<>(rows, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new PageDTO<>(List.copyOf(content), cursor.apply(content.get(size - 1)).encode());
+    }
+}
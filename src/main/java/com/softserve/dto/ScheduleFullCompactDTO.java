@@ -0,0 +1,52 @@
+package com.softserve.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.util.List;
+
+/**
+ * The full schedule of a semester with every teacher, subject, room, group, day and period written once.
+ * A cell refers to them by the index in their list, so a teacher that has forty classes is written once
+ * instead of forty times as in {@link ScheduleFullDTO}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class ScheduleFullCompactDTO implements Serializable {
+    private SemesterDTO semester;
+    private List<TeacherDTO> teachers;
+    private List<String> subjects;
+    private List<RoomForScheduleDTO> rooms;
+    private List<GroupDTO> groups;
+    private List<DayOfWeek> days;
+    private List<PeriodDTO> periods;
+
+    @EqualsAndHashCode.Exclude
+    private List<Cell> cells;
+
+    /**
+     * A class of a group, written as an array in the order of the fields. {@code week} is {@code WEEKLY}
+     * for a class that takes place every week, it is written once and not once for the even and once
+     * for the odd week.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"group", "day", "period", "week", "teacher", "subject", "room", "lessonType", "linkToMeeting"})
+    public record Cell(
+            int group,
+            int day,
+            int period,
+            String week,
+            int teacher,
+            int subject,
+            int room,
+            String lessonType,
+            String linkToMeeting
+    ) implements Serializable {
+    }
+}
@@ -1,5 +1,6 @@
 package com.softserve.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.softserve.dto.enums.ImportSaveStatus;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -18,4 +19,20 @@ public class StudentImportDTO implements Serializable {
     private String email;
     private GroupDTO groupDTO;
     private ImportSaveStatus importSaveStatus;
+
+    /**
+     * The line of the file and the reason, set only for a line that could not be read.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long lineNumber;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String message;
+
+    public static StudentImportDTO lineError(long lineNumber, String message) {
+        StudentImportDTO row = new StudentImportDTO();
+        row.setImportSaveStatus(ImportSaveStatus.VALIDATION_ERROR);
+        row.setLineNumber(lineNumber);
+        row.setMessage(message);
+        return row;
+    }
 }
@@ -1,5 +1,6 @@
 package com.softserve.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.softserve.dto.enums.ImportSaveStatus;
 import lombok.Getter;
@@ -17,4 +18,20 @@ public class TeacherImportDTO {
     @JsonProperty("department")
     private DepartmentDTO departmentDTO;
     private ImportSaveStatus importSaveStatus;
+
+    /**
+     * The line of the file and the reason, set only for a line that could not be read.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long lineNumber;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String message;
+
+    public static TeacherImportDTO lineError(long lineNumber, String message) {
+        TeacherImportDTO row = new TeacherImportDTO();
+        row.setImportSaveStatus(ImportSaveStatus.VALIDATION_ERROR);
+        row.setLineNumber(lineNumber);
+        row.setMessage(message);
+        return row;
+    }
 }
@@ -0,0 +1,5 @@
+package com.softserve.dto.enums;
+
+public enum ImportJobStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
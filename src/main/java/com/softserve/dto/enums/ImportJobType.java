@@ -0,0 +1,5 @@
+package com.softserve.dto.enums;
+
+public enum ImportJobType {
+    TEACHERS, STUDENTS
+}
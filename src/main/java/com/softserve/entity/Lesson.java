@@ -17,7 +17,11 @@ import java.io.Serializable;
 @NoArgsConstructor
 @ToString
 @Entity
-@Table(name = "lessons")
+@Table(name = "lessons", indexes = {
+        @Index(name = "idx_lessons_semester_group", columnList = "semester_id, group_id"),
+        @Index(name = "idx_lessons_semester_teacher", columnList = "semester_id, teacher_id"),
+        @Index(name = "idx_lessons_semester_subject_for_site", columnList = "semester_id, subject_for_site, id")
+})
 public class Lesson implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,6 +1,8 @@
 package com.softserve.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotEmpty;
@@ -20,6 +22,8 @@ import java.util.Objects;
 @AllArgsConstructor
 @ToString
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "periods")
 public class Period implements Serializable {
     @Id
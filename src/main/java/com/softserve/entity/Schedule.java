@@ -16,7 +16,11 @@ import java.time.DayOfWeek;
 @AllArgsConstructor
 @ToString
 @Entity
-@Table(name = "schedules")
+@Table(name = "schedules", indexes = {
+        @Index(name = "idx_schedules_lesson_slot", columnList = "lesson_id, day_of_week, period_id, evenOdd"),
+        @Index(name = "idx_schedules_room_slot", columnList = "room_id, day_of_week, period_id"),
+        @Index(name = "idx_schedules_slot", columnList = "period_id, day_of_week, evenOdd")
+})
 public class Schedule implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
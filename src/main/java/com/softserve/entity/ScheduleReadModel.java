@@ -0,0 +1,136 @@
+package com.softserve.entity;
+
+import com.softserve.entity.enums.EvenOdd;
+import com.softserve.entity.enums.LessonType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * One row per schedule with everything the schedule views show, copied from the lesson, group, teacher,
+ * subject, room and period of the schedule. {@code visible} is false when any of them or the semester is
+ * disabled. Rows are written only by {@link com.softserve.repository.ScheduleReadModelRepository} and
+ * are removed together with their schedule.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "schedule_read_model", indexes = {
+        @Index(name = "idx_schedule_read_model_semester_group", columnList = "semester_id, group_id"),
+        @Index(name = "idx_schedule_read_model_semester_teacher", columnList = "semester_id, teacher_id"),
+        @Index(name = "idx_schedule_read_model_semester_room", columnList = "semester_id, room_id")
+})
+public class ScheduleReadModel implements Serializable {
+    @Id
+    @Column(name = "schedule_id")
+    private Long scheduleId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Schedule schedule;
+
+    @Column(name = "semester_id", nullable = false)
+    private Long semesterId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", length = 35, nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "evenodd", nullable = false)
+    private EvenOdd evenOdd;
+
+    @Column(name = "lesson_id", nullable = false)
+    private Long lessonId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "lesson_type")
+    private LessonType lessonType;
+
+    @Column(name = "lesson_hours")
+    private int lessonHours;
+
+    @Column(name = "lesson_grouped")
+    private boolean lessonGrouped;
+
+    @Column(name = "subject_for_site")
+    private String subjectForSite;
+
+    @Column(name = "link_to_meeting")
+    private String linkToMeeting;
+
+    @Column(name = "subject_id", nullable = false)
+    private Long subjectId;
+
+    @Column(name = "subject_name")
+    private String subjectName;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "group_title")
+    private String groupTitle;
+
+    @Column(name = "group_sort_order")
+    private Integer groupSortOrder;
+
+    @Column(name = "teacher_id", nullable = false)
+    private Long teacherId;
+
+    @Column(name = "teacher_name")
+    private String teacherName;
+
+    @Column(name = "teacher_surname")
+    private String teacherSurname;
+
+    @Column(name = "teacher_patronymic")
+    private String teacherPatronymic;
+
+    @Column(name = "teacher_position")
+    private String teacherPosition;
+
+    @Column(name = "teacher_user_id")
+    private Long teacherUserId;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "department_name")
+    private String departmentName;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "room_name")
+    private String roomName;
+
+    @Column(name = "room_sort_order")
+    private Integer roomSortOrder;
+
+    @Column(name = "period_id", nullable = false)
+    private Long periodId;
+
+    @Column(name = "period_name")
+    private String periodName;
+
+    @Column(name = "period_start_time")
+    private LocalTime periodStartTime;
+
+    @Column(name = "period_end_time")
+    private LocalTime periodEndTime;
+
+    @Column(name = "visible", nullable = false)
+    private boolean visible;
+}
@@ -3,8 +3,10 @@ package com.softserve.entity;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.NamedQuery;
 import org.hibernate.annotations.*;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
@@ -25,6 +27,8 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "semesters")
 public class Semester implements Serializable {
     @Id
@@ -51,6 +55,7 @@ public class Semester implements Serializable {
     private boolean defaultSemester = false;
 
     @ElementCollection(targetClass = DayOfWeek.class, fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "semester_day", joinColumns = @JoinColumn(name = "semester_id"))
     @Column(name = "day")
@@ -59,6 +64,7 @@ public class Semester implements Serializable {
 
     @NotNull(message = "Semester should contain at least one period")
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(name = "semester_period", joinColumns = {@JoinColumn(name = "semester_id")}, inverseJoinColumns = {@JoinColumn(name = "period_id")})
     @OrderBy("startTime")
     @OnDelete(action = OnDeleteAction.CASCADE)
@@ -16,7 +16,10 @@ import java.io.Serializable;
 @Setter
 @Entity
 @EqualsAndHashCode
-@Table(name = "students")
+@Table(name = "students", indexes = {
+        @Index(name = "idx_students_surname", columnList = "surname, id"),
+        @Index(name = "idx_students_group_surname", columnList = "group_id, surname, id")
+})
 public class Student implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
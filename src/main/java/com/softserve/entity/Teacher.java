@@ -15,7 +15,9 @@ import java.io.Serializable;
 @ToString
 @Entity
 @EqualsAndHashCode
-@Table(name = "teachers")
+@Table(name = "teachers", indexes = {
+        @Index(name = "idx_teachers_surname", columnList = "surname, id")
+})
 public class Teacher implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
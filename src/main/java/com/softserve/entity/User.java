@@ -54,4 +54,12 @@ public class User implements Serializable {
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+
+    /**
+     * Incremented whenever issued tokens of the user must stop working. Only changed by a bulk
+     * update, so merging a detached user never overwrites it.
+     */
+    @Column(name = "token_version", insertable = false, updatable = false,
+            columnDefinition = "bigint default 0 not null")
+    private long tokenVersion;
 }
@@ -0,0 +1,8 @@
+package com.softserve.entity.enums;
+
+public enum MailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.softserve.exception;
+
+public class IncorrectCursorException extends RuntimeException {
+    public IncorrectCursorException(String cursor) {
+        super("Cursor " + cursor + " is not valid, start from the first page");
+    }
+}
@@ -0,0 +1,14 @@
+package com.softserve.mapper;
+
+import com.softserve.dto.MailOutboxMessageDTO;
+import com.softserve.entity.MailOutboxMessage;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface MailOutboxMapper {
+    MailOutboxMessageDTO mailOutboxMessageToMailOutboxMessageDTO(MailOutboxMessage message);
+
+    List<MailOutboxMessageDTO> mailOutboxMessagesToMailOutboxMessageDTOs(List<MailOutboxMessage> messages);
+}
@@ -29,11 +29,21 @@ public abstract class TeacherMapper {
     @Mapping(target = "email", source = "userId", qualifiedByName = "userIdToEmail")
     public abstract TeacherDTO teacherToTeacherDTO(Teacher teacher);
 
-    @InheritInverseConfiguration
+    @Named("teacherToTeacherDTOWithoutEmail")
+    @InheritInverseConfiguration(name = "teacherDTOToTeacher")
+    @Mapping(target = "email", ignore = true)
+    public abstract TeacherDTO teacherToTeacherDTOWithoutEmail(Teacher teacher);
+
+    @InheritInverseConfiguration(name = "teacherImportDTOToTeacher")
     @Mapping(target = "email", source = "userId", qualifiedByName = "userIdToEmail")
     @Mapping(target = "importSaveStatus", ignore = true)
     public abstract TeacherImportDTO teacherToTeacherImportDTO(Teacher teacher);
 
+    @InheritInverseConfiguration(name = "teacherImportDTOToTeacher")
+    @Mapping(target = "email", ignore = true)
+    @Mapping(target = "importSaveStatus", ignore = true)
+    public abstract TeacherImportDTO teacherToTeacherImportDTOWithoutEmail(Teacher teacher);
+
     @Named("userIdToEmail")
     public String userIdToEmail(Long userId) {
         if (userId != null) {
@@ -64,6 +74,11 @@ public abstract class TeacherMapper {
     @Mapping(target = "userId", source = "email", qualifiedByName = "emailToUserId")
     public abstract Teacher teacherImportDTOToTeacher(TeacherImportDTO teacherImportDTO);
 
+    @Mapping(target = "department", ignore = true)
+    @Mapping(target = "disable", ignore = true)
+    @Mapping(target = "userId", ignore = true)
+    public abstract Teacher teacherImportDTOToTeacherWithoutUser(TeacherImportDTO teacherImportDTO);
+
     public abstract TeacherWithUserDTO toTeacherWithUserDTO(Teacher teacher);
 
     @Mapping(target = "teacherId", source = "id")
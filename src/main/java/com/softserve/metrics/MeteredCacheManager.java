@@ -0,0 +1,151 @@
+package com.softserve.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CacheManager} that counts hits, misses, puts and evictions of the caches of another manager
+ * and times the lookups. Redisson caches publish no statistics of their own, and a lookup is
+ * a round trip to Redis, so its latency is worth watching as closely as the hit ratio.
+ */
+public class MeteredCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final MeterRegistry registry;
+    private final Map<String, MeteredCache> caches = new ConcurrentHashMap<>();
+
+    public MeteredCacheManager(CacheManager delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        MeteredCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target != null ? caches.computeIfAbsent(name, key -> new MeteredCache(target, registry)) : null;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    static final class MeteredCache implements Cache {
+
+        private final Cache delegate;
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter puts;
+        private final Counter evictions;
+        private final Timer lookups;
+
+        MeteredCache(Cache delegate, MeterRegistry registry) {
+            this.delegate = delegate;
+            String name = delegate.getName();
+            this.hits = registry.counter("cache.gets", "cache", name, "result", "hit");
+            this.misses = registry.counter("cache.gets", "cache", name, "result", "miss");
+            this.puts = registry.counter("cache.puts", "cache", name);
+            this.evictions = registry.counter("cache.evictions", "cache", name);
+            this.lookups = Timer.builder("cache.lookup")
+                    .description("Time spent reading the cache")
+                    .tag("cache", name)
+                    .register(registry);
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return delegate.getNativeCache();
+        }
+
+        @Override
+        @Nullable
+        public ValueWrapper get(Object key) {
+            ValueWrapper value = lookups.record(() -> delegate.get(key));
+            (value != null ? hits : misses).increment();
+            return value;
+        }
+
+        @Override
+        @Nullable
+        public <T> T get(Object key, @Nullable Class<T> type) {
+            // a cached null cannot be told from a miss here, Spring's cache interceptor uses get(key) instead
+            T value = lookups.record(() -> delegate.get(key, type));
+            (value != null ? hits : misses).increment();
+            return value;
+        }
+
+        @Override
+        @Nullable
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            boolean[] loaded = new boolean[1];
+            T value = delegate.get(key, () -> {
+                loaded[0] = true;
+                return valueLoader.call();
+            });
+            (loaded[0] ? misses : hits).increment();
+            return value;
+        }
+
+        @Override
+        public void put(Object key, @Nullable Object value) {
+            delegate.put(key, value);
+            puts.increment();
+        }
+
+        @Override
+        @Nullable
+        public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+            ValueWrapper existing = delegate.putIfAbsent(key, value);
+            if (existing == null) {
+                puts.increment();
+            }
+            return existing;
+        }
+
+        @Override
+        public void evict(Object key) {
+            delegate.evict(key);
+            evictions.increment();
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean evicted = delegate.evictIfPresent(key);
+            if (evicted) {
+                evictions.increment();
+            }
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+            evictions.increment();
+        }
+
+        @Override
+        public boolean invalidate() {
+            evictions.increment();
+            return delegate.invalidate();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.softserve.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call of the repositories and of {@code ScheduleServiceImpl} and counts the calls that
+ * end with an exception. The aspect runs outside of the transaction and cache advice, so the timer
+ * shows what the caller waits for, commit and cache lookups included. Timers are resolved once per
+ * method and kept, so a call costs two map lookups and two clock reads.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MethodMetricsAspect {
+
+    static final String TIMER = "app.method";
+    static final String ERRORS = "app.method.errors";
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, Map<Method, Timer>> timers = new ConcurrentHashMap<>();
+
+    public MethodMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("within(com.softserve.repository.impl.*) || within(com.softserve.service.impl.ScheduleServiceImpl)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = registry.config().clock().monotonicTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            registry.counter(ERRORS, "layer", layer(joinPoint.getTarget().getClass()),
+                    "class", joinPoint.getTarget().getClass().getSimpleName(),
+                    "method", joinPoint.getSignature().getName(),
+                    "exception", ex.getClass().getSimpleName()).increment();
+            throw ex;
+        } finally {
+            timer(joinPoint).record(registry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint) {
+        Class<?> type = joinPoint.getTarget().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timers.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> Timer.builder(TIMER)
+                        .description("Time spent in service and repository methods")
+                        .tag("layer", layer(type))
+                        .tag("class", type.getSimpleName())
+                        .tag("method", method.getName())
+                        .register(registry));
+    }
+
+    private static String layer(Class<?> type) {
+        return type.getPackageName().startsWith("com.softserve.repository") ? "repository" : "service";
+    }
+}
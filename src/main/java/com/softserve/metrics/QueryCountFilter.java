@@ -0,0 +1,72 @@
+package com.softserve.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records how many SQL statements a request has run, tagged with the mapped uri pattern.
+ * Only the statements of the request thread are counted, the work a request hands over
+ * to an executor, such as streaming a pdf, is not.
+ * <p>
+ * With a positive {@code maxQueries} or {@code maxRepeats} the filter also guards a query budget:
+ * a request that runs more statements, or one statement shape more times, is logged with
+ * the offending shapes. The guard only logs, it never fails a request.
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String METRIC = "app.http.queries";
+
+    private final QueryCountInspector queryCountInspector;
+    private final MeterRegistry registry;
+    private final int maxQueries;
+    private final int maxRepeats;
+
+    public QueryCountFilter(QueryCountInspector queryCountInspector, MeterRegistry registry,
+                            int maxQueries, int maxRepeats) {
+        this.queryCountInspector = queryCountInspector;
+        this.registry = registry;
+        this.maxQueries = maxQueries;
+        this.maxRepeats = maxRepeats;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        queryCountInspector.reset();
+        boolean capture = maxRepeats > 0;
+        if (capture) {
+            queryCountInspector.startCapture();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            long count = queryCountInspector.getCount();
+            DistributionSummary.builder(METRIC)
+                    .description("SQL statements run by one request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(count);
+            Map<String, Long> repeated = capture
+                    ? queryCountInspector.stopCapture().repeatedMoreThan(maxRepeats)
+                    : Map.of();
+            if ((maxQueries > 0 && count > maxQueries) || !repeated.isEmpty()) {
+                log.warn("Request {} {} ran {} statements (budget {}), statements repeated more than {} times: {}",
+                        request.getMethod(), uri, count, maxQueries, maxRepeats, repeated);
+            }
+        }
+    }
+}
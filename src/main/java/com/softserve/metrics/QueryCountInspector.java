@@ -0,0 +1,67 @@
+package com.softserve.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Hibernate calls the inspector
+ * for every statement before it is sent, so the count covers HQL, criteria, native queries
+ * and the loads of lazy associations alike. Between {@link #startCapture()} and {@link #stopCapture()}
+ * the statements themselves are kept as well.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private final ThreadLocal<Recorder> recorder = ThreadLocal.withInitial(Recorder::new);
+
+    @Override
+    public String inspect(String sql) {
+        Recorder current = recorder.get();
+        current.count++;
+        if (current.statements != null) {
+            current.statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Returns how many statements have been prepared on the current thread since the last reset.
+     *
+     * @return the number of statements
+     */
+    public long getCount() {
+        return recorder.get().count;
+    }
+
+    /**
+     * Starts counting the statements of the current thread from zero.
+     */
+    public void reset() {
+        recorder.get().count = 0;
+    }
+
+    /**
+     * Starts keeping the statements prepared on the current thread, dropping the ones kept so far.
+     */
+    public void startCapture() {
+        recorder.get().statements = new ArrayList<>();
+    }
+
+    /**
+     * Stops keeping the statements of the current thread.
+     *
+     * @return the statements prepared since {@link #startCapture()}, empty if capturing was not started
+     */
+    public StatementLog stopCapture() {
+        Recorder current = recorder.get();
+        List<String> statements = current.statements;
+        current.statements = null;
+        return new StatementLog(statements != null ? statements : List.of());
+    }
+
+    private static final class Recorder {
+        private long count;
+        private List<String> statements;
+    }
+}
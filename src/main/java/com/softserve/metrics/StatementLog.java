@@ -0,0 +1,60 @@
+package com.softserve.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The SQL statements captured on one thread, in the order they were prepared.
+ * Statements are compared by their shape, the statement with literals and
+ * the length of {@code in} lists left out, so an N+1 shows as one shape repeated N times.
+ *
+ * @param statements the captured statements
+ */
+public record StatementLog(List<String> statements) {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    public StatementLog {
+        statements = List.copyOf(statements);
+    }
+
+    public int count() {
+        return statements.size();
+    }
+
+    /**
+     * Returns how many times every statement shape was run, in the order the shapes first appeared.
+     *
+     * @return the number of statements by shape
+     */
+    public Map<String, Long> countByShape() {
+        return statements.stream()
+                .collect(Collectors.groupingBy(StatementLog::shape, LinkedHashMap::new, Collectors.counting()));
+    }
+
+    /**
+     * Returns the shapes run more than {@code maxRepeats} times.
+     *
+     * @param maxRepeats how many times one shape may run
+     * @return the number of statements by offending shape
+     */
+    public Map<String, Long> repeatedMoreThan(int maxRepeats) {
+        return countByShape().entrySet().stream()
+                .filter(entry -> entry.getValue() > maxRepeats)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, Long::sum, LinkedHashMap::new));
+    }
+
+    static String shape(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return IN_LIST.matcher(shape).replaceAll("in (?)");
+    }
+}
@@ -54,4 +54,10 @@ public interface BasicRepository<T extends Serializable, I extends Serializable>
     List<T> getDisabled();
 
     List<T> getEnabled();
+
+    /**
+     * Flushes pending changes of the current session to the database and detaches all managed entities.
+     * Used by bulk operations to write one chunk at a time and keep the persistence context small.
+     */
+    void flushAndClear();
 }
@@ -1,6 +1,8 @@
 package com.softserve.repository;
 
+import com.softserve.dto.LessonInfoDTO;
 import com.softserve.entity.Lesson;
+import com.softserve.util.KeysetCursor;
 
 import java.util.List;
 
@@ -107,4 +109,19 @@ public interface LessonRepository extends BasicRepository<Lesson, Long> {
      * @return the number of updated lessons
      */
     int setGrouped(Long lessonId);
+
+    /**
+     * Returns a page of lessons with enabled teacher, subject and group sorted by the subject name
+     * shown on the site, read straight into DTOs.
+     *
+     * @param semesterId   the id of the semester, or {@code null} for all semesters
+     * @param groupId      the id of the group, or {@code null} for all groups
+     * @param departmentId the id of the department of the teacher, or {@code null} for all departments
+     * @param text         the text to find in the subject name or the teacher surname, or {@code null}
+     * @param after        the position of the previous page, or {@code null} for the first page
+     * @param size         the size of the page
+     * @return up to {@code size + 1} lessons, the last one only tells that there is a next page
+     */
+    List<LessonInfoDTO> getPage(Long semesterId, Long groupId, Long departmentId, String text,
+                                KeysetCursor after, int size);
 }
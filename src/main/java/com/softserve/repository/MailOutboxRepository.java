@@ -0,0 +1,29 @@
+package com.softserve.repository;
+
+import com.softserve.entity.MailOutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends BasicRepository<MailOutboxMessage, Long> {
+
+    /**
+     * Locks and returns the letters that are ready to be sent: pending letters whose next attempt is due
+     * and letters stuck in sending since before the given moment (their worker is considered dead).
+     * Rows locked by another instance are skipped, so several instances can poll the same outbox.
+     *
+     * @param now         the current time
+     * @param staleBefore letters claimed before this moment are claimed again
+     * @param limit       the maximum number of letters to return
+     * @return the list of locked letters, oldest first
+     */
+    List<MailOutboxMessage> lockDue(LocalDateTime now, LocalDateTime staleBefore, int limit);
+
+    /**
+     * Returns all letters of the given batch.
+     *
+     * @param batchId the id of the batch
+     * @return the list of letters ordered by id
+     */
+    List<MailOutboxMessage> findByBatchId(String batchId);
+}
@@ -0,0 +1,62 @@
+package com.softserve.repository;
+
+import com.softserve.entity.Schedule;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ScheduleReadModelRepository {
+
+    /**
+     * What a refresh covers, each scope names the column of the schedule joined with its lesson
+     * and teacher that selects the rows.
+     */
+    enum Scope {
+        SCHEDULE("s.id"),
+        LESSON("l.id"),
+        SEMESTER("l.semester_id"),
+        GROUP("l.group_id"),
+        TEACHER("l.teacher_id"),
+        SUBJECT("l.subject_id"),
+        ROOM("s.room_id"),
+        PERIOD("s.period_id"),
+        DEPARTMENT("t.department_id");
+
+        private final String column;
+
+        Scope(String column) {
+            this.column = column;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+    }
+
+    /**
+     * Rewrites the read model rows of the schedules in the scope from the current state of the schedules
+     * and the entities they refer to. Pending changes of the session are flushed first, so the rows
+     * reflect the writes made earlier in the same transaction.
+     *
+     * @param scope the kind of the ids
+     * @param ids   the ids of the schedules, lessons, semesters, groups, teachers, subjects, rooms,
+     *              periods or departments whose schedules are rewritten
+     */
+    void refresh(Scope scope, Collection<Long> ids);
+
+    /**
+     * Copies the sort orders of groups and rooms to the rows that still hold old ones,
+     * after sort orders were shifted in bulk.
+     */
+    void refreshSortOrders();
+
+    /**
+     * Returns the visible schedules of the semester rebuilt from the read model. The schedules and the
+     * lessons, groups, teachers, subjects, rooms and periods they refer to are detached copies holding
+     * the fields the schedule views show; one instance is shared by all schedules referring to the same entity.
+     *
+     * @param semesterId the id of the semester
+     * @return the list of schedules
+     */
+    List<Schedule> findVisibleBySemester(Long semesterId);
+}
@@ -1,7 +1,10 @@
 package com.softserve.repository;
 
+import com.softserve.dto.StudentDTO;
 import com.softserve.entity.Student;
+import com.softserve.util.KeysetCursor;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StudentRepository extends BasicRepository<Student, Long> {
@@ -39,4 +42,16 @@ public interface StudentRepository extends BasicRepository<Student, Long> {
      */
     boolean isIdPresent(Long id);
 
+    /**
+     * Returns a page of students sorted by surname, read straight into DTOs.
+     *
+     * @param groupId    the id of the group, or {@code null} for all groups
+     * @param semesterId the id of the semester the group belongs to, or {@code null} for all semesters
+     * @param text       the text to find in the surname, the name or the email, or {@code null}
+     * @param after      the position of the previous page, or {@code null} for the first page
+     * @param size       the size of the page
+     * @return up to {@code size + 1} students, the last one only tells that there is a next page
+     */
+    List<StudentDTO> getPage(Long groupId, Long semesterId, String text, KeysetCursor after, int size);
+
 }
@@ -1,7 +1,10 @@
 package com.softserve.repository;
 
+import com.softserve.dto.TeacherDTO;
 import com.softserve.entity.Teacher;
+import com.softserve.util.KeysetCursor;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,4 +38,24 @@ public interface TeacherRepository extends BasicRepository<Teacher, Long> {
      */
     Optional<Teacher> getExistingTeacher(Teacher teacher);
 
+    /**
+     * Returns all not disabled teachers whose surname is one of the given surnames.
+     * Used by bulk import to check the existence of many teachers in one query.
+     *
+     * @param surnames the collection of surnames
+     * @return the list of teachers
+     */
+    List<Teacher> getExistingTeachersBySurnames(Collection<String> surnames);
+
+    /**
+     * Returns a page of enabled teachers sorted by surname, read straight into DTOs with the email of
+     * the user the teacher is registered as.
+     *
+     * @param departmentId the id of the department, or {@code null} for all departments
+     * @param text         the text to find in the surname, the name or the email, or {@code null}
+     * @param after        the position of the previous page, or {@code null} for the first page
+     * @param size         the size of the page
+     * @return up to {@code size + 1} teachers, the last one only tells that there is a next page
+     */
+    List<TeacherDTO> getPage(Long departmentId, String text, KeysetCursor after, int size);
 }
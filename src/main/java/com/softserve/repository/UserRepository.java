@@ -1,8 +1,12 @@
 package com.softserve.repository;
 
+import com.softserve.dto.UserDTO;
 import com.softserve.entity.User;
+import com.softserve.entity.enums.Role;
+import com.softserve.util.KeysetCursor;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +20,14 @@ public interface UserRepository extends BasicRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Returns all users with the given emails from the database.
+     *
+     * @param emails the collection of emails
+     * @return the list of found users
+     */
+    List<User> findAllByEmails(Collection<String> emails);
+
     /**
      * Retrieves a user by token from the database.
      *
@@ -32,4 +44,30 @@ public interface UserRepository extends BasicRepository<User, Long> {
     List<User> getAllUsersWithRoleUser();
 
     int deleteUnverifiedOlderThan(LocalDateTime threshold);
+
+    /**
+     * Returns the current token version of the user.
+     *
+     * @param id the id of the user
+     * @return an Optional describing the token version or an empty Optional if the user not found
+     */
+    Optional<Long> findTokenVersion(Long id);
+
+    /**
+     * Increments the token version of the user, so tokens issued with the previous version are rejected.
+     *
+     * @param id the id of the user
+     */
+    void incrementTokenVersion(Long id);
+
+    /**
+     * Returns a page of users sorted by email, read straight into DTOs.
+     *
+     * @param role  the role of the users, or {@code null} for all roles
+     * @param text  the text to find in the email, or {@code null}
+     * @param after the position of the previous page, or {@code null} for the first page
+     * @param size  the size of the page
+     * @return up to {@code size + 1} users, the last one only tells that there is a next page
+     */
+    List<UserDTO> getPage(Role role, String text, KeysetCursor after, int size);
 }
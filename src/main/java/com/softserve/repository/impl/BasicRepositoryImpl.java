@@ -113,4 +113,12 @@ public abstract class BasicRepositoryImpl<T extends Serializable, I extends Seri
                 .createQuery("SELECT t FROM " + getEntityName() + " t WHERE t.disable = false", basicClass)
                 .getResultList();
     }
+
+    @Override
+    public void flushAndClear() {
+        log.info("In flushAndClear()");
+        Session session = getSession();
+        session.flush();
+        session.clear();
+    }
 }
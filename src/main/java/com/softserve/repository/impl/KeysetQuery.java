@@ -0,0 +1,93 @@
+package com.softserve.repository.impl;
+
+import com.softserve.util.KeysetCursor;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a query of one page of a list sorted by a text key and then by id. The filters that are not set
+ * are left out of the query, so each combination gets its own plan instead of {@code :x IS NULL OR ...}
+ * conditions that the planner can not use an index for.
+ */
+final class KeysetQuery {
+
+    private final String select;
+    private final String key;
+    private final String id;
+    private final List<String> conditions = new ArrayList<>();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    /**
+     * @param select the select and from clauses of the query
+     * @param key    the path of the sort key
+     * @param id     the path of the id
+     */
+    KeysetQuery(String select, String key, String id) {
+        this.select = select;
+        this.key = key;
+        this.id = id;
+    }
+
+    KeysetQuery where(String condition) {
+        conditions.add(condition);
+        return this;
+    }
+
+    /**
+     * Adds the condition if the value is set.
+     */
+    KeysetQuery where(String condition, String parameter, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            parameters.put(parameter, value);
+        }
+        return this;
+    }
+
+    /**
+     * Keeps the rows where any of the paths contains the text, ignoring case.
+     */
+    KeysetQuery contains(String text, String... paths) {
+        if (text == null || text.isBlank()) {
+            return this;
+        }
+        conditions.add(List.of(paths).stream()
+                .map(path -> "lower(" + path + ") LIKE :text ESCAPE '\\'")
+                .collect(Collectors.joining(" OR ", "(", ")")));
+        parameters.put("text", "%" + text.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        return this;
+    }
+
+    /**
+     * Keeps the rows after the cursor.
+     */
+    KeysetQuery after(KeysetCursor cursor) {
+        if (cursor != null) {
+            conditions.add("(" + key + ", " + id + ") > (:afterKey, :afterId)");
+            parameters.put("afterKey", cursor.key());
+            parameters.put("afterId", cursor.id());
+        }
+        return this;
+    }
+
+    /**
+     * Reads one row more than the page size, it tells whether there is a next page.
+     */
+    List<Object[]> list(Session session, int size) {
+        String hql = select
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY " + key + ", " + id;
+        Query<Object[]> query = session.createQuery(hql, Object[].class)
+                .setMaxResults(size + 1);
+        parameters.forEach((name, value) -> query.setParameter(name, value));
+        return query.getResultList();
+    }
+}
@@ -1,9 +1,15 @@
 package com.softserve.repository.impl;
 
+import com.softserve.dto.GroupDTO;
+import com.softserve.dto.LessonInfoDTO;
+import com.softserve.dto.SubjectDTO;
+import com.softserve.dto.TeacherNameDTO;
 import com.softserve.entity.Lesson;
 import com.softserve.entity.Semester;
+import com.softserve.entity.enums.LessonType;
 import com.softserve.repository.LessonRepository;
 import com.softserve.util.Constants;
+import com.softserve.util.KeysetCursor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.hibernate.Session;
@@ -28,6 +34,11 @@ public class LessonRepositoryImpl extends BasicRepositoryImpl<Lesson, Long> impl
             + "AND l.lessonType = :lessonType "
             + "AND l.subjectForSite = :subjectForSite";
 
+    private static final String GET_PAGE
+            = "SELECT l.id, l.hours, l.linkToMeeting, l.subjectForSite, l.lessonType, l.grouped, l.semester.id, "
+            + "s.id, s.name, s.disable, t.id, t.name, t.surname, t.patronymic, g.id, g.disable, g.title "
+            + "FROM Lesson l JOIN l.subject s JOIN l.teacher t JOIN l.group g";
+
     private static final String SET_GROUPED
             = "UPDATE Lesson "
             + "SET grouped = true "
@@ -362,4 +373,46 @@ public class LessonRepositoryImpl extends BasicRepositoryImpl<Lesson, Long> impl
                 .setParameter(Constants.ID, lessonId)
                 .executeUpdate();
     }
+
+    @Override
+    public List<LessonInfoDTO> getPage(Long semesterId, Long groupId, Long departmentId, String text,
+                                       KeysetCursor after, int size) {
+        log.info("In getPage(semesterId = [{}], groupId = [{}], departmentId = [{}], text = [{}], after = [{}], "
+                + "size = [{}])", semesterId, groupId, departmentId, text, after, size);
+        return new KeysetQuery(GET_PAGE, "l.subjectForSite", "l.id")
+                .where("t.disable = false AND s.disable = false AND g.disable = false")
+                .where("l.semester.id = :semesterId", "semesterId", semesterId)
+                .where("g.id = :groupId", "groupId", groupId)
+                .where("t.department.id = :departmentId", "departmentId", departmentId)
+                .contains(text, "l.subjectForSite", "s.name", "t.surname")
+                .after(after)
+                .list(getSession(), size).stream()
+                .map(LessonRepositoryImpl::toLessonInfoDTO)
+                .toList();
+    }
+
+    private static LessonInfoDTO toLessonInfoDTO(Object[] row) {
+        SubjectDTO subject = new SubjectDTO();
+        subject.setId((Long) row[7]);
+        subject.setName((String) row[8]);
+        subject.setDisable((Boolean) row[9]);
+        TeacherNameDTO teacher = new TeacherNameDTO();
+        teacher.setId((Long) row[10]);
+        teacher.setName((String) row[11]);
+        teacher.setSurname((String) row[12]);
+        teacher.setPatronymic((String) row[13]);
+
+        LessonInfoDTO lesson = new LessonInfoDTO();
+        lesson.setId((Long) row[0]);
+        lesson.setHours((Integer) row[1]);
+        lesson.setLinkToMeeting((String) row[2]);
+        lesson.setSubjectForSite((String) row[3]);
+        lesson.setLessonType((LessonType) row[4]);
+        lesson.setGrouped((Boolean) row[5]);
+        lesson.setSemesterId((Long) row[6]);
+        lesson.setSubject(subject);
+        lesson.setTeacher(teacher);
+        lesson.setGroup(new GroupDTO((Long) row[14], (Boolean) row[15], (String) row[16]));
+        return lesson;
+    }
 }
@@ -0,0 +1,43 @@
+package com.softserve.repository.impl;
+
+import com.softserve.entity.MailOutboxMessage;
+import com.softserve.entity.enums.MailOutboxStatus;
+import com.softserve.repository.MailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.LockMode;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Repository
+public class MailOutboxRepositoryImpl extends BasicRepositoryImpl<MailOutboxMessage, Long> implements MailOutboxRepository {
+
+    @Override
+    public List<MailOutboxMessage> lockDue(LocalDateTime now, LocalDateTime staleBefore, int limit) {
+        log.debug("In lockDue(now = [{}], staleBefore = [{}], limit = [{}])", now, staleBefore, limit);
+        return getSession()
+                .createQuery("SELECT m FROM MailOutboxMessage m "
+                        + "WHERE (m.status = :pending AND m.nextAttemptAt <= :now) "
+                        + "OR (m.status = :sending AND m.claimedAt < :staleBefore) "
+                        + "ORDER BY m.id", MailOutboxMessage.class)
+                .setParameter("pending", MailOutboxStatus.PENDING)
+                .setParameter("sending", MailOutboxStatus.SENDING)
+                .setParameter("now", now)
+                .setParameter("staleBefore", staleBefore)
+                .setHibernateLockMode(LockMode.UPGRADE_SKIPLOCKED)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<MailOutboxMessage> findByBatchId(String batchId) {
+        log.info("In findByBatchId(batchId = [{}])", batchId);
+        return getSession()
+                .createQuery("SELECT m FROM MailOutboxMessage m WHERE m.batchId = :batchId ORDER BY m.id",
+                        MailOutboxMessage.class)
+                .setParameter("batchId", batchId)
+                .getResultList();
+    }
+}
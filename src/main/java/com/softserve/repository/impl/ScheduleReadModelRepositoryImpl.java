@@ -0,0 +1,218 @@
+package com.softserve.repository.impl;
+
+import com.softserve.entity.*;
+import com.softserve.repository.ScheduleReadModelRepository;
+import com.softserve.util.Constants;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@Slf4j
+public class ScheduleReadModelRepositoryImpl implements ScheduleReadModelRepository {
+
+    private static final String UPSERT =
+            "INSERT INTO schedule_read_model (schedule_id, semester_id, day_of_week, evenodd, " +
+                    "lesson_id, lesson_type, lesson_hours, lesson_grouped, subject_for_site, link_to_meeting, " +
+                    "subject_id, subject_name, group_id, group_title, group_sort_order, " +
+                    "teacher_id, teacher_name, teacher_surname, teacher_patronymic, teacher_position, teacher_user_id, " +
+                    "department_id, department_name, room_id, room_name, room_sort_order, " +
+                    "period_id, period_name, period_start_time, period_end_time, visible) " +
+                    "SELECT s.id, l.semester_id, s.day_of_week, s.evenodd, " +
+                    "l.id, l.lessontype, l.hours, l.grouped, l.subject_for_site, l.link_to_meeting, " +
+                    "subj.id, subj.name, g.id, g.title, g.sort_order, " +
+                    "t.id, t.name, t.surname, t.patronymic, t.position, t.user_id, " +
+                    "d.id, d.name, r.id, r.name, r.sort_order, " +
+                    "p.id, p.name, p.start_time, p.end_time, " +
+                    "NOT (r.disable OR sem.disable OR g.disable OR t.disable OR subj.disable) " +
+                    "FROM schedules s " +
+                    "JOIN lessons l ON l.id = s.lesson_id " +
+                    "JOIN semesters sem ON sem.id = l.semester_id " +
+                    "JOIN groups g ON g.id = l.group_id " +
+                    "JOIN teachers t ON t.id = l.teacher_id " +
+                    "JOIN subjects subj ON subj.id = l.subject_id " +
+                    "JOIN rooms r ON r.id = s.room_id " +
+                    "JOIN periods p ON p.id = s.period_id " +
+                    "LEFT JOIN department d ON d.id = t.department_id " +
+                    "WHERE %s = ANY (?) " +
+                    "ON CONFLICT (schedule_id) DO UPDATE SET " +
+                    "semester_id = EXCLUDED.semester_id, day_of_week = EXCLUDED.day_of_week, evenodd = EXCLUDED.evenodd, " +
+                    "lesson_id = EXCLUDED.lesson_id, lesson_type = EXCLUDED.lesson_type, " +
+                    "lesson_hours = EXCLUDED.lesson_hours, lesson_grouped = EXCLUDED.lesson_grouped, " +
+                    "subject_for_site = EXCLUDED.subject_for_site, link_to_meeting = EXCLUDED.link_to_meeting, " +
+                    "subject_id = EXCLUDED.subject_id, subject_name = EXCLUDED.subject_name, " +
+                    "group_id = EXCLUDED.group_id, group_title = EXCLUDED.group_title, " +
+                    "group_sort_order = EXCLUDED.group_sort_order, teacher_id = EXCLUDED.teacher_id, " +
+                    "teacher_name = EXCLUDED.teacher_name, teacher_surname = EXCLUDED.teacher_surname, " +
+                    "teacher_patronymic = EXCLUDED.teacher_patronymic, teacher_position = EXCLUDED.teacher_position, " +
+                    "teacher_user_id = EXCLUDED.teacher_user_id, department_id = EXCLUDED.department_id, " +
+                    "department_name = EXCLUDED.department_name, room_id = EXCLUDED.room_id, " +
+                    "room_name = EXCLUDED.room_name, room_sort_order = EXCLUDED.room_sort_order, " +
+                    "period_id = EXCLUDED.period_id, period_name = EXCLUDED.period_name, " +
+                    "period_start_time = EXCLUDED.period_start_time, period_end_time = EXCLUDED.period_end_time, " +
+                    "visible = EXCLUDED.visible";
+
+    private static final String REFRESH_GROUP_SORT_ORDERS =
+            "UPDATE schedule_read_model m SET group_sort_order = g.sort_order FROM groups g " +
+                    "WHERE g.id = m.group_id AND m.group_sort_order IS DISTINCT FROM g.sort_order";
+
+    private static final String REFRESH_ROOM_SORT_ORDERS =
+            "UPDATE schedule_read_model m SET room_sort_order = r.sort_order FROM rooms r " +
+                    "WHERE r.id = m.room_id AND m.room_sort_order IS DISTINCT FROM r.sort_order";
+
+    private static final String FIND_VISIBLE_BY_SEMESTER =
+            "SELECT m FROM ScheduleReadModel m WHERE m.semesterId = :semesterId AND m.visible = true";
+
+    private final SessionFactory sessionFactory;
+
+    public ScheduleReadModelRepositoryImpl(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refresh(Scope scope, Collection<Long> ids) {
+        log.info("In refresh(scope = [{}], ids = [{}])", scope, ids);
+        if (ids.isEmpty()) {
+            return;
+        }
+        Session session = sessionFactory.getCurrentSession();
+        session.flush();
+        // plain JDBC, a native query through the session would evict the whole second level cache
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT.formatted(scope.getColumn()))) {
+                statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+                log.debug("Refreshed {} read model rows", statement.executeUpdate());
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refreshSortOrders() {
+        log.info("In refreshSortOrders()");
+        Session session = sessionFactory.getCurrentSession();
+        session.flush();
+        session.doWork(connection -> {
+            try (PreparedStatement groups = connection.prepareStatement(REFRESH_GROUP_SORT_ORDERS);
+                 PreparedStatement rooms = connection.prepareStatement(REFRESH_ROOM_SORT_ORDERS)) {
+                groups.executeUpdate();
+                rooms.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Schedule> findVisibleBySemester(Long semesterId) {
+        log.info("In findVisibleBySemester(semesterId = [{}])", semesterId);
+        List<ScheduleReadModel> rows = sessionFactory.getCurrentSession()
+                .createQuery(FIND_VISIBLE_BY_SEMESTER, ScheduleReadModel.class)
+                .setParameter(Constants.SEMESTER_ID, semesterId)
+                .setReadOnly(true)
+                .getResultList();
+
+        Semester semester = new Semester();
+        semester.setId(semesterId);
+        Map<Long, Lesson> lessons = new HashMap<>();
+        Map<Long, Group> groups = new HashMap<>();
+        Map<Long, Teacher> teachers = new HashMap<>();
+        Map<Long, Subject> subjects = new HashMap<>();
+        Map<Long, Room> rooms = new HashMap<>();
+        Map<Long, Period> periods = new HashMap<>();
+        Map<Long, Department> departments = new HashMap<>();
+
+        return rows.stream()
+                .map(row -> {
+                    Lesson lesson = lessons.computeIfAbsent(row.getLessonId(), id -> {
+                        Lesson newLesson = new Lesson();
+                        newLesson.setId(id);
+                        newLesson.setLessonType(row.getLessonType());
+                        newLesson.setHours(row.getLessonHours());
+                        newLesson.setGrouped(row.isLessonGrouped());
+                        newLesson.setSubjectForSite(row.getSubjectForSite());
+                        newLesson.setLinkToMeeting(row.getLinkToMeeting());
+                        newLesson.setSemester(semester);
+                        newLesson.setSubject(subjects.computeIfAbsent(row.getSubjectId(), subjectId -> subject(row)));
+                        newLesson.setGroup(groups.computeIfAbsent(row.getGroupId(), groupId -> group(row)));
+                        newLesson.setTeacher(teachers.computeIfAbsent(row.getTeacherId(), teacherId -> teacher(row,
+                                row.getDepartmentId() == null ? null
+                                        : departments.computeIfAbsent(row.getDepartmentId(), departmentId -> department(row)))));
+                        return newLesson;
+                    });
+                    Schedule schedule = new Schedule();
+                    schedule.setId(row.getScheduleId());
+                    schedule.setDayOfWeek(row.getDayOfWeek());
+                    schedule.setEvenOdd(row.getEvenOdd());
+                    schedule.setLesson(lesson);
+                    schedule.setRoom(rooms.computeIfAbsent(row.getRoomId(), roomId -> room(row)));
+                    schedule.setPeriod(periods.computeIfAbsent(row.getPeriodId(), periodId -> period(row)));
+                    return schedule;
+                })
+                .toList();
+    }
+
+    private static Subject subject(ScheduleReadModel row) {
+        Subject subject = new Subject();
+        subject.setId(row.getSubjectId());
+        subject.setName(row.getSubjectName());
+        return subject;
+    }
+
+    private static Group group(ScheduleReadModel row) {
+        Group group = new Group();
+        group.setId(row.getGroupId());
+        group.setTitle(row.getGroupTitle());
+        group.setSortOrder(row.getGroupSortOrder());
+        return group;
+    }
+
+    private static Teacher teacher(ScheduleReadModel row, Department department) {
+        Teacher teacher = new Teacher();
+        teacher.setId(row.getTeacherId());
+        teacher.setName(row.getTeacherName());
+        teacher.setSurname(row.getTeacherSurname());
+        teacher.setPatronymic(row.getTeacherPatronymic());
+        teacher.setPosition(row.getTeacherPosition());
+        teacher.setUserId(row.getTeacherUserId());
+        teacher.setDepartment(department);
+        return teacher;
+    }
+
+    private static Department department(ScheduleReadModel row) {
+        Department department = new Department();
+        department.setId(row.getDepartmentId());
+        department.setName(row.getDepartmentName());
+        return department;
+    }
+
+    private static Room room(ScheduleReadModel row) {
+        Room room = new Room();
+        room.setId(row.getRoomId());
+        room.setName(row.getRoomName());
+        room.setSortOrder(row.getRoomSortOrder());
+        return room;
+    }
+
+    private static Period period(ScheduleReadModel row) {
+        Period period = new Period();
+        period.setId(row.getPeriodId());
+        period.setName(row.getPeriodName());
+        period.setStartTime(row.getPeriodStartTime());
+        period.setEndTime(row.getPeriodEndTime());
+        return period;
+    }
+}
@@ -2,17 +2,20 @@ package com.softserve.repository.impl;
 
 import com.softserve.entity.*;
 import com.softserve.entity.enums.EvenOdd;
+import com.softserve.exception.ScheduleConflictException;
 import com.softserve.repository.ScheduleRepository;
 import com.softserve.util.Constants;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.criteria.*;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -60,6 +63,46 @@ public class ScheduleRepositoryImpl extends BasicRepositoryImpl<Schedule, Long>
                     "s.evenOdd, s.period.name, " +
                     "s.lesson.subjectForSite, s.lesson.teacher.surname, s.lesson.lessonType";
 
+    /**
+     * Exclusion constraints of the {@code add-schedule-slot-constraints} changeset with the message of each.
+     * A teacher and a room may only share a slot between the groups of one grouped lesson.
+     */
+    private static final Map<String, String> SLOT_CONSTRAINTS = Map.of(
+            "schedules_group_slot_excl", "The group already has a lesson at this time",
+            "schedules_teacher_slot_excl", "The teacher already has another lesson at this time",
+            "schedules_room_slot_excl", "The room is already taken by another lesson at this time");
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ScheduleConflictException if the schedule takes a slot of its group, teacher or room
+     */
+    @Override
+    public Schedule save(Schedule schedule) {
+        try {
+            // the identity insert runs right away, so a slot conflict surfaces here
+            return super.save(schedule);
+        } catch (RuntimeException e) {
+            throw translateSlotConflict(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ScheduleConflictException if the schedule takes a slot of its group, teacher or room
+     */
+    @Override
+    public Schedule update(Schedule schedule) {
+        try {
+            Schedule updated = super.update(schedule);
+            getSession().flush();
+            return updated;
+        } catch (RuntimeException e) {
+            throw translateSlotConflict(e);
+        }
+    }
+
     @Override
     public Long conflictForGroupInSchedule(Long semesterId, DayOfWeek dayOfWeek, EvenOdd evenOdd, Long classId, Long groupId) {
         log.info("In conflictForGroupInSchedule(semesterId = [{}], dayOfWeek = [{}], evenOdd = [{}], classId = [{}], groupId = [{}])",
@@ -496,4 +539,23 @@ public class ScheduleRepositoryImpl extends BasicRepositoryImpl<Schedule, Long>
                 .setParameter(Constants.SEMESTER_ID, semesterId)
                 .getResultList();
     }
+
+    /**
+     * The dialect does not always extract the name of a violated exclusion constraint,
+     * so it is looked up in the message of the database error as well.
+     */
+    private static RuntimeException translateSlotConflict(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String details = violation.getConstraintName() + " " + violation.getMessage();
+                for (Map.Entry<String, String> constraint : SLOT_CONSTRAINTS.entrySet()) {
+                    if (details.contains(constraint.getKey())) {
+                        log.warn("Schedule slot conflict: {}", violation.getMessage());
+                        return new ScheduleConflictException(constraint.getValue());
+                    }
+                }
+            }
+        }
+        return e;
+    }
 }
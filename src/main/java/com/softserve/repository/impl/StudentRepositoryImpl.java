@@ -1,10 +1,14 @@
 package com.softserve.repository.impl;
 
+import com.softserve.dto.GroupDTO;
+import com.softserve.dto.StudentDTO;
 import com.softserve.entity.Student;
 import com.softserve.repository.StudentRepository;
+import com.softserve.util.KeysetCursor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -29,6 +33,11 @@ public class StudentRepositoryImpl extends BasicRepositoryImpl<Student, Long> im
             "s.surname = :sSurname AND " +
             "s.patronymic = :sPatronymic";
 
+    private static final String GET_PAGE
+            = "SELECT s.id, s.name, s.surname, s.patronymic, u.email, g.id, g.disable, g.title"
+            + FROM_STUDENT
+            + "JOIN s.group g LEFT JOIN s.user u";
+
     @Override
     public Optional<Student> getExistingStudent(Student student) {
         return sessionFactory.getCurrentSession()
@@ -65,4 +74,26 @@ public class StudentRepositoryImpl extends BasicRepositoryImpl<Student, Long> im
                 .setParameter("sId", id)
                 .getSingleResult();
     }
+
+    @Override
+    public List<StudentDTO> getPage(Long groupId, Long semesterId, String text, KeysetCursor after, int size) {
+        log.info("In getPage(groupId = [{}], semesterId = [{}], text = [{}], after = [{}], size = [{}])",
+                groupId, semesterId, text, after, size);
+        return new KeysetQuery(GET_PAGE, "s.surname", "s.id")
+                .where("g.id = :groupId", "groupId", groupId)
+                .where("g IN (SELECT sg FROM Semester sem JOIN sem.groups sg WHERE sem.id = :semesterId)",
+                        "semesterId", semesterId)
+                .contains(text, "s.surname", "s.name", "u.email")
+                .after(after)
+                .list(getSession(), size).stream()
+                .map(row -> StudentDTO.builder()
+                        .id((Long) row[0])
+                        .name((String) row[1])
+                        .surname((String) row[2])
+                        .patronymic((String) row[3])
+                        .email((String) row[4])
+                        .group(new GroupDTO((Long) row[5], (Boolean) row[6], (String) row[7]))
+                        .build())
+                .toList();
+    }
 }
@@ -1,10 +1,14 @@
 package com.softserve.repository.impl;
 
+import com.softserve.dto.DepartmentDTO;
+import com.softserve.dto.TeacherDTO;
 import com.softserve.entity.Teacher;
 import com.softserve.repository.TeacherRepository;
+import com.softserve.util.KeysetCursor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +21,10 @@ public class TeacherRepositoryImpl extends BasicRepositoryImpl<Teacher, Long> im
     private static final String GET_ALL_QUERY =
             "SELECT t FROM Teacher t WHERE t.disable = false ORDER BY t.surname ASC";
 
+    private static final String GET_PAGE =
+            "SELECT t.id, t.name, t.surname, t.patronymic, t.position, u.email, d.id, d.name, d.disable " +
+                    "FROM Teacher t LEFT JOIN t.department d LEFT JOIN AppUser u ON u.id = t.userId";
+
     private static final String CHECK_REFERENCE =
             "SELECT count(l.id) FROM Lesson l WHERE l.teacher.id = :teacherId";
 
@@ -34,6 +42,11 @@ public class TeacherRepositoryImpl extends BasicRepositoryImpl<Teacher, Long> im
                     "AND t.position = :tPosition" +
                     DISABLE_FILTER;
 
+    private static final String GET_EXISTING_TEACHERS_BY_SURNAMES =
+            "SELECT t FROM Teacher t LEFT JOIN FETCH t.department " +
+                    "WHERE t.surname IN (:surnames)" +
+                    DISABLE_FILTER;
+
     @Override
     public List<Teacher> getAll() {
         log.info("Enter into getAll of TeacherRepositoryImpl");
@@ -84,4 +97,40 @@ public class TeacherRepositoryImpl extends BasicRepositoryImpl<Teacher, Long> im
                 .setParameter("tPosition", teacher.getPosition())
                 .uniqueResultOptional();
     }
+
+    @Override
+    public List<Teacher> getExistingTeachersBySurnames(Collection<String> surnames) {
+        log.info("Enter into getExistingTeachersBySurnames of TeacherRepositoryImpl with {} surnames", surnames.size());
+        return getSession()
+                .createQuery(GET_EXISTING_TEACHERS_BY_SURNAMES, Teacher.class)
+                .setParameter("surnames", surnames)
+                .getResultList();
+    }
+
+    @Override
+    public List<TeacherDTO> getPage(Long departmentId, String text, KeysetCursor after, int size) {
+        log.info("In getPage(departmentId = [{}], text = [{}], after = [{}], size = [{}])",
+                departmentId, text, after, size);
+        return new KeysetQuery(GET_PAGE, "t.surname", "t.id")
+                .where("t.disable = false")
+                .where("d.id = :departmentId", "departmentId", departmentId)
+                .contains(text, "t.surname", "t.name", "u.email")
+                .after(after)
+                .list(getSession(), size).stream()
+                .map(row -> {
+                    TeacherDTO teacher = new TeacherDTO();
+                    teacher.setId((Long) row[0]);
+                    teacher.setDisable(false);
+                    teacher.setName((String) row[1]);
+                    teacher.setSurname((String) row[2]);
+                    teacher.setPatronymic((String) row[3]);
+                    teacher.setPosition((String) row[4]);
+                    teacher.setEmail((String) row[5]);
+                    if (row[6] != null) {
+                        teacher.setDepartmentDTO(new DepartmentDTO((Long) row[6], (String) row[7], (Boolean) row[8]));
+                    }
+                    return teacher;
+                })
+                .toList();
+    }
 }
@@ -1,11 +1,15 @@
 package com.softserve.repository.impl;
 
+import com.softserve.dto.UserDTO;
 import com.softserve.entity.User;
+import com.softserve.entity.enums.Role;
 import com.softserve.repository.UserRepository;
+import com.softserve.util.KeysetCursor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,8 @@ import java.util.Optional;
 @Repository
 public class UserRepositoryImpl extends BasicRepositoryImpl<User, Long> implements UserRepository {
 
+    private static final String GET_PAGE = "SELECT u.id, u.email, u.role FROM AppUser u";
+
     @Override
     public Optional<User> findByEmail(String email) {
         log.info("Enter into findByEmail method with email:{}", email);
@@ -24,6 +30,15 @@ public class UserRepositoryImpl extends BasicRepositoryImpl<User, Long> implemen
         return users.isEmpty() ? Optional.empty() : Optional.of(users.get(0));
     }
 
+    @Override
+    public List<User> findAllByEmails(Collection<String> emails) {
+        log.info("Enter into findAllByEmails method with {} emails", emails.size());
+        return sessionFactory.getCurrentSession()
+                .createQuery("SELECT u FROM AppUser u WHERE u.email IN (:emails)", User.class)
+                .setParameter("emails", emails)
+                .getResultList();
+    }
+
     @Override
     public Optional<User> findByToken(String token) {
         log.info("Enter into findByToken with token:{}", token);
@@ -68,4 +83,40 @@ public class UserRepositoryImpl extends BasicRepositoryImpl<User, Long> implemen
                 .setParameter("threshold", threshold)
                 .executeUpdate();
     }
+
+    @Override
+    public Optional<Long> findTokenVersion(Long id) {
+        log.debug("Enter into findTokenVersion method with id:{}", id);
+        return sessionFactory.getCurrentSession()
+                .createQuery("SELECT u.tokenVersion FROM AppUser u WHERE u.id = :id", Long.class)
+                .setParameter("id", id)
+                .uniqueResultOptional();
+    }
+
+    @Override
+    public void incrementTokenVersion(Long id) {
+        log.info("Enter into incrementTokenVersion method with id:{}", id);
+        sessionFactory.getCurrentSession()
+                .createMutationQuery("UPDATE AppUser u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<UserDTO> getPage(Role role, String text, KeysetCursor after, int size) {
+        log.info("In getPage(role = [{}], text = [{}], after = [{}], size = [{}])", role, text, after, size);
+        return new KeysetQuery(GET_PAGE, "u.email", "u.id")
+                .where("u.role = :role", "role", role)
+                .contains(text, "u.email")
+                .after(after)
+                .list(getSession(), size).stream()
+                .map(row -> {
+                    UserDTO user = new UserDTO();
+                    user.setId((Long) row[0]);
+                    user.setEmail((String) row[1]);
+                    user.setRole((Role) row[2]);
+                    return user;
+                })
+                .toList();
+    }
 }
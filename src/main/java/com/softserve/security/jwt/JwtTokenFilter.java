@@ -1,5 +1,6 @@
 package com.softserve.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
 import org.springframework.security.core.Authentication;
@@ -48,11 +49,11 @@ public class JwtTokenFilter extends GenericFilterBean {
         String token = jwtTokenProvider.resolveToken(request);
 
         if (token != null) {
-            if (jwtTokenProvider.validateToken(token)) {
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
-                if (auth != null) {
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                }
+            Claims claims = jwtTokenProvider.parseClaims(token);
+            Authentication auth = claims != null ? jwtTokenProvider.getAuthentication(claims) : null;
+            if (auth != null) {
+                request.setAttribute(JwtTokenProvider.CLAIMS_ATTRIBUTE, claims);
+                SecurityContextHolder.getContext().setAuthentication(auth);
             } else {
                 log.warn("Invalid/expired token for request: {}", requestURI);
                 response.setContentType("application/json;charset=UTF-8");
@@ -1,6 +1,10 @@
 package com.softserve.security.jwt;
 
+import com.softserve.service.TokenVersionService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +14,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -19,25 +24,55 @@ import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
+    static final String CLAIMS_ATTRIBUTE = JwtTokenProvider.class.getName() + ".CLAIMS";
+
+    private static final long SWEEP_INTERVAL_MILLIS = 60_000;
+    private static final String ROLES_CLAIM = "roles";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String VERSION_CLAIM = "ver";
+
     @Value("${app.jwt.token.secret}")
     private String secret;
 
     @Value("${app.jwt.token.expired}")
     private Duration validity;
 
+    @Value("${app.jwt.token.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
+    @Value("${app.jwt.claims-authentication:true}")
+    private boolean claimsAuthentication;
+
     private SecretKey key;
 
+    private JwtParser parser;
+
+    private final Map<String, Claims> verifiedClaims = new ConcurrentHashMap<>();
+
+    private final AtomicLong lastSweep = new AtomicLong();
+
     @Lazy
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Lazy
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -52,38 +87,53 @@ public class JwtTokenProvider {
         this.key = Keys.hmacShaKeyFor(
                 paddedSecret.getBytes(StandardCharsets.UTF_8)
         );
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
-    public String createToken(String username, String roles) {
+    public String createToken(Long userId, String username, String roles) {
         Date now = new Date();
         Date expirationDate = new Date(now.getTime() + validity.toMillis());
 
         return Jwts.builder()
                 .subject(username)
-                .claim("roles", roles)
+                .claim(ROLES_CLAIM, roles)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(VERSION_CLAIM, tokenVersionService.getVersion(userId))
                 .issuedAt(now)
                 .expiration(expirationDate)
                 .signWith(key)
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService
-                .loadUserByUsername(getUsername(token));
+    /**
+     * Builds the authentication for the owner of the verified token. In the claims mode the principal
+     * is built from the token alone, so an authenticated request does not touch the database; the only
+     * lookup is the token version of the user, which is served from the local cache. Tokens issued
+     * before the version and user id claims existed are still resolved through the user details service.
+     *
+     * @param claims the claims of a verified token
+     * @return the authentication of the token owner or null if the token has been revoked
+     */
+    public Authentication getAuthentication(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        if (userId != null) {
+            Long version = claims.get(VERSION_CLAIM, Long.class);
+            if (version == null || version != tokenVersionService.getVersion(userId)) {
+                log.warn("Token of user {} has been revoked", userId);
+                return null;
+            }
+        }
+        UserDetails userDetails = userId != null && claimsAuthentication
+                ? new JwtUser(userId, claims.getSubject(), "",
+                List.of(new SimpleGrantedAuthority(claims.get(ROLES_CLAIM, String.class))), true)
+                : userDetailsService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(
                 userDetails, "", userDetails.getAuthorities()
         );
     }
 
-    public String getUsername(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
-    }
-
     public String resolveToken(HttpServletRequest req) {
         String bearerToken = req.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer_")) {
@@ -92,42 +142,83 @@ public class JwtTokenProvider {
         return null;
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Returns the claims that {@link JwtTokenFilter} verified for this request, so that later filters
+     * do not parse the token again.
+     *
+     * @param request the current request
+     * @return the verified claims or null if the request carries no valid token
+     */
+    public Claims getVerifiedClaims(HttpServletRequest request) {
+        return (Claims) request.getAttribute(CLAIMS_ATTRIBUTE);
+    }
+
+    /**
+     * Verifies the signature and expiration of the token and returns its claims. A token verified
+     * recently is looked up by its SHA-256 digest instead of being parsed again; it stays in the
+     * cache no longer than it is valid.
+     *
+     * @param token the compact token
+     * @return the verified claims or null if the token is invalid or expired
+     */
+    public Claims parseClaims(String token) {
+        String digest = digest(token);
+        Claims cached = verifiedClaims.get(digest);
+        if (cached != null) {
+            if (cached.getExpiration().after(new Date())) {
+                return cached;
+            }
+            verifiedClaims.remove(digest);
+        }
         try {
-            var claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-
-            Date expiration = claims.getPayload().getExpiration();
-            log.debug("Token valid. Expires at: {}", expiration);
-            return true;
-        } catch (io.jsonwebtoken.ExpiredJwtException e) {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            log.debug("Token valid. Expires at: {}", claims.getExpiration());
+            remember(digest, claims);
+            return claims;
+        } catch (ExpiredJwtException e) {
             log.warn("Token EXPIRED at: {}. Current time: {}", e.getClaims().getExpiration(), new Date());
-            return false;
+            return null;
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("Token validation failed: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
-    public boolean shouldRefresh(String token) {
-        try {
-            var claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
 
-            Date expiration = claims.getExpiration();
-            Date now = new Date();
+    public boolean shouldRefresh(Claims claims) {
+        long timeLeft = claims.getExpiration().getTime() - System.currentTimeMillis();
+        long halfValidity = validity.toMillis() / 2;
+        return timeLeft < halfValidity;
+    }
 
-            long timeLeft = expiration.getTime() - now.getTime();
-            long halfValidity = validity.toMillis() / 2;
+    /**
+     * A full cache is swept of expired tokens at most once per {@link #SWEEP_INTERVAL_MILLIS};
+     * while it stays full of valid tokens, new ones are verified without being cached.
+     */
+    private void remember(String digest, Claims claims) {
+        if (verifiedClaims.size() >= claimsCacheSize) {
+            long now = System.currentTimeMillis();
+            long last = lastSweep.get();
+            if (now - last < SWEEP_INTERVAL_MILLIS || !lastSweep.compareAndSet(last, now)) {
+                return;
+            }
+            verifiedClaims.values().removeIf(cached -> cached.getExpiration().getTime() <= now);
+            if (verifiedClaims.size() >= claimsCacheSize) {
+                return;
+            }
+        }
+        verifiedClaims.put(digest, claims);
+    }
 
-            return timeLeft < halfValidity;
-        } catch (Exception e) {
-            return false;
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -1,5 +1,6 @@
 package com.softserve.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,9 +29,11 @@ public class JwtTokenRefreshFilter extends OncePerRequestFilter {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getPrincipal())) {
 
-            String token = jwtTokenProvider.resolveToken(request);
-            if (token != null && jwtTokenProvider.shouldRefresh(token)) {
+            Claims claims = jwtTokenProvider.getVerifiedClaims(request);
+            if (claims != null && auth.getPrincipal() instanceof JwtUser jwtUser
+                    && jwtTokenProvider.shouldRefresh(claims)) {
                 String newToken = jwtTokenProvider.createToken(
+                        jwtUser.getId(),
                         auth.getName(),
                         auth.getAuthorities().iterator().next().getAuthority()
                 );
@@ -0,0 +1,56 @@
+package com.softserve.service;
+
+import com.softserve.dto.ImportJobDTO;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * Service for running csv imports in the background.
+ *
+ * <p>Starting an import only registers a job and hands the work over to a bounded executor.
+ * The job state and the per-row report are kept in Redis, so any instance can answer
+ * status and result requests while the import is running.</p>
+ */
+public interface ImportJobService {
+
+    /**
+     * Registers a job that imports teachers from the given csv file into the department.
+     *
+     * @param file         the csv file with teachers data
+     * @param departmentId the id of the department
+     * @return the registered job
+     */
+    ImportJobDTO startTeacherImport(MultipartFile file, Long departmentId);
+
+    /**
+     * Registers a job that imports students from the given csv file into the group.
+     *
+     * @param file    the csv file with students data
+     * @param groupId the id of the group
+     * @return the registered job
+     */
+    ImportJobDTO startStudentImport(MultipartFile file, Long groupId);
+
+    /**
+     * Returns the current state and progress of the job.
+     *
+     * @param jobId the id of the job
+     * @return the job
+     * @throws com.softserve.exception.EntityNotFoundException if job is not found or already expired
+     */
+    ImportJobDTO getById(String jobId);
+
+    /**
+     * Returns a page of the per-row report of the job, in file order.
+     * Rows are available as soon as their chunk is imported.
+     *
+     * @param jobId  the id of the job
+     * @param offset the index of the first row
+     * @param limit  the maximum number of rows
+     * @return the imported rows with their save status, a line that could not be read is a
+     * {@code VALIDATION_ERROR} row with its line number and message
+     * @throws com.softserve.exception.EntityNotFoundException if job is not found or already expired
+     */
+    List<Object> getResult(String jobId, int offset, int limit);
+}
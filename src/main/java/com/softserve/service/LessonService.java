@@ -2,6 +2,7 @@ package com.softserve.service;
 
 import com.softserve.dto.LessonDTO;
 import com.softserve.dto.LessonInfoDTO;
+import com.softserve.dto.PageDTO;
 import com.softserve.entity.Lesson;
 import com.softserve.entity.enums.LessonType;
 
@@ -33,6 +34,21 @@ public interface LessonService {
      */
     List<LessonInfoDTO> getAll();
 
+    /**
+     * Returns a page of lessons with enabled teacher, subject and group sorted by the subject name shown on the site.
+     *
+     * @param semesterId   the id of the semester, or {@code null} for all semesters
+     * @param groupId      the id of the group, or {@code null} for all groups
+     * @param departmentId the id of the department of the teacher, or {@code null} for all departments
+     * @param text         the text to find in the subject name or the teacher surname, or {@code null}
+     * @param cursor       the cursor of the previous page, or {@code null} for the first page
+     * @param size         the requested size of the page, limited to {@link com.softserve.util.KeysetCursor#MAX_PAGE_SIZE}
+     * @return the page with the cursor of the next one
+     * @throws com.softserve.exception.IncorrectCursorException if the cursor was not returned by the server
+     */
+    PageDTO<LessonInfoDTO> getPage(Long semesterId, Long groupId, Long departmentId, String text,
+                                   String cursor, int size);
+
     /**
      * Saves new lesson.
      *
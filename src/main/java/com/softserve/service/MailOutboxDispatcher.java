@@ -0,0 +1,101 @@
+package com.softserve.service;
+
+import com.softserve.entity.MailOutboxMessage;
+import com.softserve.exception.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateLimiterConfig;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the mail outbox. Every poll claims as many due letters as there are free worker slots
+ * and renders and sends them on the mail executor. The send rate is shared by all instances
+ * through a Redis rate limiter, so the SMTP server limit holds however many instances run.
+ * A letter is sent at least once: if the instance dies between sending and marking it as sent,
+ * the letter is claimed again after the lease timeout.
+ */
+@Slf4j
+@Service
+public class MailOutboxDispatcher {
+
+    private static final String KEY_RATE_LIMITER = "mail:rate";
+    private static final long RATE_INTERVAL_MILLIS = 1000;
+
+    private final MailOutboxService mailOutboxService;
+    private final ScheduleService scheduleService;
+    private final Executor mailExecutor;
+    private final RRateLimiter rateLimiter;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public MailOutboxDispatcher(MailOutboxService mailOutboxService, ScheduleService scheduleService,
+                                @Qualifier("mailExecutor") Executor mailExecutor, RedissonClient redissonClient,
+                                @Value("${app.mail.outbox.rate-per-second:5}") long ratePerSecond,
+                                @Value("${app.mail.outbox.max-in-flight:8}") int maxInFlight) {
+        this.mailOutboxService = mailOutboxService;
+        this.scheduleService = scheduleService;
+        this.mailExecutor = mailExecutor;
+        this.maxInFlight = maxInFlight;
+        this.rateLimiter = redissonClient.getRateLimiter(KEY_RATE_LIMITER);
+        configureRate(ratePerSecond);
+    }
+
+    /**
+     * Sets the shared rate only if no instance has set it yet or the configured rate has changed.
+     * Setting the rate resets the limiter, so overwriting it on every start would let a rolling deploy
+     * send bursts above the limit.
+     */
+    private void configureRate(long ratePerSecond) {
+        if (rateLimiter.trySetRate(RateType.OVERALL, ratePerSecond, 1, RateIntervalUnit.SECONDS)) {
+            return;
+        }
+        RateLimiterConfig config = rateLimiter.getConfig();
+        if (config.getRateType() != RateType.OVERALL || config.getRate() != ratePerSecond
+                || config.getRateInterval() != RATE_INTERVAL_MILLIS) {
+            log.info("Changing the mail rate from {} per {} ms to {} per second",
+                    config.getRate(), config.getRateInterval(), ratePerSecond);
+            rateLimiter.setRate(RateType.OVERALL, ratePerSecond, 1, RateIntervalUnit.SECONDS);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:5s}")
+    public void dispatch() {
+        int free = maxInFlight - inFlight.get();
+        if (free <= 0) {
+            return;
+        }
+        List<MailOutboxMessage> claimed = mailOutboxService.claimDue(free);
+        for (MailOutboxMessage message : claimed) {
+            inFlight.incrementAndGet();
+            mailExecutor.execute(() -> deliver(message));
+        }
+    }
+
+    private void deliver(MailOutboxMessage message) {
+        try {
+            rateLimiter.acquire();
+            scheduleService.sendScheduleToTeacher(message.getSemesterId(), message.getTeacherId(),
+                    Locale.forLanguageTag(message.getLanguage()));
+            mailOutboxService.markSent(message.getId());
+        } catch (EntityNotFoundException e) {
+            log.warn("Letter {} can not be sent: {}", message.getId(), e.getMessage());
+            mailOutboxService.markFailed(message.getId(), e.getMessage(), false);
+        } catch (Exception e) {
+            log.warn("Attempt {} to send letter {} failed: {}", message.getAttempts(), message.getId(), e.getMessage());
+            mailOutboxService.markFailed(message.getId(), e.getMessage(), true);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+}
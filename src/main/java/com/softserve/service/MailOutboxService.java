@@ -0,0 +1,57 @@
+package com.softserve.service;
+
+import com.softserve.dto.MailBatchDTO;
+import com.softserve.entity.MailOutboxMessage;
+
+import java.util.List;
+import java.util.Locale;
+
+public interface MailOutboxService {
+
+    /**
+     * Puts one letter with the schedule per teacher into the outbox. The letters are sent later
+     * by {@link MailOutboxDispatcher}.
+     *
+     * @param semesterId the id of the semester
+     * @param teacherIds the ids of teachers to whom the schedule will be sent
+     * @param language   the locale of the schedule
+     * @return the batch with the queued letters
+     */
+    MailBatchDTO enqueueSchedules(Long semesterId, Long[] teacherIds, Locale language);
+
+    /**
+     * Returns the delivery status of every letter of the batch.
+     *
+     * @param batchId the id of the batch
+     * @return the batch with its letters
+     * @throws com.softserve.exception.EntityNotFoundException if the batch with given id not found
+     */
+    MailBatchDTO getBatch(String batchId);
+
+    /**
+     * Marks up to {@code limit} due letters as being sent and counts the attempt.
+     * Letters whose lease expired after their last attempt are marked as failed instead of being claimed again,
+     * so a letter that keeps killing its worker is not retried forever.
+     *
+     * @param limit the maximum number of letters to claim
+     * @return the list of claimed letters
+     */
+    List<MailOutboxMessage> claimDue(int limit);
+
+    /**
+     * Marks the letter as sent.
+     *
+     * @param id the id of the letter
+     */
+    void markSent(Long id);
+
+    /**
+     * Records the failed attempt. The letter is retried with exponential backoff until the attempts
+     * run out, after that or if the error is not retryable it is marked as failed.
+     *
+     * @param id        the id of the letter
+     * @param error     the reason of the failure
+     * @param retryable whether another attempt can succeed
+     */
+    void markFailed(Long id, String error, boolean retryable);
+}
@@ -8,7 +8,8 @@ import java.io.ByteArrayOutputStream;
 public interface MailService {
 
     /**
-     * Sends a simple mail message from mail server to user.
+     * Sends a simple mail message from mail server to user. The letter is sent in the background,
+     * a failure is logged and not passed to the caller.
      *
      * @param receiver to whom the message will be sent
      * @param subject  the subject of the message
@@ -0,0 +1,40 @@
+package com.softserve.service;
+
+import com.softserve.dto.ScheduleForGroupDTO;
+import com.softserve.dto.ScheduleForTeacherDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Service for exporting many schedules at once as a zip archive of pdf reports.
+ *
+ * <p>Reports are rendered in parallel and each one is written to the archive as soon as it is ready.
+ * Only a bounded number of rendered reports is held in memory, the archive itself is never buffered.</p>
+ */
+public interface ScheduleExportService {
+
+    /**
+     * Writes a zip archive with a pdf report for each of the teacher schedules.
+     *
+     * @param schedules    the schedules of the teachers
+     * @param language     the language of the reports
+     * @param outputStream the stream the archive is written to, left open
+     * @throws IOException if the archive could not be written
+     */
+    void writeTeacherSchedulesZip(List<ScheduleForTeacherDTO> schedules, Locale language,
+                                  OutputStream outputStream) throws IOException;
+
+    /**
+     * Writes a zip archive with a pdf report for each of the group schedules.
+     *
+     * @param schedules    the schedules of the groups
+     * @param language     the language of the reports
+     * @param outputStream the stream the archive is written to, left open
+     * @throws IOException if the archive could not be written
+     */
+    void writeGroupSchedulesZip(List<ScheduleForGroupDTO> schedules, Locale language,
+                                OutputStream outputStream) throws IOException;
+}
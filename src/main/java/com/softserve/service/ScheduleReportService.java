@@ -0,0 +1,54 @@
+package com.softserve.service;
+
+import com.softserve.dto.ScheduleForGroupDTO;
+import com.softserve.dto.ScheduleForTeacherDTO;
+import com.softserve.util.PdfReport;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Service for pdf schedule reports backed by a cache of rendered documents.
+ *
+ * <p>Rendered reports are stored compressed and keyed by semester, teacher or group, language
+ * and the version of the semester schedule. Invalidating a semester bumps its version, so reports
+ * rendered before a schedule change are never served again and age out of the size-bounded cache.</p>
+ */
+public interface ScheduleReportService {
+
+    /**
+     * Returns the pdf report of the teacher schedule, rendering it only when no up to date report is cached.
+     *
+     * @param semesterId the id of the semester
+     * @param teacherId  the id of the teacher
+     * @param language   the language of the report
+     * @param schedule   supplies the schedule when the report has to be rendered
+     * @return the report
+     */
+    PdfReport getTeacherReport(Long semesterId, Long teacherId, Locale language,
+                               Supplier<ScheduleForTeacherDTO> schedule);
+
+    /**
+     * Returns the pdf report of the group schedule, rendering it only when no up to date report is cached.
+     *
+     * @param semesterId the id of the semester
+     * @param groupId    the id of the group
+     * @param language   the language of the report
+     * @param schedule   supplies the schedule when the report has to be rendered
+     * @return the report
+     */
+    PdfReport getGroupReport(Long semesterId, Long groupId, Locale language,
+                             Supplier<ScheduleForGroupDTO> schedule);
+
+    /**
+     * Makes all cached reports of the semester stale.
+     *
+     * @param semesterId the id of the semester
+     */
+    void invalidate(Long semesterId);
+
+    /**
+     * Makes all cached reports stale.
+     */
+    void invalidateAll();
+}
@@ -9,6 +9,7 @@ import jakarta.mail.MessagingException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -41,6 +42,7 @@ public interface ScheduleService extends BasicService<Schedule, Long> {
 
     /**
      * Checks if lessons with this group title already exists and if schedule item for group already exists.
+     * Skipped when {@code app.schedule.skip-conflict-precheck} is set, the database rejects the conflicting save then.
      *
      * @param schedule the schedule
      * @throws com.softserve.exception.EntityAlreadyExistsException if lessons with this group title already exists
@@ -90,6 +92,15 @@ public interface ScheduleService extends BasicService<Schedule, Long> {
      */
     ScheduleFullDTO getFullScheduleForSemester(Long semesterId);
 
+    /**
+     * Returns full schedule in specified semester with teachers, subjects, rooms, groups, days and periods
+     * written once and referred to by index from the classes.
+     *
+     * @param semesterId the id of the semester
+     * @return the classes of all groups that have any lessons in specified semester
+     */
+    ScheduleFullCompactDTO getFullCompactScheduleForSemester(Long semesterId);
+
     /**
      * Returns full schedule for teacher in specified semester.
      *
@@ -99,6 +110,24 @@ public interface ScheduleService extends BasicService<Schedule, Long> {
      */
     ScheduleForTeacherDTO getScheduleForTeacher(Long semesterId, Long teacherId);
 
+    /**
+     * Returns schedules for several teachers in specified semester, built from a single read of the semester schedule.
+     *
+     * @param semesterId the id of the semester
+     * @param teacherIds the ids of the teachers, or an empty collection for all teachers with lessons in the semester
+     * @return the filled schedules of the teachers that have lessons in specified semester, ordered by surname
+     */
+    List<ScheduleForTeacherDTO> getSchedulesForTeachers(Long semesterId, Collection<Long> teacherIds);
+
+    /**
+     * Returns schedules for several groups in specified semester, built from a single read of the semester schedule.
+     *
+     * @param semesterId the id of the semester
+     * @param groupIds   the ids of the groups, or an empty collection for all groups with lessons in the semester
+     * @return the filled schedules of the groups that have lessons in specified semester, in groups sort order
+     */
+    List<ScheduleForGroupDTO> getSchedulesForGroups(Long semesterId, Collection<Long> groupIds);
+
     /**
      * Returns all schedules with given teacher id and semester id.
      *
@@ -159,14 +188,15 @@ public interface ScheduleService extends BasicService<Schedule, Long> {
     boolean isLessonInScheduleByLessonIdPeriodIdEvenOddDayOfWeek(Long lessonId, Long periodId, EvenOdd evenOdd, DayOfWeek day);
 
     /**
-     * Sends the schedules to the teachers.
+     * Queues the schedules to be sent to the teachers. The letters are sent in the background,
+     * their status can be followed by the id of the returned batch.
      *
      * @param semesterId the id of the semester
      * @param teachersId the array of ids of teachers to whom the schedule will be sent
      * @param language   the locale of the message
-     * @throws com.softserve.exception.MessageNotSendException if message with the schedule not send
+     * @return the batch with the queued letters
      */
-    void sendScheduleToTeachers(Long semesterId, Long[] teachersId, Locale language);
+    MailBatchDTO sendScheduleToTeachers(Long semesterId, Long[] teachersId, Locale language);
 
     /**
      * Sends the schedules to one teacher.
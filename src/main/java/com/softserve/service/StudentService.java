@@ -1,5 +1,6 @@
 package com.softserve.service;
 
+import com.softserve.dto.PageDTO;
 import com.softserve.dto.StudentDTO;
 import com.softserve.dto.StudentImportDTO;
 import com.softserve.entity.Student;
@@ -30,12 +31,36 @@ public interface StudentService extends BasicService<Student, Long> {
     Student update(StudentDTO studentDTO);
 
     /**
-     * Imports students from csv file.
+     * Returns a page of students sorted by surname.
+     *
+     * @param groupId    the id of the group, or {@code null} for all groups
+     * @param semesterId the id of the semester the group belongs to, or {@code null} for all semesters
+     * @param text       the text to find in the surname, the name or the email, or {@code null}
+     * @param cursor     the cursor of the previous page, or {@code null} for the first page
+     * @param size       the requested size of the page, limited to {@link com.softserve.util.KeysetCursor#MAX_PAGE_SIZE}
+     * @return the page with the cursor of the next one
+     * @throws com.softserve.exception.IncorrectCursorException if the cursor was not returned by the server
+     */
+    PageDTO<StudentDTO> getPage(Long groupId, Long semesterId, String text, String cursor, int size);
+
+    /**
+     * Imports students from csv file. The import runs on the calling thread, as the uploaded file
+     * is gone once the request ends; background imports go through the import jobs.
      *
      * @param file    the string represents a file name with data of students
      * @param groupId the id of the group
-     * @return list of imported and saved students
+     * @return list of imported and saved students in file order, with a {@code VALIDATION_ERROR} row in place
+     * of each line that could not be read
      */
     CompletableFuture<List<StudentImportDTO>> saveFromFile(MultipartFile file, Long groupId);
 
+    /**
+     * Imports the given students into the group and flushes them to the database.
+     *
+     * @param groupId  the id of the group
+     * @param students the students read from a file
+     * @return list of imported students with status, in the same order
+     */
+    List<StudentImportDTO> saveStudents(Long groupId, List<StudentImportDTO> students);
+
 }
@@ -1,5 +1,6 @@
 package com.softserve.service;
 
+import com.softserve.dto.PageDTO;
 import com.softserve.dto.TeacherDTO;
 import com.softserve.dto.TeacherForUpdateDTO;
 import com.softserve.dto.TeacherImportDTO;
@@ -26,6 +27,18 @@ public interface TeacherService {
      */
     List<TeacherDTO> getAll();
 
+    /**
+     * Returns a page of enabled teachers sorted by surname.
+     *
+     * @param departmentId the id of the department, or {@code null} for all departments
+     * @param text         the text to find in the surname, the name or the email, or {@code null}
+     * @param cursor       the cursor of the previous page, or {@code null} for the first page
+     * @param size         the requested size of the page, limited to {@link com.softserve.util.KeysetCursor#MAX_PAGE_SIZE}
+     * @return the page with the cursor of the next one
+     * @throws com.softserve.exception.IncorrectCursorException if the cursor was not returned by the server
+     */
+    PageDTO<TeacherDTO> getPage(Long departmentId, String text, String cursor, int size);
+
     /**
      * Saves a new teacher and registers user if email exists.
      *
@@ -69,10 +82,22 @@ public interface TeacherService {
      *
      * @param file         the file with teachers data
      * @param departmentId the id of the department
-     * @return the list of imported teachers with status
+     * @return the list of imported teachers with status in file order, with a {@code VALIDATION_ERROR} row
+     * in place of each line that could not be read
      */
     List<TeacherImportDTO> saveFromFile(MultipartFile file, Long departmentId);
 
+    /**
+     * Saves given teachers with given department id in chunks, resolving existing users
+     * and teachers with set-based queries instead of per-row lookups.
+     *
+     * @param departmentId the id of the department
+     * @param teachers     the teacher import DTOs in file order
+     * @return the list of imported teachers with status, in the same order
+     * @throws com.softserve.exception.EntityNotFoundException if department not found
+     */
+    List<TeacherImportDTO> saveTeachers(Long departmentId, List<TeacherImportDTO> teachers);
+
     /**
      * Saves given teacher with given department id.
      *
@@ -0,0 +1,20 @@
+package com.softserve.service;
+
+public interface TokenVersionService {
+
+    /**
+     * Returns the token version of the user. Tokens carrying another version are no longer accepted.
+     *
+     * @param userId the id of the user
+     * @return the current token version or a negative value if the user does not exist
+     */
+    long getVersion(Long userId);
+
+    /**
+     * Invalidates all tokens issued to the user so far. The new version becomes visible to every
+     * instance once the current transaction commits.
+     *
+     * @param userId the id of the user
+     */
+    void revoke(Long userId);
+}
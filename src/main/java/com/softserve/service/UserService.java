@@ -1,9 +1,12 @@
 package com.softserve.service;
 
+import com.softserve.dto.PageDTO;
+import com.softserve.dto.UserDTO;
 import com.softserve.entity.User;
 import com.softserve.entity.enums.Role;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +28,18 @@ public interface UserService {
      */
     List<User> getAll();
 
+    /**
+     * Returns a page of users sorted by email.
+     *
+     * @param role   the role of the users, or {@code null} for all roles
+     * @param text   the text to find in the email, or {@code null}
+     * @param cursor the cursor of the previous page, or {@code null} for the first page
+     * @param size   the requested size of the page, limited to {@link com.softserve.util.KeysetCursor#MAX_PAGE_SIZE}
+     * @return the page with the cursor of the next one
+     * @throws com.softserve.exception.IncorrectCursorException if the cursor was not returned by the server
+     */
+    PageDTO<UserDTO> getPage(Role role, String text, String cursor, int size);
+
     /**
      * Saves a given user in the repository.
      *
@@ -103,6 +118,14 @@ public interface UserService {
      */
     Optional<User> findSocialUser(String email);
 
+    /**
+     * Returns all users with the given emails from the repository in one query.
+     *
+     * @param emails the collection of emails
+     * @return the list of found users, missing emails are skipped
+     */
+    List<User> findAllByEmails(Collection<String> emails);
+
     /**
      * Returns all users from the repository that have role USER.
      *
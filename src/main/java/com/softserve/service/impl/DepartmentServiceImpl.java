@@ -8,6 +8,7 @@ import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.mapper.DepartmentMapper;
 import com.softserve.mapper.TeacherMapper;
 import com.softserve.repository.DepartmentRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.service.DepartmentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository repository;
     private final DepartmentMapper departmentMapper;
     private final TeacherMapper teacherMapper;
+    private final ScheduleReadModelRepository scheduleReadModelRepository;
 
     @Override
     public DepartmentDTO getById(Long id) {
@@ -56,6 +58,7 @@ public class DepartmentServiceImpl implements DepartmentService {
         Department department = departmentMapper.departmentDTOToDepartment(departmentDTO);
         checkNameForUniquenessIgnoringId(department.getName(), department.getId());
         Department updatedDepartment = repository.update(department);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.DEPARTMENT, List.of(updatedDepartment.getId()));
         return departmentMapper.departmentToDepartmentDTO(updatedDepartment);
     }
 
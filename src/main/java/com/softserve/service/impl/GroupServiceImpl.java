@@ -9,6 +9,7 @@ import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.mapper.GroupMapper;
 import com.softserve.mapper.StudentMapper;
 import com.softserve.repository.GroupRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.SortOrderRepository;
 import com.softserve.service.GroupService;
 import com.softserve.service.SemesterService;
@@ -32,18 +33,21 @@ public class GroupServiceImpl implements GroupService {
     private final SortOrderRepository<Group> sortOrderRepository;
     private final GroupMapper groupMapper;
     private final StudentMapper studentMapper;
+    private final ScheduleReadModelRepository scheduleReadModelRepository;
 
     public GroupServiceImpl(GroupRepository groupRepository,
                             SemesterService semesterService,
                             SortOrderRepository<Group> sortOrderRepository,
                             GroupMapper groupMapper,
-                            StudentMapper studentMapper) {
+                            StudentMapper studentMapper,
+                            ScheduleReadModelRepository scheduleReadModelRepository) {
         this.groupRepository = groupRepository;
         this.semesterService = semesterService;
         this.sortOrderRepository = sortOrderRepository;
         this.groupMapper = groupMapper;
         this.sortOrderRepository.settClass(Group.class);
         this.studentMapper = studentMapper;
+        this.scheduleReadModelRepository = scheduleReadModelRepository;
     }
 
     @Override
@@ -113,6 +117,7 @@ public class GroupServiceImpl implements GroupService {
         checkTitleForUniquenessIgnoringId(group.getTitle(), group.getId());
         group.setSortOrder(sortOrderRepository.getSortOrderById(group.getId()).orElse(null));
         Group updatedGroup = groupRepository.update(group);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.GROUP, List.of(updatedGroup.getId()));
         return groupMapper.groupToGroupDTO(updatedGroup);
     }
 
@@ -132,6 +137,7 @@ public class GroupServiceImpl implements GroupService {
         log.debug("In createAfterOrder(groupDTO = [{}], afterId = [{}])", groupDTO, afterId);
         Group group = groupMapper.groupDTOToGroup(groupDTO);
         Group createdGroup = sortOrderRepository.createAfterOrder(group, afterId);
+        scheduleReadModelRepository.refreshSortOrders();
         return groupMapper.groupToGroupDTO(createdGroup);
     }
 
@@ -142,6 +148,8 @@ public class GroupServiceImpl implements GroupService {
         log.debug("In updateAfterOrder(groupDTO = [{}], afterId = [{}])", groupDTO, afterId);
         Group group = groupMapper.groupDTOToGroup(groupDTO);
         Group updatedGroup = sortOrderRepository.updateAfterOrder(group, afterId);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.GROUP, List.of(updatedGroup.getId()));
+        scheduleReadModelRepository.refreshSortOrders();
         return groupMapper.groupToGroupDTO(updatedGroup);
     }
 
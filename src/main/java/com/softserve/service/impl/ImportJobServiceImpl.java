@@ -0,0 +1,211 @@
+package com.softserve.service.impl;
+
+import com.opencsv.exceptions.CsvException;
+import com.softserve.dto.ImportJobDTO;
+import com.softserve.dto.StudentImportDTO;
+import com.softserve.dto.TeacherImportDTO;
+import com.softserve.dto.enums.ImportJobStatus;
+import com.softserve.dto.enums.ImportJobType;
+import com.softserve.dto.enums.ImportSaveStatus;
+import com.softserve.exception.EntityNotFoundException;
+import com.softserve.exception.ParseFileException;
+import com.softserve.service.ImportJobService;
+import com.softserve.service.StudentService;
+import com.softserve.service.TeacherService;
+import com.softserve.util.CsvFileParser;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RList;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private static final String KEY_JOB = "import:job:";
+    private static final String KEY_RESULT_SUFFIX = ":result";
+    private static final Duration JOB_TTL = Duration.ofHours(24);
+    private static final int IMPORT_CHUNK_SIZE = 50;
+
+    private final RedissonClient redissonClient;
+    private final TeacherService teacherService;
+    private final StudentService studentService;
+    private final Executor importExecutor;
+
+    public ImportJobServiceImpl(RedissonClient redissonClient, TeacherService teacherService,
+                                StudentService studentService,
+                                @Qualifier("importExecutor") Executor importExecutor) {
+        this.redissonClient = redissonClient;
+        this.teacherService = teacherService;
+        this.studentService = studentService;
+        this.importExecutor = importExecutor;
+    }
+
+    @Override
+    public ImportJobDTO startTeacherImport(MultipartFile file, Long departmentId) {
+        log.info("Starting teachers import job for department: {}", departmentId);
+        return start(ImportJobType.TEACHERS, file, TeacherImportDTO.class,
+                chunk -> teacherService.saveTeachers(departmentId, chunk),
+                TeacherImportDTO::getImportSaveStatus,
+                e -> TeacherImportDTO.lineError(e.getLineNumber(), e.getMessage()));
+    }
+
+    @Override
+    public ImportJobDTO startStudentImport(MultipartFile file, Long groupId) {
+        log.info("Starting students import job for group: {}", groupId);
+        return start(ImportJobType.STUDENTS, file, StudentImportDTO.class,
+                chunk -> studentService.saveStudents(groupId, chunk),
+                StudentImportDTO::getImportSaveStatus,
+                e -> StudentImportDTO.lineError(e.getLineNumber(), e.getMessage()));
+    }
+
+    @Override
+    public ImportJobDTO getById(String jobId) {
+        log.info("Getting import job by id: {}", jobId);
+        ImportJobDTO job = jobBucket(jobId).get();
+        if (job == null) {
+            throw new EntityNotFoundException(ImportJobDTO.class, "id", jobId);
+        }
+        return job;
+    }
+
+    @Override
+    public List<Object> getResult(String jobId, int offset, int limit) {
+        log.info("Getting result of import job: {}, offset: {}, limit: {}", jobId, offset, limit);
+        getById(jobId);
+        if (limit <= 0) {
+            return List.of();
+        }
+        return resultList(jobId).range(offset, offset + limit - 1);
+    }
+
+    private <T> ImportJobDTO start(ImportJobType type, MultipartFile file, Class<T> rowType,
+                                   Function<List<T>, List<T>> chunkImporter,
+                                   Function<T, ImportSaveStatus> statusOf,
+                                   Function<CsvException, T> lineError) {
+        Path content = spool(file);
+
+        ImportJobDTO job = new ImportJobDTO();
+        job.setId(UUID.randomUUID().toString());
+        job.setType(type);
+        job.setStatus(ImportJobStatus.QUEUED);
+        job.setFileName(file.getOriginalFilename());
+        job.setCreatedAt(LocalDateTime.now());
+        saveJob(job);
+
+        try {
+            importExecutor.execute(() -> run(job, content, rowType, chunkImporter, statusOf, lineError));
+        } catch (RejectedExecutionException e) {
+            delete(content);
+            log.warn("Import job {} rejected, too many imports in progress", job.getId());
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setMessage("Too many imports in progress, try again later");
+            job.setFinishedAt(LocalDateTime.now());
+            saveJob(job);
+        }
+        return getById(job.getId());
+    }
+
+    private <T> void run(ImportJobDTO job, Path content, Class<T> rowType,
+                         Function<List<T>, List<T>> chunkImporter,
+                         Function<T, ImportSaveStatus> statusOf,
+                         Function<CsvException, T> lineError) {
+        log.info("Running import job {}", job.getId());
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        saveJob(job);
+
+        RList<Object> result = resultList(job.getId());
+        try (InputStream inputStream = Files.newInputStream(content)) {
+            CsvFileParser.importInChunks(inputStream, job.getFileName(), rowType,
+                    IMPORT_CHUNK_SIZE,
+                    chunkImporter,
+                    e -> {
+                        log.warn("Import job {} skips line {}: {}", job.getId(), e.getLineNumber(), e.getMessage());
+                        return lineError.apply(e);
+                    },
+                    rows -> {
+                        result.addAll(rows);
+                        result.expire(JOB_TTL);
+                        job.setRowsRead(job.getRowsRead() + rows.size());
+                        rows.forEach(row -> countRow(job, statusOf.apply(row)));
+                        saveJob(job);
+                    });
+            job.setStatus(ImportJobStatus.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            log.error("Import job {} failed", job.getId(), e);
+            job.setStatus(ImportJobStatus.FAILED);
+            job.setMessage(e.getMessage());
+        } finally {
+            delete(content);
+        }
+        job.setFinishedAt(LocalDateTime.now());
+        saveJob(job);
+        log.info("Import job {} finished with status {}", job.getId(), job.getStatus());
+    }
+
+    private void countRow(ImportJobDTO job, ImportSaveStatus status) {
+        if (status == ImportSaveStatus.SAVED) {
+            job.setRowsSaved(job.getRowsSaved() + 1);
+        } else if (status == ImportSaveStatus.ALREADY_EXIST) {
+            job.setRowsAlreadyExist(job.getRowsAlreadyExist() + 1);
+        } else {
+            job.setRowsFailed(job.getRowsFailed() + 1);
+        }
+    }
+
+    /**
+     * Copies the upload to a temporary file, the upload is gone once the request ends and the job
+     * may wait in the queue until then. The job streams the file and deletes it when it is done.
+     */
+    private Path spool(MultipartFile file) {
+        Path content = null;
+        try {
+            content = Files.createTempFile("import-", ".csv");
+            file.transferTo(content);
+            return content;
+        } catch (IOException e) {
+            log.error("Error occurred while accessing to file {}", file.getOriginalFilename(), e);
+            delete(content);
+            throw new ParseFileException("Cannot read file " + file.getOriginalFilename());
+        }
+    }
+
+    private void delete(Path content) {
+        if (content == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(content);
+        } catch (IOException e) {
+            log.warn("Cannot delete spooled import file {}", content, e);
+        }
+    }
+
+    private void saveJob(ImportJobDTO job) {
+        jobBucket(job.getId()).set(job, JOB_TTL);
+    }
+
+    private RBucket<ImportJobDTO> jobBucket(String jobId) {
+        return redissonClient.getBucket(KEY_JOB + jobId);
+    }
+
+    private RList<Object> resultList(String jobId) {
+        return redissonClient.getList(KEY_JOB + jobId + KEY_RESULT_SUFFIX);
+    }
+}
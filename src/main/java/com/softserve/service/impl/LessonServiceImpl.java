@@ -8,11 +8,13 @@ import com.softserve.exception.EntityAlreadyExistsException;
 import com.softserve.exception.EntityNotFoundException;
 import com.softserve.mapper.LessonInfoMapper;
 import com.softserve.repository.LessonRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.SemesterRepository;
 import com.softserve.service.GroupService;
 import com.softserve.service.LessonService;
 import com.softserve.service.SemesterService;
 import com.softserve.service.SubjectService;
+import com.softserve.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -30,6 +32,7 @@ import java.util.List;
 public class LessonServiceImpl implements LessonService {
 
     private final LessonRepository lessonRepository;
+    private final ScheduleReadModelRepository scheduleReadModelRepository;
     private final SubjectService subjectService;
     private final SemesterService semesterService;
     private final SemesterRepository semesterRepository;
@@ -60,6 +63,18 @@ public class LessonServiceImpl implements LessonService {
         return lessonInfoMapper.lessonsToLessonInfoDTOs(lessons);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<LessonInfoDTO> getPage(Long semesterId, Long groupId, Long departmentId, String text,
+                                          String cursor, int size) {
+        log.info("In getPage(semesterId = [{}], groupId = [{}], departmentId = [{}], text = [{}], cursor = [{}], "
+                + "size = [{}])", semesterId, groupId, departmentId, text, cursor, size);
+        int pageSize = KeysetCursor.pageSize(size);
+        return PageDTO.of(lessonRepository.getPage(semesterId, groupId, departmentId, text,
+                        KeysetCursor.decode(cursor), pageSize),
+                pageSize, lesson -> new KeysetCursor(lesson.getSubjectForSite(), lesson.getId()));
+    }
+
     @Override
     @Transactional
     @CacheEvict(value = "lessons", allEntries = true)
@@ -89,6 +104,9 @@ public class LessonServiceImpl implements LessonService {
         log.info("In update(lessonInfoDTO = [{}])", lessonInfoDTO);
         Lesson lesson = lessonInfoMapper.lessonInfoDTOToLesson(lessonInfoDTO);
         Lesson updatedLesson = updateLesson(lesson);
+        // a grouped update rewrites the sibling lessons too, they all belong to the teacher
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.TEACHER,
+                List.of(updatedLesson.getTeacher().getId()));
         return lessonInfoMapper.lessonToLessonInfoDTO(updatedLesson);
     }
 
@@ -202,7 +220,9 @@ public class LessonServiceImpl implements LessonService {
     public Integer updateLinkToMeeting(LessonWithLinkDTO lessonWithLinkDTO) {
         log.info("In updateLinkToMeeting(lessonWithLinkDTO = [{}])", lessonWithLinkDTO);
         Lesson lesson = lessonInfoMapper.lessonWithLinkDTOToLesson(lessonWithLinkDTO);
-        return lessonRepository.updateLinkToMeeting(lesson);
+        Integer updated = lessonRepository.updateLinkToMeeting(lesson);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.TEACHER, List.of(lesson.getTeacher().getId()));
+        return updated;
     }
 
     // Private helper methods
@@ -0,0 +1,164 @@
+package com.softserve.service.impl;
+
+import com.softserve.dto.MailBatchDTO;
+import com.softserve.entity.MailOutboxMessage;
+import com.softserve.entity.enums.MailOutboxStatus;
+import com.softserve.exception.EntityNotFoundException;
+import com.softserve.mapper.MailOutboxMapper;
+import com.softserve.repository.MailOutboxRepository;
+import com.softserve.service.MailOutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@Transactional
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String LEASE_EXPIRED_ERROR = "The lease of the last attempt expired before the letter was sent";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailOutboxMapper mailOutboxMapper;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration leaseTimeout;
+
+    public MailOutboxServiceImpl(MailOutboxRepository mailOutboxRepository, MailOutboxMapper mailOutboxMapper,
+                                 @Value("${app.mail.outbox.max-attempts:5}") int maxAttempts,
+                                 @Value("${app.mail.outbox.initial-backoff:30s}") Duration initialBackoff,
+                                 @Value("${app.mail.outbox.max-backoff:30m}") Duration maxBackoff,
+                                 @Value("${app.mail.outbox.lease-timeout:10m}") Duration leaseTimeout) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailOutboxMapper = mailOutboxMapper;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MailBatchDTO enqueueSchedules(Long semesterId, Long[] teacherIds, Locale language) {
+        log.info("In enqueueSchedules(semesterId = [{}], teacherIds = [{}], language = [{}])",
+                semesterId, teacherIds, language);
+        String batchId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutboxMessage> messages = Arrays.stream(teacherIds)
+                .distinct()
+                .map(teacherId -> {
+                    MailOutboxMessage message = new MailOutboxMessage();
+                    message.setBatchId(batchId);
+                    message.setSemesterId(semesterId);
+                    message.setTeacherId(teacherId);
+                    message.setLanguage(language.toLanguageTag());
+                    message.setNextAttemptAt(now);
+                    return mailOutboxRepository.save(message);
+                })
+                .toList();
+        return toBatch(batchId, messages);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MailBatchDTO getBatch(String batchId) {
+        log.info("In getBatch(batchId = [{}])", batchId);
+        List<MailOutboxMessage> messages = mailOutboxRepository.findByBatchId(batchId);
+        if (messages.isEmpty()) {
+            throw new EntityNotFoundException(MailBatchDTO.class, "batchId", batchId);
+        }
+        return toBatch(batchId, messages);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MailOutboxMessage> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutboxMessage> due = new ArrayList<>();
+        for (MailOutboxMessage message : mailOutboxRepository.lockDue(now, now.minus(leaseTimeout), limit)) {
+            if (message.getStatus() == MailOutboxStatus.SENDING && message.getAttempts() >= maxAttempts) {
+                log.warn("Letter {} was not marked after its last attempt, giving up", message.getId());
+                message.setStatus(MailOutboxStatus.FAILED);
+                message.setLastError(LEASE_EXPIRED_ERROR);
+                continue;
+            }
+            message.setStatus(MailOutboxStatus.SENDING);
+            message.setClaimedAt(now);
+            message.setAttempts(message.getAttempts() + 1);
+            due.add(message);
+        }
+        if (!due.isEmpty()) {
+            log.info("Claimed {} letters from the outbox", due.size());
+        }
+        return due;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markSent(Long id) {
+        log.info("In markSent(id = [{}])", id);
+        MailOutboxMessage message = getMessage(id);
+        message.setStatus(MailOutboxStatus.SENT);
+        message.setSentAt(LocalDateTime.now());
+        message.setLastError(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markFailed(Long id, String error, boolean retryable) {
+        log.info("In markFailed(id = [{}], error = [{}], retryable = [{}])", id, error, retryable);
+        MailOutboxMessage message = getMessage(id);
+        message.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH)));
+        if (!retryable || message.getAttempts() >= maxAttempts) {
+            message.setStatus(MailOutboxStatus.FAILED);
+            return;
+        }
+        message.setStatus(MailOutboxStatus.PENDING);
+        message.setNextAttemptAt(LocalDateTime.now().plus(backoff(message.getAttempts())));
+    }
+
+    /**
+     * Doubles the delay after every attempt: initial, 2 * initial, 4 * initial ... up to the max backoff.
+     */
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private MailOutboxMessage getMessage(Long id) {
+        return mailOutboxRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(MailOutboxMessage.class, "id", id.toString()));
+    }
+
+    private MailBatchDTO toBatch(String batchId, List<MailOutboxMessage> messages) {
+        MailBatchDTO batch = new MailBatchDTO();
+        batch.setBatchId(batchId);
+        batch.setSent(messages.stream().filter(m -> m.getStatus() == MailOutboxStatus.SENT).count());
+        batch.setFailed(messages.stream().filter(m -> m.getStatus() == MailOutboxStatus.FAILED).count());
+        batch.setPending(messages.size() - batch.getSent() - batch.getFailed());
+        batch.setMessages(mailOutboxMapper.mailOutboxMessagesToMailOutboxMessageDTOs(messages));
+        return batch;
+    }
+}
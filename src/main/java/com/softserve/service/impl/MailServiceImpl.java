@@ -62,7 +62,7 @@ public class MailServiceImpl implements MailService {
         }
     }
 
-    @Async
+    @Async("notificationExecutor")
     @Override
     public void send(String receiver, String subject, String message) {
         log.info("Enter into send method with receiver {}, subject {}", receiver, subject);
@@ -9,6 +9,7 @@ import com.softserve.exception.IncorrectTimeException;
 import com.softserve.exception.PeriodConflictException;
 import com.softserve.mapper.PeriodMapper;
 import com.softserve.repository.PeriodRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.service.PeriodService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +30,7 @@ public class PeriodServiceImpl implements PeriodService {
 
     private final PeriodRepository periodRepository;
     private final PeriodMapper periodMapper;
+    private final ScheduleReadModelRepository scheduleReadModelRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -98,6 +100,7 @@ public class PeriodServiceImpl implements PeriodService {
         validateNoConflicts(existingPeriods, periodToUpdate);
 
         Period updated = periodRepository.update(periodToUpdate);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.PERIOD, List.of(updated.getId()));
         return periodMapper.convertToDto(updated);
     }
 
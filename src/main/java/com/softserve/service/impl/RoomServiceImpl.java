@@ -9,6 +9,7 @@ import com.softserve.exception.EntityNotFoundException;
 import com.softserve.mapper.RoomForScheduleInfoMapper;
 import com.softserve.mapper.RoomMapper;
 import com.softserve.repository.RoomRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.SortOrderRepository;
 import com.softserve.service.RoomService;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,7 @@ public class RoomServiceImpl implements RoomService {
     private final RoomMapper roomMapper;
     private final RoomForScheduleInfoMapper roomForScheduleInfoMapper;
     private final SortOrderRepository<Room> sortOrderRepository;
+    private final ScheduleReadModelRepository scheduleReadModelRepository;
 
     @jakarta.annotation.PostConstruct
     public void init() {
@@ -78,6 +80,7 @@ public class RoomServiceImpl implements RoomService {
 
         room.setSortOrder(sortOrderRepository.getSortOrderById(room.getId()).orElse(null));
         Room updated = roomRepository.update(room);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.ROOM, List.of(updated.getId()));
         return roomMapper.convertToDto(updated);
     }
 
@@ -88,6 +91,7 @@ public class RoomServiceImpl implements RoomService {
         Room room = findRoomById(id);
         Room deleted = roomRepository.delete(room);
         roomRepository.shiftSortOrderRange(deleted.getSortOrder() + 1, null, RoomRepository.Direction.UP);
+        scheduleReadModelRepository.refreshSortOrders();
         return roomMapper.convertToDto(deleted);
     }
 
@@ -143,6 +147,7 @@ public class RoomServiceImpl implements RoomService {
 
         Room room = roomMapper.convertToEntity(roomDTO);
         Room saved = sortOrderRepository.createAfterOrder(room, afterId);
+        scheduleReadModelRepository.refreshSortOrders();
         return roomMapper.convertToDto(saved);
     }
 
@@ -152,6 +157,8 @@ public class RoomServiceImpl implements RoomService {
 
         Room room = roomMapper.convertToEntity(roomDTO);
         Room updated = sortOrderRepository.updateAfterOrder(room, afterId);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.ROOM, List.of(updated.getId()));
+        scheduleReadModelRepository.refreshSortOrders();
         return roomMapper.convertToDto(updated);
     }
 
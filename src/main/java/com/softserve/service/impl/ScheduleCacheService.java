@@ -1,5 +1,7 @@
 package com.softserve.service.impl;
 
+import com.softserve.service.ScheduleReportService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
@@ -7,13 +9,17 @@ import org.springframework.stereotype.Service;
 
 /**
  * Service responsible for cache eviction operations related to schedules.
+ * Every eviction also makes the cached pdf reports of the semester stale.
  * Separated from ScheduleServiceImpl to ensure Spring AOP proxying works correctly
  * for cache annotations when called from within the same class.
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class ScheduleCacheService {
 
+    private final ScheduleReportService scheduleReportService;
+
     /**
      * Evicts all schedule-related caches for a specific semester, group, and teacher.
      * Use this after save/update operations.
@@ -25,11 +31,14 @@ public class ScheduleCacheService {
     @Caching(evict = {
             @CacheEvict(value = "semesterSchedules", key = "#semesterId"),
             @CacheEvict(value = "scheduleDTO", key = "#semesterId"),
+            @CacheEvict(value = "scheduleCompactDTO", key = "#semesterId"),
+            @CacheEvict(value = "scheduleResponses", allEntries = true),
             @CacheEvict(value = "scheduleForGroup", key = "#semesterId + '-' + #groupId"),
             @CacheEvict(value = "scheduleForTeacher", key = "#semesterId + '-' + #teacherId")
     })
     public void evictCachesForSchedule(Long semesterId, Long groupId, Long teacherId) {
         log.info("Evicting caches for semesterId: {}, groupId: {}, teacherId: {}", semesterId, groupId, teacherId);
+        scheduleReportService.invalidate(semesterId);
     }
 
     /**
@@ -42,6 +51,8 @@ public class ScheduleCacheService {
     @Caching(evict = {
             @CacheEvict(value = "semesterSchedules", key = "#semesterId"),
             @CacheEvict(value = "scheduleDTO", key = "#semesterId"),
+            @CacheEvict(value = "scheduleCompactDTO", key = "#semesterId"),
+            @CacheEvict(value = "scheduleResponses", allEntries = true),
             @CacheEvict(value = "scheduleForGroup", key = "#semesterId + '-' + #groupId"),
             @CacheEvict(value = "scheduleForTeacher", key = "#semesterId + '-' + #teacherId"),
             @CacheEvict(value = "lessons", key = "#groupId")
@@ -49,6 +60,7 @@ public class ScheduleCacheService {
     public void evictCachesForScheduleWithLessons(Long semesterId, Long groupId, Long teacherId) {
         log.info("Evicting caches (including lessons) for semesterId: {}, groupId: {}, teacherId: {}",
                 semesterId, groupId, teacherId);
+        scheduleReportService.invalidate(semesterId);
     }
 
     /**
@@ -58,10 +70,13 @@ public class ScheduleCacheService {
     @Caching(evict = {
             @CacheEvict(value = "semesterSchedules", allEntries = true),
             @CacheEvict(value = "scheduleDTO", allEntries = true),
+            @CacheEvict(value = "scheduleCompactDTO", allEntries = true),
+            @CacheEvict(value = "scheduleResponses", allEntries = true),
             @CacheEvict(value = "scheduleForGroup", allEntries = true),
             @CacheEvict(value = "scheduleForTeacher", allEntries = true)
     })
     public void evictAllScheduleCaches() {
         log.info("Evicting all schedule caches");
+        scheduleReportService.invalidateAll();
     }
 }
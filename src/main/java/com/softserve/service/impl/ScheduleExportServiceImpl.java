@@ -0,0 +1,123 @@
+package com.softserve.service.impl;
+
+import com.softserve.dto.ScheduleForGroupDTO;
+import com.softserve.dto.ScheduleForTeacherDTO;
+import com.softserve.exception.FileDownloadException;
+import com.softserve.mapper.TeacherMapper;
+import com.softserve.service.ScheduleExportService;
+import com.softserve.util.PdfReportGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Slf4j
+@Service
+public class ScheduleExportServiceImpl implements ScheduleExportService {
+
+    private final PdfReportGenerator pdfReportGenerator;
+    private final ExecutorService reportExecutor;
+    private final int maxReportsInFlight;
+
+    public ScheduleExportServiceImpl(PdfReportGenerator pdfReportGenerator,
+                                     @Qualifier("reportExecutor") ExecutorService reportExecutor,
+                                     @Value("${app.reports.max-in-flight:16}") int maxReportsInFlight) {
+        this.pdfReportGenerator = pdfReportGenerator;
+        this.reportExecutor = reportExecutor;
+        this.maxReportsInFlight = maxReportsInFlight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeTeacherSchedulesZip(List<ScheduleForTeacherDTO> schedules, Locale language,
+                                         OutputStream outputStream) throws IOException {
+        log.info("Enter into writeTeacherSchedulesZip method with {} schedules and language {}", schedules.size(), language);
+        writeZip(schedules,
+                schedule -> "schedule for " + TeacherMapper.teacherDTOToTeacherForSite(schedule.getTeacher()),
+                schedule -> pdfReportGenerator.teacherScheduleReport(schedule, language).toByteArray(),
+                outputStream);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeGroupSchedulesZip(List<ScheduleForGroupDTO> schedules, Locale language,
+                                       OutputStream outputStream) throws IOException {
+        log.info("Enter into writeGroupSchedulesZip method with {} schedules and language {}", schedules.size(), language);
+        writeZip(schedules,
+                schedule -> "schedule for " + schedule.getGroup().getTitle() + " group",
+                schedule -> pdfReportGenerator.groupScheduleReport(schedule, language).toByteArray(),
+                outputStream);
+    }
+
+    /**
+     * Renders the reports on the report executor and writes them to the archive in the order they finish.
+     * At most {@code maxReportsInFlight} reports are rendered or waiting to be written at any time.
+     */
+    private <T> void writeZip(List<T> schedules, Function<T, String> fileName, Function<T, byte[]> render,
+                              OutputStream outputStream) throws IOException {
+        CompletionService<RenderedReport> completionService = new ExecutorCompletionService<>(reportExecutor);
+        Set<Future<RenderedReport>> inFlight = new HashSet<>();
+        Set<String> usedNames = new HashSet<>();
+        Iterator<T> pending = schedules.iterator();
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        // pdf content streams are already compressed, spending more cpu here gains almost nothing
+        zip.setLevel(Deflater.BEST_SPEED);
+        try {
+            while (pending.hasNext() || !inFlight.isEmpty()) {
+                while (inFlight.size() < maxReportsInFlight && pending.hasNext()) {
+                    T schedule = pending.next();
+                    String name = uniqueFileName(fileName.apply(schedule), usedNames);
+                    inFlight.add(completionService.submit(() -> new RenderedReport(name, render.apply(schedule))));
+                }
+                Future<RenderedReport> done = completionService.take();
+                inFlight.remove(done);
+                RenderedReport report = done.get();
+                zip.putNextEntry(new ZipEntry(report.fileName()));
+                zip.write(report.content());
+                zip.closeEntry();
+            }
+            zip.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileDownloadException("Export of schedules was interrupted");
+        } catch (ExecutionException e) {
+            log.error("Failed to render a schedule report", e.getCause());
+            throw new FileDownloadException("Failed to download file");
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private String uniqueFileName(String baseName, Set<String> usedNames) {
+        String safeName = baseName.replaceAll("[\\\\/:*?\"<>|]", "_");
+        String name = safeName + ".pdf";
+        for (int i = 2; !usedNames.add(name); i++) {
+            name = safeName + " (" + i + ").pdf";
+        }
+        return name;
+    }
+
+    private record RenderedReport(String fileName, byte[] content) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.softserve.service.impl;
+
+import com.softserve.dto.ScheduleForGroupDTO;
+import com.softserve.dto.ScheduleForTeacherDTO;
+import com.softserve.mapper.TeacherMapper;
+import com.softserve.service.ScheduleReportService;
+import com.softserve.util.PdfReport;
+import com.softserve.util.PdfReportGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.output.TeeOutputStream;
+import org.redisson.api.EvictionMode;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+@Slf4j
+@Service
+public class ScheduleReportServiceImpl implements ScheduleReportService {
+
+    private static final String KEY_REPORTS = "report:pdf";
+    private static final String KEY_VERSIONS = "report:version";
+    private static final String ALL_SEMESTERS = "*";
+
+    private final PdfReportGenerator pdfReportGenerator;
+    private final RMapCache<String, CachedReport> reports;
+    private final RMap<String, Long> versions;
+    private final Duration timeToLive;
+
+    public ScheduleReportServiceImpl(PdfReportGenerator pdfReportGenerator, RedissonClient redissonClient,
+                                     @Value("${app.reports.cache.max-entries:2000}") int maxEntries,
+                                     @Value("${app.reports.cache.time-to-live:12h}") Duration timeToLive) {
+        this.pdfReportGenerator = pdfReportGenerator;
+        this.reports = redissonClient.getMapCache(KEY_REPORTS);
+        this.reports.setMaxSize(maxEntries, EvictionMode.LRU);
+        this.versions = redissonClient.getMap(KEY_VERSIONS,
+                new CompositeCodec(StringCodec.INSTANCE, LongCodec.INSTANCE));
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PdfReport getTeacherReport(Long semesterId, Long teacherId, Locale language,
+                                      Supplier<ScheduleForTeacherDTO> schedule) {
+        log.info("In getTeacherReport(semesterId = [{}], teacherId = [{}], language = [{}])", semesterId, teacherId, language);
+        String key = reportKey(semesterId, "teacher", teacherId, language);
+        CachedReport cached = reports.get(key);
+        if (cached != null) {
+            return fromCache(cached);
+        }
+
+        ScheduleForTeacherDTO teacherSchedule = schedule.get();
+        String fileName = "schedule for "
+                .concat(TeacherMapper.teacherDTOToTeacherForSite(teacherSchedule.getTeacher()))
+                .concat(".pdf");
+        return renderAndCache(key, fileName,
+                outputStream -> pdfReportGenerator.writeTeacherScheduleReport(teacherSchedule, language, outputStream));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PdfReport getGroupReport(Long semesterId, Long groupId, Locale language,
+                                    Supplier<ScheduleForGroupDTO> schedule) {
+        log.info("In getGroupReport(semesterId = [{}], groupId = [{}], language = [{}])", semesterId, groupId, language);
+        String key = reportKey(semesterId, "group", groupId, language);
+        CachedReport cached = reports.get(key);
+        if (cached != null) {
+            return fromCache(cached);
+        }
+
+        ScheduleForGroupDTO groupSchedule = schedule.get();
+        String fileName = "schedule for "
+                .concat(groupSchedule.getGroup().getTitle())
+                .concat(" group.pdf");
+        return renderAndCache(key, fileName,
+                outputStream -> pdfReportGenerator.writeGroupScheduleReport(groupSchedule, language, outputStream));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate(Long semesterId) {
+        log.info("In invalidate(semesterId = [{}])", semesterId);
+        versions.addAndGet(String.valueOf(semesterId), 1L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateAll() {
+        log.info("In invalidateAll()");
+        versions.addAndGet(ALL_SEMESTERS, 1L);
+    }
+
+    /**
+     * The key carries the current versions, read before the schedule is, so a report rendered
+     * from a schedule that changes meanwhile is stored under a key that is already stale.
+     */
+    private String reportKey(Long semesterId, String owner, Long ownerId, Locale language) {
+        String semester = String.valueOf(semesterId);
+        Map<String, Long> current = versions.getAll(Set.of(ALL_SEMESTERS, semester));
+        return String.join(":", semester, owner, String.valueOf(ownerId), language.toLanguageTag(),
+                String.valueOf(current.getOrDefault(ALL_SEMESTERS, 0L)),
+                String.valueOf(current.getOrDefault(semester, 0L)));
+    }
+
+    private PdfReport fromCache(CachedReport cached) {
+        log.debug("Serving cached report {}", cached.getFileName());
+        return new PdfReport(cached.getFileName(), cached.getLength(), outputStream -> {
+            try (InputStream content = new InflaterInputStream(new ByteArrayInputStream(cached.getContent()))) {
+                content.transferTo(outputStream);
+            }
+        });
+    }
+
+    /**
+     * The document is streamed to the consumer and, at the same time, compressed into the buffer
+     * that goes to the cache, so only the compressed copy is kept in memory.
+     */
+    private PdfReport renderAndCache(String key, String fileName, Consumer<OutputStream> render) {
+        return new PdfReport(fileName, -1, outputStream -> {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                DeflaterOutputStream cacheStream = new DeflaterOutputStream(compressed, deflater);
+                render.accept(new TeeOutputStream(outputStream, cacheStream));
+                cacheStream.finish();
+                reports.fastPut(key, new CachedReport(fileName, deflater.getBytesRead(), compressed.toByteArray()),
+                        timeToLive.toMillis(), TimeUnit.MILLISECONDS);
+            } finally {
+                deflater.end();
+            }
+        });
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedReport implements Serializable {
+        private String fileName;
+        private long length;
+        private byte[] content;
+    }
+}
@@ -0,0 +1,105 @@
+package com.softserve.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the encoded bodies of the full schedules, one per format, so a request for a schedule that did not
+ * change is answered without mapping and encoding a document of several megabytes again.
+ * The format is JSON unless the client asks for CBOR or Smile in {@code Accept}.
+ * Evicted together with the schedule caches by {@link ScheduleCacheService}. Without a cache manager, as in
+ * the {@code test} profile, the body is encoded on every request.
+ */
+@Service
+@Slf4j
+public class ScheduleResponseCache {
+
+    public static final String CACHE_NAME = "scheduleResponses";
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final Cache cache;
+    private final Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
+
+    public ScheduleResponseCache(ObjectProvider<CacheManager> cacheManager,
+                                 ObjectMapper objectMapper,
+                                 MappingJackson2CborHttpMessageConverter cborConverter,
+                                 MappingJackson2SmileHttpMessageConverter smileConverter) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        this.cache = manager != null ? manager.getCache(CACHE_NAME) : null;
+        // JSON first, it is the answer to a client that accepts anything
+        mappers.put(MediaType.APPLICATION_JSON, objectMapper);
+        mappers.put(MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper());
+        mappers.put(APPLICATION_SMILE, smileConverter.getObjectMapper());
+    }
+
+    /**
+     * Returns the format of the response for the {@code Accept} header of the request.
+     *
+     * @param accept the value of the {@code Accept} header, may be {@code null}
+     * @return the most preferred of JSON, CBOR and Smile the client accepts, JSON if none
+     */
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            for (MediaType format : mappers.keySet()) {
+                if (mediaType.getQualityValue() > 0 && mediaType.isCompatibleWith(format)) {
+                    return format;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Returns the body encoded in the format, encoding it and keeping it under the key the first time.
+     *
+     * @param key    the key of the body without the format
+     * @param format the format returned by {@link #negotiate(String)}
+     * @param body   the supplier of the body, called only when the encoded body is not kept yet
+     * @return the response with the encoded body
+     */
+    public ResponseEntity<byte[]> respond(String key, MediaType format, Supplier<?> body) {
+        String formatKey = key + ":" + format.getSubtype();
+        byte[] encoded = cache != null ? cache.get(formatKey, byte[].class) : null;
+        if (encoded == null) {
+            log.info("Encoding {}", formatKey);
+            encoded = encode(format, body.get());
+            if (cache != null) {
+                cache.put(formatKey, encoded);
+            }
+        }
+        return ResponseEntity.ok()
+                .contentType(format)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(encoded);
+    }
+
+    private byte[] encode(MediaType format, Object body) {
+        try {
+            return mappers.get(format).writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode the schedule as " + format, e);
+        }
+    }
+}
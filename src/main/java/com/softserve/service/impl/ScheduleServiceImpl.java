@@ -5,27 +5,31 @@ import com.softserve.entity.*;
 import com.softserve.entity.enums.EvenOdd;
 import com.softserve.exception.EntityAlreadyExistsException;
 import com.softserve.exception.EntityNotFoundException;
-import com.softserve.exception.MessageNotSendException;
+import com.softserve.exception.FileDownloadException;
 import com.softserve.exception.ScheduleConflictException;
 import com.softserve.mapper.*;
 import com.softserve.repository.LessonRepository;
 import com.softserve.repository.PeriodRepository;
 import com.softserve.repository.RoomRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.ScheduleRepository;
 import com.softserve.service.*;
-import com.softserve.util.PdfReportGenerator;
+import com.softserve.util.PdfReport;
 import jakarta.mail.MessagingException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.DayOfWeek;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -38,6 +42,7 @@ public class ScheduleServiceImpl implements ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
     private final ScheduleCacheService cacheService;
+    private final ScheduleReadModelRepository scheduleReadModelRepository;
 
     private final LessonService lessonService;
     private final RoomService roomService;
@@ -45,6 +50,8 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final TeacherService teacherService;
     private final SemesterService semesterService;
     private final MailService mailService;
+    private final MailOutboxService mailOutboxService;
+    private final ScheduleReportService scheduleReportService;
 
     private final GroupMapper groupMapper;
     private final PeriodMapper periodMapper;
@@ -55,9 +62,17 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final ScheduleSaveMapper scheduleSaveMapper;
     private final LessonRepository lessonRepository;
     private final ScheduleMapper scheduleMapper;
+    private final TeacherMapper teacherMapper;
     private final RoomRepository roomRepository;
     private final PeriodRepository periodRepository;
 
+    /**
+     * Slots are guarded by constraints of the schedules table, the count queries before a write
+     * only give an earlier and more specific error and can be turned off.
+     */
+    @Value("${app.schedule.skip-conflict-precheck:false}")
+    private boolean skipConflictPrecheck;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -121,7 +136,7 @@ public class ScheduleServiceImpl implements ScheduleService {
 
         Lesson lesson = schedule.getLesson();
 
-        if (isConflictForGroup(
+        if (!skipConflictPrecheck && isConflictForGroup(
                 lesson.getSemester().getId(),
                 schedule.getDayOfWeek(),
                 schedule.getEvenOdd(),
@@ -132,6 +147,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         }
 
         Schedule saved = scheduleRepository.save(schedule);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.SCHEDULE, List.of(saved.getId()));
 
         // Evict caches after successful save
         cacheService.evictCachesForSchedule(
@@ -179,6 +195,9 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public void checkReferences(Schedule schedule) {
+        if (skipConflictPrecheck) {
+            return;
+        }
         if (isLessonInScheduleByLessonIdPeriodIdEvenOddDayOfWeek(schedule.getLesson().getId(), schedule.getPeriod().getId(),
                 schedule.getEvenOdd(), schedule.getDayOfWeek())) {
             log.error("Lessons with group title [{}] already exists in schedule", schedule.getLesson().getGroup().getTitle());
@@ -207,7 +226,7 @@ public class ScheduleServiceImpl implements ScheduleService {
 
         Lesson lesson = schedule.getLesson();
 
-        if (isConflictForGroup(
+        if (!skipConflictPrecheck && isConflictForGroup(
                 lesson.getSemester().getId(),
                 schedule.getDayOfWeek(),
                 schedule.getEvenOdd(),
@@ -218,6 +237,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         }
 
         Schedule updated = scheduleRepository.update(schedule);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.SCHEDULE, List.of(updated.getId()));
 
         // Evict caches after successful update
         cacheService.evictCachesForSchedule(
@@ -483,7 +503,9 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Override
     public Schedule saveScheduleDuringCopy(Schedule schedule) {
         log.info("In saveScheduleDuringCopy(schedule = [{}])", schedule);
-        return scheduleRepository.save(schedule);
+        Schedule saved = scheduleRepository.save(schedule);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.SCHEDULE, List.of(saved.getId()));
+        return saved;
     }
 
     /**
@@ -492,7 +514,9 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Override
     public Schedule updateWithoutChecks(Schedule schedule) {
         log.info("In updateWithoutChecks(schedule = [{}])", schedule);
-        return scheduleRepository.update(schedule);
+        Schedule updated = scheduleRepository.update(schedule);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.SCHEDULE, List.of(updated.getId()));
+        return updated;
     }
 
     /**
@@ -520,15 +544,9 @@ public class ScheduleServiceImpl implements ScheduleService {
      * {@inheritDoc}
      */
     @Override
-    public void sendScheduleToTeachers(Long semesterId, Long[] teachersId, Locale language) {
+    public MailBatchDTO sendScheduleToTeachers(Long semesterId, Long[] teachersId, Locale language) {
         log.info("In sendScheduleToTeachers(semesterId = [{}], teachersId = [{}])", semesterId, teachersId);
-        Arrays.stream(teachersId).forEach(teacherId -> {
-            try {
-                sendScheduleToTeacher(semesterId, teacherId, language);
-            } catch (MessagingException e) {
-                throw new MessageNotSendException(e.getMessage());
-            }
-        });
+        return mailOutboxService.enqueueSchedules(semesterId, teachersId, language);
     }
 
     /**
@@ -538,9 +556,14 @@ public class ScheduleServiceImpl implements ScheduleService {
     public void sendScheduleToTeacher(Long semesterId, Long teacherId, Locale language) throws MessagingException {
         log.info("In sendScheduleToTeacher(semesterId = [{}], teacherId = [{}])", semesterId, teacherId);
         TeacherDTO teacher = teacherService.getById(teacherId);
-        ScheduleForTeacherDTO schedule = getScheduleForTeacher(semesterId, teacher.getId());
-        PdfReportGenerator generatePdfReport = new PdfReportGenerator();
-        ByteArrayOutputStream bos = generatePdfReport.teacherScheduleReport(schedule, language);
+        PdfReport report = scheduleReportService.getTeacherReport(semesterId, teacher.getId(), language,
+                () -> getScheduleForTeacher(semesterId, teacher.getId()));
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try {
+            report.content().writeTo(bos);
+        } catch (IOException e) {
+            throw new FileDownloadException(e.getMessage());
+        }
         String teacherEmail = teacher.getEmail();
         String fileName = String.format("%s_%s_%s_%s.pdf",
                 semesterService.getById(semesterId).getDescription(),
@@ -572,9 +595,143 @@ public class ScheduleServiceImpl implements ScheduleService {
         Set<DayOfWeek> daysOfWeek = semesterDTO.getDaysOfWeek();
         Set<PeriodDTO> periods = semesterDTO.getPeriods();
 
-        List<Schedule> allSchedules = scheduleRepository.findAllBySemesterWithDetails(semesterId);
+        List<Schedule> allSchedules = scheduleReadModelRepository.findVisibleBySemester(semesterId);
+
+        Map<Long, Map<DayOfWeek, Map<Long, Map<EvenOdd, Schedule>>>> grouped = groupByGroupDayPeriodWeek(allSchedules);
+        List<Group> groups = getGroupsInSortOrder(allSchedules);
+
+        ScheduleFullDTO scheduleFullDTO = new ScheduleFullDTO();
+        scheduleFullDTO.setSemester(semesterDTO);
+
+        List<ScheduleForGroupDTO> scheduleForGroupDTOList = groups.stream()
+                .map(group -> {
+                    ScheduleForGroupDTO dto = new ScheduleForGroupDTO();
+                    dto.setGroup(groupMapper.groupToGroupDTO(group));
+                    dto.setDays(buildDaysFromMemory(group.getId(), daysOfWeek, periods, grouped));
+                    return dto;
+                })
+                .toList();
+
+        scheduleFullDTO.setSchedule(scheduleForGroupDTOList);
+        return scheduleFullDTO;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "scheduleCompactDTO", key = "#semesterId")
+    public ScheduleFullCompactDTO getFullCompactScheduleForSemester(Long semesterId) {
+        log.info("In getFullCompactScheduleForSemester(semesterId = [{}])", semesterId);
+
+        SemesterWithGroupsDTO semesterDTO = semesterService.getById(semesterId);
+        List<DayOfWeek> days = List.copyOf(new TreeSet<>(semesterDTO.getDaysOfWeek()));
+        List<PeriodDTO> periods = List.copyOf(semesterDTO.getPeriods());
+
+        List<Schedule> allSchedules = scheduleReadModelRepository.findVisibleBySemester(semesterId);
+
+        Map<Long, Map<DayOfWeek, Map<Long, Map<EvenOdd, Schedule>>>> grouped = groupByGroupDayPeriodWeek(allSchedules);
+        List<Group> groups = getGroupsInSortOrder(allSchedules);
+
+        Map<Long, Integer> teacherIndexes = new HashMap<>();
+        List<Teacher> teachers = new ArrayList<>();
+        Map<String, Integer> subjectIndexes = new HashMap<>();
+        List<String> subjects = new ArrayList<>();
+        Map<Long, Integer> roomIndexes = new HashMap<>();
+        List<Room> rooms = new ArrayList<>();
+        List<ScheduleFullCompactDTO.Cell> cells = new ArrayList<>();
+
+        for (int group = 0; group < groups.size(); group++) {
+            Map<DayOfWeek, Map<Long, Map<EvenOdd, Schedule>>> groupSchedules =
+                    grouped.getOrDefault(groups.get(group).getId(), Collections.emptyMap());
+            for (int day = 0; day < days.size(); day++) {
+                Map<Long, Map<EvenOdd, Schedule>> daySchedules =
+                        groupSchedules.getOrDefault(days.get(day), Collections.emptyMap());
+                for (int period = 0; period < periods.size(); period++) {
+                    Map<EvenOdd, Schedule> periodSchedules =
+                            daySchedules.getOrDefault(periods.get(period).getId(), Collections.emptyMap());
+                    for (Schedule schedule : new TreeMap<>(periodSchedules).values()) {
+                        Lesson lesson = schedule.getLesson();
+                        cells.add(new ScheduleFullCompactDTO.Cell(group, day, period,
+                                schedule.getEvenOdd().name(),
+                                indexOf(teacherIndexes, teachers, lesson.getTeacher().getId(), lesson.getTeacher()),
+                                indexOf(subjectIndexes, subjects, lesson.getSubjectForSite(), lesson.getSubjectForSite()),
+                                indexOf(roomIndexes, rooms, schedule.getRoom().getId(), schedule.getRoom()),
+                                lesson.getLessonType().name(),
+                                lesson.getLinkToMeeting()));
+                    }
+                }
+            }
+        }
+
+        SemesterDTO semester = new SemesterDTO();
+        BeanUtils.copyProperties(semesterDTO, semester);
+
+        ScheduleFullCompactDTO compactDTO = new ScheduleFullCompactDTO();
+        compactDTO.setSemester(semester);
+        compactDTO.setTeachers(teachers.stream().map(teacherMapper::teacherToTeacherDTO).toList());
+        compactDTO.setSubjects(subjects);
+        compactDTO.setRooms(rooms.stream().map(roomForScheduleMapper::roomToRoomForScheduleDTO).toList());
+        compactDTO.setGroups(groups.stream().map(groupMapper::groupToGroupDTO).toList());
+        compactDTO.setDays(days);
+        compactDTO.setPeriods(periods);
+        compactDTO.setCells(cells);
+        return compactDTO;
+    }
+
+    /**
+     * Returns the index of the value in the dictionary, adding it at the end the first time it is met.
+     */
+    private static <K, V> int indexOf(Map<K, Integer> indexes, List<V> dictionary, K key, V value) {
+        return indexes.computeIfAbsent(key, k -> {
+            dictionary.add(value);
+            return dictionary.size() - 1;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleForGroupDTO> getSchedulesForGroups(Long semesterId, Collection<Long> groupIds) {
+        log.info("In getSchedulesForGroups(semesterId = [{}], groupIds = [{}])", semesterId, groupIds);
+
+        List<Schedule> schedules = scheduleReadModelRepository.findVisibleBySemester(semesterId).stream()
+                .filter(s -> groupIds.isEmpty() || groupIds.contains(s.getLesson().getGroup().getId()))
+                .toList();
+        Map<Long, Map<DayOfWeek, Map<Long, Map<EvenOdd, Schedule>>>> grouped = groupByGroupDayPeriodWeek(schedules);
+
+        return getGroupsInSortOrder(schedules).stream()
+                .map(group -> {
+                    ScheduleForGroupDTO dto = new ScheduleForGroupDTO();
+                    dto.setGroup(groupMapper.groupToGroupDTO(group));
+                    dto.setDays(buildDaysWithClassesFromMemory(grouped.get(group.getId())));
+                    return dto;
+                })
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleForTeacherDTO> getSchedulesForTeachers(Long semesterId, Collection<Long> teacherIds) {
+        log.info("In getSchedulesForTeachers(semesterId = [{}], teacherIds = [{}])", semesterId, teacherIds);
 
-        Map<Long, Map<DayOfWeek, Map<Long, Map<EvenOdd, Schedule>>>> grouped = allSchedules.stream()
+        SemesterWithGroupsDTO semesterDTO = semesterService.getById(semesterId);
+        Map<Long, List<Schedule>> byTeacher = scheduleReadModelRepository.findVisibleBySemester(semesterId).stream()
+                .filter(s -> teacherIds.isEmpty() || teacherIds.contains(s.getLesson().getTeacher().getId()))
+                .collect(Collectors.groupingBy(s -> s.getLesson().getTeacher().getId()));
+
+        return byTeacher.values().stream()
+                .map(teacherSchedules -> buildTeacherScheduleFromMemory(semesterDTO, teacherSchedules))
+                .sorted(Comparator.comparing((ScheduleForTeacherDTO dto) -> dto.getTeacher().getSurname())
+                        .thenComparing(dto -> dto.getTeacher().getName()))
+                .toList();
+    }
+
+    private Map<Long, Map<DayOfWeek, Map<Long, Map<EvenOdd, Schedule>>>> groupByGroupDayPeriodWeek(List<Schedule> schedules) {
+        return schedules.stream()
                 .collect(Collectors.groupingBy(
                         s -> s.getLesson().getGroup().getId(),
                         Collectors.groupingBy(
@@ -589,27 +746,83 @@ public class ScheduleServiceImpl implements ScheduleService {
                                 )
                         )
                 ));
+    }
 
-        List<Group> groups = allSchedules.stream()
+    private List<Group> getGroupsInSortOrder(List<Schedule> schedules) {
+        return schedules.stream()
                 .map(s -> s.getLesson().getGroup())
                 .distinct()
                 .sorted(Comparator.comparingInt(Group::getSortOrder))
                 .toList();
+    }
 
-        ScheduleFullDTO scheduleFullDTO = new ScheduleFullDTO();
-        scheduleFullDTO.setSemester(semesterDTO);
+    private List<DaysOfWeekWithClassesForGroupDTO> buildDaysWithClassesFromMemory(
+            Map<DayOfWeek, Map<Long, Map<EvenOdd, Schedule>>> groupSchedules) {
 
-        List<ScheduleForGroupDTO> scheduleForGroupDTOList = groups.stream()
-                .map(group -> {
-                    ScheduleForGroupDTO dto = new ScheduleForGroupDTO();
-                    dto.setGroup(groupMapper.groupToGroupDTO(group));
-                    dto.setDays(buildDaysFromMemory(group.getId(), daysOfWeek, periods, grouped));
+        return new TreeMap<>(groupSchedules).entrySet().stream()
+                .map(entry -> {
+                    Set<PeriodDTO> periods = entry.getValue().values().stream()
+                            .map(periodSchedules -> periodSchedules.values().iterator().next().getPeriod())
+                            .sorted(Comparator.comparing(Period::getStartTime))
+                            .map(periodMapper::convertToDto)
+                            .collect(Collectors.toCollection(LinkedHashSet::new));
+                    DaysOfWeekWithClassesForGroupDTO dto = new DaysOfWeekWithClassesForGroupDTO();
+                    dto.setDay(entry.getKey());
+                    dto.setClasses(buildClassesFromMemory(entry.getKey(), periods, groupSchedules));
                     return dto;
                 })
                 .toList();
+    }
 
-        scheduleFullDTO.setSchedule(scheduleForGroupDTOList);
-        return scheduleFullDTO;
+    private ScheduleForTeacherDTO buildTeacherScheduleFromMemory(SemesterDTO semesterDTO, List<Schedule> teacherSchedules) {
+        ScheduleForTeacherDTO scheduleForTeacherDTO = new ScheduleForTeacherDTO();
+        scheduleForTeacherDTO.setSemester(semesterDTO);
+        scheduleForTeacherDTO.setTeacher(
+                teacherMapper.teacherToTeacherDTOWithoutEmail(teacherSchedules.get(0).getLesson().getTeacher()));
+
+        Map<DayOfWeek, List<Schedule>> byDay = teacherSchedules.stream()
+                .collect(Collectors.groupingBy(Schedule::getDayOfWeek, TreeMap::new, Collectors.toList()));
+
+        List<DaysOfWeekWithClassesForTeacherDTO> days = byDay.entrySet().stream()
+                .map(entry -> {
+                    DaysOfWeekWithClassesForTeacherDTO dto = new DaysOfWeekWithClassesForTeacherDTO();
+                    dto.setDay(entry.getKey());
+                    dto.setEvenWeek(buildTeacherWeekFromMemory(entry.getValue(), EvenOdd.EVEN));
+                    dto.setOddWeek(buildTeacherWeekFromMemory(entry.getValue(), EvenOdd.ODD));
+                    return dto;
+                })
+                .toList();
+
+        scheduleForTeacherDTO.setDays(days);
+        return scheduleForTeacherDTO;
+    }
+
+    private ClassesInScheduleForTeacherDTO buildTeacherWeekFromMemory(List<Schedule> daySchedules, EvenOdd evenOdd) {
+        Map<Period, List<Schedule>> byPeriod = daySchedules.stream()
+                .filter(s -> s.getEvenOdd() == evenOdd || s.getEvenOdd() == EvenOdd.WEEKLY)
+                .collect(Collectors.groupingBy(Schedule::getPeriod,
+                        () -> new TreeMap<>(Comparator.comparing(Period::getStartTime).thenComparing(Period::getId)),
+                        Collectors.toList()));
+
+        List<ClassForTeacherScheduleDTO> classes = byPeriod.entrySet().stream()
+                .map(entry -> {
+                    ClassForTeacherScheduleDTO dto = new ClassForTeacherScheduleDTO();
+                    dto.setPeriod(periodMapper.convertToDto(entry.getKey()));
+                    dto.setLessons(entry.getValue().stream()
+                            .map(s -> {
+                                LessonForTeacherScheduleDTO lessonDTO =
+                                        lessonForTeacherScheduleMapper.lessonToLessonForTeacherScheduleDTO(s.getLesson());
+                                lessonDTO.setRoom(s.getRoom().getName());
+                                return lessonDTO;
+                            })
+                            .toList());
+                    return dto;
+                })
+                .toList();
+
+        ClassesInScheduleForTeacherDTO classesInScheduleForTeacherDTO = new ClassesInScheduleForTeacherDTO();
+        classesInScheduleForTeacherDTO.setPeriods(classes);
+        return classesInScheduleForTeacherDTO;
     }
 
     private List<DaysOfWeekWithClassesForGroupDTO> buildDaysFromMemory(
@@ -712,6 +925,7 @@ public class ScheduleServiceImpl implements ScheduleService {
             Schedule saved = scheduleRepository.save(schedule);
             savedIds.add(saved.getId());
         }
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.SCHEDULE, savedIds);
 
         entityManager.flush();
         entityManager.clear();
@@ -747,6 +961,7 @@ public class ScheduleServiceImpl implements ScheduleService {
 
         schedule.setRoom(room);
         Schedule updated = scheduleRepository.update(schedule);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.SCHEDULE, List.of(scheduleId));
 
         // Evict caches after room change
         Lesson lesson = schedule.getLesson();
@@ -6,7 +6,9 @@ import com.softserve.entity.*;
 import com.softserve.exception.*;
 import com.softserve.mapper.SemesterMapper;
 import com.softserve.repository.*;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.service.PeriodService;
+import com.softserve.service.ScheduleReportService;
 import com.softserve.service.SemesterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,11 +31,13 @@ public class SemesterServiceImpl implements SemesterService {
 
     private final SemesterRepository semesterRepository;
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleReadModelRepository scheduleReadModelRepository;
     private final LessonRepository lessonRepository;
     private final GroupRepository groupRepository;
     private final PeriodService periodService;
     private final SemesterMapper semesterMapper;
     private final PeriodRepository periodRepository;
+    private final ScheduleReportService scheduleReportService;
 
     private static final List<DayOfWeek> WORK_DAYS = Arrays.asList(
             DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
@@ -88,7 +92,8 @@ public class SemesterServiceImpl implements SemesterService {
             @CacheEvict(value = "semesters", allEntries = true),
             @CacheEvict(value = "semestersList", allEntries = true),
             @CacheEvict(value = "currentSemester", allEntries = true),
-            @CacheEvict(value = "defaultSemester", allEntries = true)
+            @CacheEvict(value = "defaultSemester", allEntries = true),
+            @CacheEvict(value = "scheduleResponses", allEntries = true)
     })
     public SemesterWithGroupsDTO update(SemesterWithGroupsDTO semesterDTO) {
         log.debug("In update(semesterDTO = [{}])", semesterDTO);
@@ -106,6 +111,7 @@ public class SemesterServiceImpl implements SemesterService {
         handleCurrentSemester(semester);
         handleDefaultSemester(semester);
         Semester updated = semesterRepository.update(semester);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.SEMESTER, List.of(updated.getId()));
         return semesterMapper.semesterToSemesterWithGroupsDTO(updated);
     }
 
@@ -114,7 +120,8 @@ public class SemesterServiceImpl implements SemesterService {
             @CacheEvict(value = "semesters", allEntries = true),
             @CacheEvict(value = "semestersList", allEntries = true),
             @CacheEvict(value = "currentSemester", allEntries = true),
-            @CacheEvict(value = "defaultSemester", allEntries = true)
+            @CacheEvict(value = "defaultSemester", allEntries = true),
+            @CacheEvict(value = "scheduleResponses", allEntries = true)
     })
     public void delete(Long id) {
         log.debug("In delete(id = [{}])", id);
@@ -197,6 +204,8 @@ public class SemesterServiceImpl implements SemesterService {
             @CacheEvict(value = "semestersList", allEntries = true),
             @CacheEvict(value = "semesterSchedules", key = "#toSemesterId"),
             @CacheEvict(value = "scheduleDTO", key = "#toSemesterId"),
+            @CacheEvict(value = "scheduleCompactDTO", key = "#toSemesterId"),
+            @CacheEvict(value = "scheduleResponses", allEntries = true),
             @CacheEvict(value = "scheduleForGroup", allEntries = true),
             @CacheEvict(value = "scheduleForTeacher", allEntries = true)
     })
@@ -212,6 +221,8 @@ public class SemesterServiceImpl implements SemesterService {
 
         copyContent(fromSemester, toSemester);
         copySchedules(schedules, copyLessons(schedules, toSemester));
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.SEMESTER, List.of(toSemesterId));
+        scheduleReportService.invalidate(toSemesterId);
 
         Semester updated = semesterRepository.update(toSemester);
         return semesterMapper.semesterToSemesterWithGroupsDTO(updated);
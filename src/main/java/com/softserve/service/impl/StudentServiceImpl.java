@@ -1,6 +1,7 @@
 package com.softserve.service.impl;
 
 import com.softserve.dto.GroupDTO;
+import com.softserve.dto.PageDTO;
 import com.softserve.dto.StudentDTO;
 import com.softserve.dto.StudentImportDTO;
 import com.softserve.dto.enums.ImportSaveStatus;
@@ -20,10 +21,10 @@ import com.softserve.service.StudentService;
 import com.softserve.service.UserService;
 import com.softserve.util.Constants;
 import com.softserve.util.CsvFileParser;
+import com.softserve.util.KeysetCursor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -38,6 +39,8 @@ import java.util.concurrent.CompletableFuture;
 @Service
 public class StudentServiceImpl implements StudentService {
 
+    private static final int IMPORT_CHUNK_SIZE = 50;
+
     private final StudentRepository studentRepository;
 
     private final GroupService groupService;
@@ -78,6 +81,19 @@ public class StudentServiceImpl implements StudentService {
         return studentRepository.getAll();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public PageDTO<StudentDTO> getPage(Long groupId, Long semesterId, String text, String cursor, int size) {
+        log.info("Enter into getPage method with groupId = {}, semesterId = {}, text = {}, cursor = {}, size = {}",
+                groupId, semesterId, text, cursor, size);
+        int pageSize = KeysetCursor.pageSize(size);
+        return PageDTO.of(studentRepository.getPage(groupId, semesterId, text, KeysetCursor.decode(cursor), pageSize),
+                pageSize, student -> new KeysetCursor(student.getSurname(), student.getId()));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -162,19 +178,34 @@ public class StudentServiceImpl implements StudentService {
      */
     @Override
     @Transactional
-    @Async
     public CompletableFuture<List<StudentImportDTO>> saveFromFile(MultipartFile file, Long groupId) {
         log.info("Enter into saveFromFile of StudentServiceImpl with groupId {}", groupId);
 
-        List<StudentImportDTO> students = CsvFileParser.getStudentsFromFile(file);
-
         List<StudentImportDTO> savedStudents = new ArrayList<>();
 
+        CsvFileParser.importInChunks(file, StudentImportDTO.class, IMPORT_CHUNK_SIZE,
+                chunk -> saveStudents(groupId, chunk),
+                e -> {
+                    log.warn("Skipping line {} of students file: {}", e.getLineNumber(), e.getMessage());
+                    return StudentImportDTO.lineError(e.getLineNumber(), e.getMessage());
+                },
+                savedStudents::addAll);
+        return CompletableFuture.completedFuture(savedStudents);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<StudentImportDTO> saveStudents(Long groupId, List<StudentImportDTO> students) {
+        log.info("Enter into saveStudents of StudentServiceImpl with groupId {} and {} students", groupId, students.size());
+        List<StudentImportDTO> savedStudents = new ArrayList<>(students.size());
         for (StudentImportDTO student : students) {
-            StudentImportDTO test = saveStudentFromFile(groupId, student);
-            savedStudents.add(test);
+            savedStudents.add(saveStudentFromFile(groupId, student));
         }
-        return CompletableFuture.completedFuture(savedStudents);
+        studentRepository.flushAndClear();
+        return savedStudents;
     }
 
     public StudentImportDTO saveStudentFromFile(Long groupId, StudentImportDTO student) {
@@ -6,6 +6,7 @@ import com.softserve.entity.Subject;
 import com.softserve.exception.EntityNotFoundException;
 import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.mapper.SubjectMapper;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.SubjectRepository;
 import com.softserve.service.SubjectService;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ public class SubjectServiceImpl implements SubjectService {
 
     private final SubjectRepository subjectRepository;
     private final SubjectMapper subjectMapper;
+    private final ScheduleReadModelRepository scheduleReadModelRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -69,6 +71,7 @@ public class SubjectServiceImpl implements SubjectService {
 
         Subject subject = subjectMapper.subjectDTOToSubject(subjectDTO);
         Subject updated = subjectRepository.update(subject);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.SUBJECT, List.of(updated.getId()));
         return subjectMapper.subjectToSubjectDTO(updated);
     }
 
@@ -1,5 +1,6 @@
 package com.softserve.service.impl;
 
+import com.softserve.dto.PageDTO;
 import com.softserve.dto.TeacherDTO;
 import com.softserve.dto.TeacherForUpdateDTO;
 import com.softserve.dto.TeacherImportDTO;
@@ -15,11 +16,13 @@ import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.exception.FieldNullException;
 import com.softserve.mapper.TeacherMapper;
 import com.softserve.repository.DepartmentRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.StudentRepository;
 import com.softserve.repository.TeacherRepository;
 import com.softserve.service.TeacherService;
 import com.softserve.service.UserService;
 import com.softserve.util.CsvFileParser;
+import com.softserve.util.KeysetCursor;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,8 +32,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -38,11 +49,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TeacherServiceImpl implements TeacherService {
 
+    private static final int IMPORT_CHUNK_SIZE = 50;
+
     private final TeacherRepository teacherRepository;
     private final UserService userService;
     private final DepartmentRepository departmentRepository;
     private final TeacherMapper teacherMapper;
     private final StudentRepository studentRepository;
+    private final ScheduleReadModelRepository scheduleReadModelRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -62,6 +76,16 @@ public class TeacherServiceImpl implements TeacherService {
         return teacherMapper.teachersToTeacherDTOs(teachers);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<TeacherDTO> getPage(Long departmentId, String text, String cursor, int size) {
+        log.info("Getting page of teachers, departmentId: {}, text: {}, cursor: {}, size: {}",
+                departmentId, text, cursor, size);
+        int pageSize = KeysetCursor.pageSize(size);
+        return PageDTO.of(teacherRepository.getPage(departmentId, text, KeysetCursor.decode(cursor), pageSize),
+                pageSize, teacher -> new KeysetCursor(teacher.getSurname(), teacher.getId()));
+    }
+
     @Override
     @CacheEvict(value = {"teachers", "teachersList"}, allEntries = true)
     public TeacherDTO save(TeacherDTO teacherDTO) {
@@ -84,6 +108,7 @@ public class TeacherServiceImpl implements TeacherService {
 
         if (isEmailNullOrEmpty(teacherForUpdateDTO.getEmail())) {
             Teacher updated = teacherRepository.update(teacher);
+            scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.TEACHER, List.of(updated.getId()));
             return teacherMapper.teacherToTeacherForUpdateDTO(updated);
         }
 
@@ -98,6 +123,7 @@ public class TeacherServiceImpl implements TeacherService {
         }
 
         Teacher updated = teacherRepository.update(teacher);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.TEACHER, List.of(updated.getId()));
         return teacherMapper.teacherToTeacherForUpdateDTO(updated);
     }
 
@@ -133,12 +159,32 @@ public class TeacherServiceImpl implements TeacherService {
     }
 
     @Override
+    @CacheEvict(value = {"teachers", "teachersList"}, allEntries = true)
     public List<TeacherImportDTO> saveFromFile(MultipartFile file, Long departmentId) {
         log.info("Importing teachers from file for department: {}", departmentId);
-        List<TeacherImportDTO> teachers = CsvFileParser.getTeachersFromFile(file);
-        return teachers.stream()
-                .map(teacher -> saveTeacher(departmentId, teacher))
-                .toList();
+        Department department = findDepartmentById(departmentId);
+        List<TeacherImportDTO> importedTeachers = new ArrayList<>();
+        CsvFileParser.importInChunks(file, TeacherImportDTO.class, IMPORT_CHUNK_SIZE,
+                chunk -> saveTeachersChunk(department, chunk),
+                e -> {
+                    log.warn("Skipping line {} of teachers file: {}", e.getLineNumber(), e.getMessage());
+                    return TeacherImportDTO.lineError(e.getLineNumber(), e.getMessage());
+                },
+                importedTeachers::addAll);
+        return importedTeachers;
+    }
+
+    @Override
+    @CacheEvict(value = {"teachers", "teachersList"}, allEntries = true)
+    public List<TeacherImportDTO> saveTeachers(Long departmentId, List<TeacherImportDTO> teachers) {
+        log.info("Importing {} teachers for department: {}", teachers.size(), departmentId);
+        Department department = findDepartmentById(departmentId);
+        List<TeacherImportDTO> importedTeachers = new ArrayList<>(teachers.size());
+        for (int from = 0; from < teachers.size(); from += IMPORT_CHUNK_SIZE) {
+            List<TeacherImportDTO> chunk = teachers.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, teachers.size()));
+            importedTeachers.addAll(saveTeachersChunk(department, chunk));
+        }
+        return importedTeachers;
     }
 
     @Override
@@ -179,6 +225,7 @@ public class TeacherServiceImpl implements TeacherService {
                 .orElseThrow(() -> new EntityNotFoundException(Teacher.class, "userId", String.valueOf(userId)));
         teacher.setUserId(null);
         teacherRepository.update(teacher);
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.TEACHER, List.of(teacher.getId()));
     }
 
     @Override
@@ -193,11 +240,136 @@ public class TeacherServiceImpl implements TeacherService {
                 .orElse(null);
     }
 
+    /**
+     * Saves one chunk of imported teachers. Users and teachers referenced by the chunk are loaded
+     * with two set-based queries, so rows are resolved in memory instead of querying per row.
+     * The read model rows of the existing teachers the chunk has changed are rewritten once for the chunk,
+     * then the session is flushed and cleared to keep the persistence context small.
+     *
+     * @param department the department for the imported teachers
+     * @param chunk      the teachers to import
+     * @return the list of imported teachers with status, in the order of the chunk
+     */
+    private List<TeacherImportDTO> saveTeachersChunk(Department department, List<TeacherImportDTO> chunk) {
+        List<String> emails = chunk.stream()
+                .map(TeacherImportDTO::getEmail)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, User> usersByEmail = userService.findAllByEmails(emails).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity(), (first, second) -> first, HashMap::new));
+
+        List<String> surnames = chunk.stream()
+                .map(TeacherImportDTO::getSurname)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<TeacherFullName, Teacher> teachersByFullName = surnames.isEmpty()
+                ? new HashMap<>()
+                : teacherRepository.getExistingTeachersBySurnames(surnames).stream()
+                .collect(Collectors.toMap(TeacherFullName::of, Function.identity(), (first, second) -> first, HashMap::new));
+
+        List<TeacherImportDTO> importedTeachers = new ArrayList<>(chunk.size());
+        Set<Long> updatedTeacherIds = new HashSet<>();
+        for (TeacherImportDTO teacher : chunk) {
+            importedTeachers.add(importTeacher(department, teacher, usersByEmail, teachersByFullName, updatedTeacherIds));
+        }
+        scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.TEACHER, updatedTeacherIds);
+        teacherRepository.flushAndClear();
+        return importedTeachers;
+    }
+
+    /**
+     * Imports a single teacher using the users and teachers preloaded for its chunk.
+     * Newly registered users and saved teachers are put back into the maps,
+     * so duplicated rows within a chunk are resolved the same way as with per-row lookups.
+     * The ids of existing teachers whose user or department is set are added to {@code updatedTeacherIds}.
+     */
+    private TeacherImportDTO importTeacher(Department department, TeacherImportDTO teacher,
+                                           Map<String, User> usersByEmail,
+                                           Map<TeacherFullName, Teacher> teachersByFullName,
+                                           Set<Long> updatedTeacherIds) {
+        try {
+            Teacher newTeacher = teacherMapper.teacherImportDTOToTeacherWithoutUser(teacher);
+            TeacherFullName fullName = TeacherFullName.of(newTeacher);
+            User user = usersByEmail.get(teacher.getEmail());
+            Teacher existingTeacher = teachersByFullName.get(fullName);
+
+            if (user == null) {
+                user = userService.automaticRegistration(teacher.getEmail(), Role.ROLE_TEACHER);
+                usersByEmail.put(teacher.getEmail(), user);
+            } else if (existingTeacher != null) {
+                return fillEmptyFieldsOfImportedTeacher(existingTeacher, user, department, updatedTeacherIds);
+            }
+
+            ImportSaveStatus status;
+            Teacher importedTeacher;
+            if (existingTeacher == null) {
+                newTeacher.setUserId(user.getId());
+                newTeacher.setDepartment(department);
+                importedTeacher = teacherRepository.save(newTeacher);
+                teachersByFullName.put(fullName, importedTeacher);
+                status = ImportSaveStatus.SAVED;
+            } else {
+                existingTeacher.setUserId(user.getId());
+                if (existingTeacher.getDepartment() == null) {
+                    existingTeacher.setDepartment(department);
+                }
+                updatedTeacherIds.add(existingTeacher.getId());
+                importedTeacher = existingTeacher;
+                status = ImportSaveStatus.ALREADY_EXIST;
+            }
+
+            TeacherImportDTO importedTeacherDTO = teacherMapper.teacherToTeacherImportDTOWithoutEmail(importedTeacher);
+            importedTeacherDTO.setEmail(teacher.getEmail());
+            importedTeacherDTO.setImportSaveStatus(status);
+            return importedTeacherDTO;
+        } catch (ConstraintViolationException e) {
+            teacher.setImportSaveStatus(ImportSaveStatus.VALIDATION_ERROR);
+            log.error("Error occurred while saving teacher with email {}", teacher.getEmail(), e);
+            return teacher;
+        }
+    }
+
+    private TeacherImportDTO fillEmptyFieldsOfImportedTeacher(Teacher existingTeacher, User user, Department department,
+                                                              Set<Long> updatedTeacherIds) {
+        if (existingTeacher.getDepartment() == null) {
+            existingTeacher.setDepartment(department);
+            updatedTeacherIds.add(existingTeacher.getId());
+        }
+        if (existingTeacher.getUserId() == null) {
+            existingTeacher.setUserId(user.getId());
+            updatedTeacherIds.add(existingTeacher.getId());
+        }
+
+        TeacherImportDTO existedTeacher = teacherMapper.teacherToTeacherImportDTOWithoutEmail(existingTeacher);
+        existedTeacher.setEmail(existingTeacher.getUserId().equals(user.getId())
+                ? user.getEmail()
+                : userService.getById(existingTeacher.getUserId()).getEmail());
+        existedTeacher.setImportSaveStatus(ImportSaveStatus.ALREADY_EXIST);
+        log.warn("Teacher with email {} already exists", user.getEmail());
+        return existedTeacher;
+    }
+
+    private record TeacherFullName(String name, String surname, String patronymic, String position) {
+
+        static TeacherFullName of(Teacher teacher) {
+            return new TeacherFullName(teacher.getName(), teacher.getSurname(),
+                    teacher.getPatronymic(), teacher.getPosition());
+        }
+    }
+
     private Teacher findTeacherById(Long id) {
         return teacherRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(Teacher.class, "id", id.toString()));
     }
 
+    private Department findDepartmentById(Long departmentId) {
+        return departmentRepository.findById(departmentId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        Department.class, "id", departmentId.toString()));
+    }
+
     private Teacher registerTeacher(Teacher teacher, String email) {
         log.debug("Registering teacher with email: {}", email);
 
@@ -275,6 +447,7 @@ public class TeacherServiceImpl implements TeacherService {
             }
 
             teacherRepository.update(registeredTeacher);
+            scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.TEACHER, List.of(registeredTeacher.getId()));
             TeacherImportDTO savedTeacher = teacherMapper.teacherToTeacherImportDTO(registeredTeacher);
             savedTeacher.setEmail(teacher.getEmail());
             savedTeacher.setImportSaveStatus(ImportSaveStatus.ALREADY_EXIST);
@@ -309,6 +482,7 @@ public class TeacherServiceImpl implements TeacherService {
                     existingTeacher.setUserId(userOptional.get().getId());
                 }
                 teacherRepository.update(existingTeacher);
+                scheduleReadModelRepository.refresh(ScheduleReadModelRepository.Scope.TEACHER, List.of(existingTeacher.getId()));
             }
 
             TeacherImportDTO existedTeacher = teacherMapper.teacherToTeacherImportDTO(existingTeacher);
@@ -0,0 +1,86 @@
+package com.softserve.service.impl;
+
+import com.softserve.repository.UserRepository;
+import com.softserve.service.TokenVersionService;
+import com.softserve.util.PrimaryReads;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.LocalCachedMapOptions;
+import org.redisson.api.RLocalCachedMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the token versions in a Redis map with a local near cache on every instance. A read is served
+ * from memory; a change is published by Redis to all instances, which drop their local copy. The users
+ * table stays the source of truth: versions missing in Redis are loaded from it.
+ */
+@Slf4j
+@Service
+public class TokenVersionServiceImpl implements TokenVersionService {
+
+    private static final String KEY_VERSIONS = "user:token-version";
+    private static final long UNKNOWN_USER = -1;
+
+    private final UserRepository userRepository;
+    private final RLocalCachedMap<Long, Long> versions;
+    private final TransactionTemplate readTransaction;
+
+    public TokenVersionServiceImpl(UserRepository userRepository, RedissonClient redissonClient,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.jwt.token.version-cache-size:10000}") int cacheSize) {
+        this.userRepository = userRepository;
+        this.versions = redissonClient.getLocalCachedMap(KEY_VERSIONS, LongCodec.INSTANCE,
+                LocalCachedMapOptions.<Long, Long>defaults()
+                        .cacheSize(cacheSize)
+                        .evictionPolicy(LocalCachedMapOptions.EvictionPolicy.LRU)
+                        .syncStrategy(LocalCachedMapOptions.SyncStrategy.INVALIDATE)
+                        .reconnectionStrategy(LocalCachedMapOptions.ReconnectionStrategy.CLEAR));
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion(Long userId) {
+        Long version = versions.get(userId);
+        if (version == null) {
+            // a transaction is opened only on a miss, a hit must not take a database connection;
+            // the primary is read, a replica behind a revoke would let the revoked tokens back in
+            version = PrimaryReads.call(() -> readTransaction.execute(
+                    status -> userRepository.findTokenVersion(userId).orElse(UNKNOWN_USER)));
+            // a concurrent revoke may already have stored a newer version, do not overwrite it
+            versions.fastPutIfAbsent(userId, version);
+        }
+        return version;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void revoke(Long userId) {
+        log.info("In revoke(userId = [{}])", userId);
+        userRepository.incrementTokenVersion(userId);
+        long version = userRepository.findTokenVersion(userId).orElse(UNKNOWN_USER);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    versions.fastPut(userId, version);
+                } catch (RuntimeException e) {
+                    log.error("Failed to publish token version {} of user {}: {}", version, userId, e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package com.softserve.service.impl;
 
+import com.softserve.dto.PageDTO;
+import com.softserve.dto.UserDTO;
 import com.softserve.entity.User;
 import com.softserve.entity.enums.Role;
 import com.softserve.exception.EntityNotFoundException;
@@ -8,8 +10,10 @@ import com.softserve.exception.IncorrectEmailException;
 import com.softserve.exception.IncorrectPasswordException;
 import com.softserve.repository.UserRepository;
 import com.softserve.service.MailService;
+import com.softserve.service.TokenVersionService;
 import com.softserve.service.UserService;
 import com.softserve.util.Constants;
+import com.softserve.util.KeysetCursor;
 import com.softserve.util.PasswordGeneratingUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +28,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -57,15 +62,18 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final MailService mailService;
+    private final TokenVersionService tokenVersionService;
 
     @Value("${app.backend.url}")
     private String url;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, MailService mailService) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, MailService mailService,
+                           TokenVersionService tokenVersionService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.mailService = mailService;
+        this.tokenVersionService = tokenVersionService;
     }
 
     /**
@@ -88,6 +96,18 @@ public class UserServiceImpl implements UserService {
         return userRepository.getAll();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<UserDTO> getPage(Role role, String text, String cursor, int size) {
+        log.info("Enter into getPage method with role = {}, text = {}, cursor = {}, size = {}", role, text, cursor, size);
+        int pageSize = KeysetCursor.pageSize(size);
+        return PageDTO.of(userRepository.getPage(role, text, KeysetCursor.decode(cursor), pageSize),
+                pageSize, user -> new KeysetCursor(user.getEmail(), user.getId()));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -118,7 +138,10 @@ public class UserServiceImpl implements UserService {
                 throw new FieldAlreadyExistsException(User.class, Constants.EMAIL, object.getEmail());
             }
         });
-        return userRepository.update(object);
+        User updated = userRepository.update(object);
+        // role, email or password may have changed, tokens issued before must not be accepted anymore
+        tokenVersionService.revoke(object.getId());
+        return updated;
     }
 
     /**
@@ -128,6 +151,7 @@ public class UserServiceImpl implements UserService {
     @CacheEvict(value = "userByEmail", key = "#object.email")
     public User delete(User object) {
         log.info("Enter into delete method with entity:{}", object);
+        tokenVersionService.revoke(object.getId());
         return userRepository.delete(object);
     }
 
@@ -197,6 +221,7 @@ public class UserServiceImpl implements UserService {
             String password = PasswordGeneratingUtil.generatePassword();
             user.setPassword(passwordEncoder.encode(password));
             userRepository.update(user);
+            tokenVersionService.revoke(user.getId());
 
             String message = "Hello, " + user.getEmail() + ".\n" +
                     "You received this email because you requested to reset your password.\n" +
@@ -226,6 +251,18 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByEmail(email);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<User> findAllByEmails(Collection<String> emails) {
+        log.info("Enter into findAllByEmails method with {} emails", emails.size());
+        if (emails.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findAllByEmails(emails);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,40 @@
+package com.softserve.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Gives one request a longer async timeout than {@code spring.mvc.async.request-timeout}, for a response
+ * such as a {@code StreamingResponseBody} that may take minutes to write. The timeout is set on the request
+ * right before its async processing starts, the other async requests keep the default.
+ */
+public class AsyncRequestTimeout implements CallableProcessingInterceptor {
+
+    private final Duration timeout;
+
+    public AsyncRequestTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Applies the timeout to the async processing the handler of the request starts.
+     *
+     * @param request the request being handled
+     */
+    public void applyTo(HttpServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(AsyncRequestTimeout.class.getName(), this);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(timeout.toMillis());
+        }
+    }
+}
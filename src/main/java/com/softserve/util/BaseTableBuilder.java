@@ -1,22 +1,21 @@
 package com.softserve.util;
 
-import com.itextpdf.text.BaseColor;
 import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Font;
 import com.itextpdf.text.Phrase;
-import com.itextpdf.text.pdf.BaseFont;
 import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
+import com.softserve.dto.PeriodDTO;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.IOException;
 import java.time.DayOfWeek;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
 
 /**
  * Base class for the several table builder types supported.
+ * Builders keep no state between tables, so one builder can be used by several threads at once.
  */
 public abstract class BaseTableBuilder {
 
@@ -25,10 +24,10 @@ public abstract class BaseTableBuilder {
     protected static final String COMA_SEPARATOR = ", ";
     protected static final float MAX_COLUMN_WIDTH = 7f;
     protected static final float FIRST_COLUMN_WIDTH_COMPARED_TO_OTHER = 0.5f;
+    protected static final DateTimeFormatter PERIOD_TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
     protected final Translator translator;
-    protected final Style style = new Style();
-    protected final BaseFont baseFont;
+    protected final Style style;
     protected final Font cellFont;
     protected final Font linkFont;
     protected final Font titleFont;
@@ -37,17 +36,15 @@ public abstract class BaseTableBuilder {
     /**
      * Constructs a BaseTableBuilder.
      *
-     * @throws IOException       when the font file could not be read
-     * @throws DocumentException when the font is invalid
+     * @param context the shared fonts, styles and translations
      */
-    protected BaseTableBuilder() throws DocumentException, IOException {
-        this.baseFont = BaseFont.createFont(Objects.requireNonNull(getClass().getClassLoader()
-                .getResource("font/times.ttf")).toString(), BaseFont.IDENTITY_H, BaseFont.NOT_EMBEDDED);
-        this.cellFont = new Font(baseFont, 11, Font.NORMAL, BaseColor.BLACK);
-        this.linkFont = new Font(baseFont, 11, Font.NORMAL, BaseColor.BLUE);
-        this.titleFont = new Font(baseFont, 14, Font.BOLD, BaseColor.WHITE);
-        this.headFont = new Font(baseFont, 12, Font.BOLD, BaseColor.BLACK);
-        this.translator = Translator.getInstance();
+    protected BaseTableBuilder(ReportRenderingContext context) {
+        this.cellFont = context.getCellFont();
+        this.linkFont = context.getLinkFont();
+        this.titleFont = context.getTitleFont();
+        this.headFont = context.getHeadFont();
+        this.style = context.getStyle();
+        this.translator = context.getTranslator();
     }
 
     /**
@@ -72,6 +69,20 @@ public abstract class BaseTableBuilder {
         return table;
     }
 
+    /**
+     * Method used for creating the first cell of a table row, with the name and the time of the period.
+     *
+     * @param period the period of the row
+     * @return PdfPCell with the period
+     */
+    protected PdfPCell createPeriodCell(PeriodDTO period) {
+        PdfPCell cell = new PdfPCell(new Phrase(period.getName() + "\n\n"
+                + period.getStartTime().format(PERIOD_TIME_FORMATTER)
+                + "-" + period.getEndTime().format(PERIOD_TIME_FORMATTER), headFont));
+        style.periodCellStyle(cell);
+        return cell;
+    }
+
     /**
      * Method used for creating header cells for table.
      *
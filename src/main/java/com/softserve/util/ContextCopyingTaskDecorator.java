@@ -0,0 +1,63 @@
+package com.softserve.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a task with the logging context and the security context of the thread that submitted it,
+ * and restores the worker's own afterwards, so pooled threads do not leak one task's user into the next.
+ * Records how long tasks waited for a thread and how long they ran, tagged with the executor name.
+ */
+public class ContextCopyingTaskDecorator implements TaskDecorator {
+
+    private final Timer wait;
+    private final Timer execution;
+
+    public ContextCopyingTaskDecorator(String executor, MeterRegistry registry) {
+        this.wait = Timer.builder("app.async.task.wait")
+                .description("Time from submitting a task until a thread starts it")
+                .tag("executor", executor)
+                .register(registry);
+        this.execution = Timer.builder("app.async.task.execution")
+                .description("Time a task runs")
+                .tag("executor", executor)
+                .register(registry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        Map<String, String> logContext = MDC.getCopyOfContextMap();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        long submitted = System.nanoTime();
+        return () -> {
+            long started = System.nanoTime();
+            wait.record(started - submitted, TimeUnit.NANOSECONDS);
+            Map<String, String> previousLogContext = MDC.getCopyOfContextMap();
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            setLogContext(logContext);
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                task.run();
+            } finally {
+                SecurityContextHolder.setContext(previousSecurityContext);
+                setLogContext(previousLogContext);
+                execution.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private static void setLogContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -1,21 +1,27 @@
 package com.softserve.util;
 
 import com.opencsv.bean.CsvToBeanBuilder;
-import com.softserve.dto.StudentImportDTO;
-import com.softserve.dto.TeacherImportDTO;
+import com.opencsv.exceptions.CsvException;
 import com.softserve.exception.ParseFileException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileReader;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
 public final class CsvFileParser {
@@ -23,63 +29,184 @@ public final class CsvFileParser {
     private CsvFileParser() {
     }
 
-    public static List<StudentImportDTO> getStudentsFromFile(MultipartFile file) {
-        String fileName = String.join("", "students_",
-                String.valueOf(LocalDateTime.now().getNano()), ".csv");
-
-        File csvFile = new File(fileName);
-
-        List<StudentImportDTO> students = new ArrayList<>();
-        try {
-            file.transferTo(csvFile);
-
-            try (Reader reader = new FileReader(csvFile, StandardCharsets.UTF_8)) {
-                students = new CsvToBeanBuilder<StudentImportDTO>(reader)
-                        .withType(StudentImportDTO.class)
-                        .build().parse();
-            }
-        } catch (RuntimeException e) {
-            log.error("Error occurred while parsing file {}", csvFile.getName(), e);
-            throw new ParseFileException("Bad file format");
+    /**
+     * Reads the rows of the given csv file straight from the upload stream and passes them
+     * to the consumer in chunks, so at most one chunk of beans is held in memory at a time.
+     * Lines that cannot be mapped to the bean are reported to the error consumer and skipped,
+     * the rest of the file is still processed.
+     *
+     * @param file               the uploaded csv file with a header line
+     * @param type               the type of the bean a row is mapped to
+     * @param chunkSize          the maximum number of rows in one chunk
+     * @param chunkConsumer      the consumer of parsed rows, called in file order
+     * @param lineErrorConsumer  the consumer of line-level errors, with line number and raw line
+     * @param <T>                the type of the bean
+     * @throws ParseFileException if the file is not a csv file with a valid header
+     */
+    public static <T> void parseInChunks(MultipartFile file, Class<T> type, int chunkSize,
+                                         Consumer<List<T>> chunkConsumer,
+                                         Consumer<CsvException> lineErrorConsumer) {
+        try (InputStream inputStream = file.getInputStream()) {
+            parseInChunks(inputStream, file.getOriginalFilename(), type, chunkSize, chunkConsumer, lineErrorConsumer);
         } catch (IOException e) {
-            log.error("Error occurred while accessing to file {}", csvFile.getName(), e);
-        } finally {
-            fileDelete(csvFile);
+            log.error("Error occurred while accessing to file {}", file.getOriginalFilename(), e);
         }
-        return students;
     }
 
-    private static void fileDelete(File file) {
-        try {
-            Files.delete(file.toPath());
+    /**
+     * Imports the rows of the given csv file chunk by chunk and passes the results to the consumer in file order.
+     * Every chunk is imported by {@code chunkImporter}, which returns one result per row in the order of the chunk.
+     * The results of lines that cannot be mapped to the bean are put between them where the lines were,
+     * so the results of one chunk line up with its part of the file.
+     *
+     * @param file           the uploaded csv file with a header line
+     * @param type           the type of the bean a row is mapped to
+     * @param chunkSize      the maximum number of rows in one chunk
+     * @param chunkImporter  the importer of parsed rows, returns one result per row
+     * @param lineError      maps a line-level error, with line number and raw line, to its result
+     * @param resultConsumer the consumer of the results of every chunk, called in file order
+     * @param <T>            the type of the bean
+     * @param <R>            the type of the result of a row
+     * @throws ParseFileException if the file is not a csv file with a valid header
+     */
+    public static <T, R> void importInChunks(MultipartFile file, Class<T> type, int chunkSize,
+                                             Function<List<T>, List<R>> chunkImporter,
+                                             Function<CsvException, R> lineError,
+                                             Consumer<List<R>> resultConsumer) {
+        try (InputStream inputStream = file.getInputStream()) {
+            importInChunks(inputStream, file.getOriginalFilename(), type, chunkSize,
+                    chunkImporter, lineError, resultConsumer);
         } catch (IOException e) {
-            log.error("Error occurred while delete file {}", file.getName(), e);
+            log.error("Error occurred while accessing to file {}", file.getOriginalFilename(), e);
         }
     }
 
-    public static List<TeacherImportDTO> getTeachersFromFile(MultipartFile file) {
-        String fileName = String.join("", "teachers_",
-                String.valueOf(LocalDateTime.now().getNano()), ".csv");
+    /**
+     * Imports the rows of csv content from the given stream chunk by chunk and passes the results
+     * to the consumer in file order. The stream is not closed by this method.
+     *
+     * @param inputStream    the csv content with a header line
+     * @param fileName       the name of the file, used for logging
+     * @param type           the type of the bean a row is mapped to
+     * @param chunkSize      the maximum number of rows in one chunk
+     * @param chunkImporter  the importer of parsed rows, returns one result per row
+     * @param lineError      maps a line-level error, with line number and raw line, to its result
+     * @param resultConsumer the consumer of the results of every chunk, called in file order
+     * @param <T>            the type of the bean
+     * @param <R>            the type of the result of a row
+     * @throws ParseFileException if the content is not csv with a valid header
+     * @see #importInChunks(MultipartFile, Class, int, Function, Function, Consumer)
+     */
+    public static <T, R> void importInChunks(InputStream inputStream, String fileName, Class<T> type, int chunkSize,
+                                             Function<List<T>, List<R>> chunkImporter,
+                                             Function<CsvException, R> lineError,
+                                             Consumer<List<R>> resultConsumer) {
+        readInChunks(inputStream, fileName, type, chunkSize, (chunk, skipped) -> {
+            List<R> imported = chunk.isEmpty() ? List.of() : chunkImporter.apply(chunk);
+            if (imported.size() != chunk.size()) {
+                throw new IllegalStateException("Imported " + imported.size() + " results for " + chunk.size() + " rows");
+            }
+            List<R> results = new ArrayList<>(imported.size() + skipped.size());
+            int row = 0;
+            for (SkippedLine line : skipped) {
+                while (row < line.position()) {
+                    results.add(imported.get(row++));
+                }
+                results.add(lineError.apply(line.error()));
+            }
+            results.addAll(imported.subList(row, imported.size()));
+            resultConsumer.accept(results);
+        });
+    }
 
-        File csvFile = new File(fileName);
+    /**
+     * Reads the rows of csv content from the given stream and passes them to the consumer in chunks.
+     * The stream is not closed by this method.
+     *
+     * @param inputStream        the csv content with a header line
+     * @param fileName           the name of the file, used for logging
+     * @param type               the type of the bean a row is mapped to
+     * @param chunkSize          the maximum number of rows in one chunk
+     * @param chunkConsumer      the consumer of parsed rows, called in file order
+     * @param lineErrorConsumer  the consumer of line-level errors, with line number and raw line
+     * @param <T>                the type of the bean
+     * @throws ParseFileException if the content is not csv with a valid header
+     * @see #parseInChunks(MultipartFile, Class, int, Consumer, Consumer)
+     */
+    public static <T> void parseInChunks(InputStream inputStream, String fileName, Class<T> type, int chunkSize,
+                                         Consumer<List<T>> chunkConsumer,
+                                         Consumer<CsvException> lineErrorConsumer) {
+        readInChunks(inputStream, fileName, type, chunkSize, (chunk, skipped) -> {
+            skipped.forEach(line -> lineErrorConsumer.accept(line.error()));
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
+        });
+    }
 
-        List<TeacherImportDTO> teachers = new ArrayList<>();
-        try {
-            file.transferTo(csvFile);
+    /**
+     * Passes every chunk of rows to the consumer together with the lines skipped before and between its rows,
+     * and the lines skipped after the last row with the last chunk. The iterator of opencsv reads one row ahead,
+     * so a skipped line is placed by the number of rows mapped before it, which the verifier counts in file order.
+     */
+    private static <T> void readInChunks(InputStream inputStream, String fileName, Class<T> type, int chunkSize,
+                                         BiConsumer<List<T>, List<SkippedLine>> chunkConsumer) {
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        AtomicLong rowsMapped = new AtomicLong();
+        Deque<SkippedLine> skipped = new ArrayDeque<>();
+        Iterator<T> rows = parse(fileName, () -> new CsvToBeanBuilder<T>(reader)
+                .withType(type)
+                .withVerifier(bean -> {
+                    rowsMapped.incrementAndGet();
+                    return true;
+                })
+                .withExceptionHandler(e -> {
+                    skipped.add(new SkippedLine(rowsMapped.get(), e));
+                    return null;
+                })
+                .build()
+                .iterator());
 
-            try (Reader reader = new FileReader(csvFile, StandardCharsets.UTF_8)) {
-                teachers = new CsvToBeanBuilder<TeacherImportDTO>(reader)
-                        .withType(TeacherImportDTO.class)
-                        .build().parse();
+        long chunkStart = 0;
+        List<T> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            chunk.add(parse(fileName, rows::next));
+            if (chunk.size() == chunkSize) {
+                chunkConsumer.accept(chunk, takeSkipped(skipped, chunkStart, chunkStart + chunkSize));
+                chunkStart += chunkSize;
+                chunk = new ArrayList<>(chunkSize);
             }
+        }
+        if (!chunk.isEmpty() || !skipped.isEmpty()) {
+            chunkConsumer.accept(chunk, takeSkipped(skipped, chunkStart, Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Takes the lines skipped before the row {@code chunkEnd}, with their positions made relative to {@code chunkStart}.
+     */
+    private static List<SkippedLine> takeSkipped(Deque<SkippedLine> skipped, long chunkStart, long chunkEnd) {
+        List<SkippedLine> taken = new ArrayList<>();
+        while (!skipped.isEmpty() && skipped.peek().position() < chunkEnd) {
+            SkippedLine line = skipped.poll();
+            taken.add(new SkippedLine(line.position() - chunkStart, line.error()));
+        }
+        return taken;
+    }
+
+    /**
+     * A line that cannot be mapped to the bean and the number of rows before it, counted from the start
+     * of the file while reading and from the start of its chunk once taken.
+     */
+    private record SkippedLine(long position, CsvException error) {
+    }
+
+    private static <R> R parse(String fileName, Supplier<R> step) {
+        try {
+            return step.get();
         } catch (RuntimeException e) {
-            log.error("Error occurred while parsing file {}", csvFile.getName(), e);
+            log.error("Error occurred while parsing file {}", fileName, e);
             throw new ParseFileException("Bad file format");
-        } catch (IOException e) {
-            log.error("Error occurred while accessing to file {}", csvFile.getName(), e);
-        } finally {
-            fileDelete(csvFile);
         }
-        return teachers;
     }
 }
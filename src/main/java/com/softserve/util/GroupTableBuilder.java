@@ -8,10 +8,8 @@ import com.softserve.mapper.TeacherMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.IOException;
 import java.text.MessageFormat;
 import java.time.DayOfWeek;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -23,10 +21,10 @@ public class GroupTableBuilder extends BaseTableBuilder {
     /**
      * Constructs a GroupTableBuilder.
      *
-     * @throws IOException       if the font file could not be read
-     * @throws DocumentException if the font is invalid, or when size of table is wrong
+     * @param context the shared fonts, styles and translations
      */
-    public GroupTableBuilder() throws DocumentException, IOException {
+    public GroupTableBuilder(ReportRenderingContext context) {
+        super(context);
     }
 
     /**
@@ -64,11 +62,7 @@ public class GroupTableBuilder extends BaseTableBuilder {
         //getting in first loop layer - iterating every period
         for (PeriodDTO period : periods) {
             //first column is period
-            cell = new PdfPCell(new Phrase(period.getName() + "\n\n" +
-                    period.getStartTime().format(DateTimeFormatter.ofPattern("HH:mm"))
-                    + "-" + period.getEndTime().format(DateTimeFormatter.ofPattern("HH:mm")), headFont));
-            style.periodCellStyle(cell);
-            table.addCell(cell);
+            table.addCell(createPeriodCell(period));
             //getting in second loop layer - iterating days
             for (DaysOfWeekWithClassesForGroupDTO day : schedule.getDays()) {
                 cell = createInnerCell(day, period, language);
@@ -86,7 +80,7 @@ public class GroupTableBuilder extends BaseTableBuilder {
      * @return sorted treeSet of periodDTO
      */
     private TreeSet<PeriodDTO> getAllPeriods(ScheduleForGroupDTO schedule) {
-        log.info("Enter into getAllPeriods method with schedule {}", schedule);
+        log.debug("Enter into getAllPeriods method with schedule {}", schedule);
 
         return schedule.getDays().stream()
                 .flatMap(s -> s.getClasses().stream())
@@ -108,9 +102,8 @@ public class GroupTableBuilder extends BaseTableBuilder {
      * @return PdfPTable schedule for group
      */
     private PdfPCell createTitleCell(int tableWidth, ScheduleForGroupDTO schedule, Locale language) {
-        log.info("Enter into createTableTitleCell method with tableWidth {} and schedule {} and language {}", tableWidth, schedule, language);
+        log.debug("Enter into createTableTitleCell method with tableWidth {} and schedule {} and language {}", tableWidth, schedule, language);
 
-        Font titleFont = new Font(baseFont, 14, Font.BOLD, BaseColor.WHITE);
         String scheduleTitle = MessageFormat.format("{0} {1} {2}",
                 StringUtils.capitalize(translator.getTranslation("schedule for", language)),
                 schedule.getGroup().getTitle(),
@@ -131,7 +124,7 @@ public class GroupTableBuilder extends BaseTableBuilder {
      * @return inner PdfPCell for table
      */
     private PdfPCell createInnerCell(DaysOfWeekWithClassesForGroupDTO day, PeriodDTO period, Locale language) {
-        log.info("Enter into createInnerCell method with day {} period {} language {}", day, period, language);
+        log.debug("Enter into createInnerCell method with day {} period {} language {}", day, period, language);
 
         PdfPCell cell = new PdfPCell(new Phrase(EMPTY_CELL, cellFont));
         for (int i = 0; i < day.getClasses().size(); i++) {
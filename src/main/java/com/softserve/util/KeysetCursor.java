@@ -0,0 +1,57 @@
+package com.softserve.util;
+
+import com.softserve.exception.IncorrectCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a list sorted by a text key and then by id. The next page starts right after it, so
+ * reading a page costs the same wherever it is in the list, unlike an offset that makes the database
+ * read and drop all the rows before the page. The client gets it as an opaque string.
+ *
+ * @param key the sort key of the last row of the page
+ * @param id  the id of the last row of the page
+ */
+public record KeysetCursor(String key, long id) {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Returns the requested page size limited to {@link #MAX_PAGE_SIZE}.
+     *
+     * @param size the requested page size
+     * @return the page size to use
+     */
+    public static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + String.valueOf(SEPARATOR) + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a cursor returned with a previous page.
+     *
+     * @param cursor the cursor, may be {@code null} for the first page
+     * @return the cursor or {@code null} for the first page
+     * @throws IncorrectCursorException if the cursor was not returned by the server
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new KeysetCursor(value.substring(separator + 1), Long.parseLong(value.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IncorrectCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.softserve.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A schedule report ready to be sent: the suggested file name, the size when it is known up front,
+ * and the content, which is written only when the consumer asks for it.
+ *
+ * @param fileName      the suggested file name of the report
+ * @param contentLength the size of the report in bytes, or {@code -1} when it is rendered on the fly
+ * @param content       writes the pdf document to a stream
+ */
+public record PdfReport(String fileName, long contentLength, Content content) {
+
+    public boolean hasContentLength() {
+        return contentLength >= 0;
+    }
+
+    @FunctionalInterface
+    public interface Content {
+
+        /**
+         * Writes the pdf document to the stream, leaving it open.
+         *
+         * @param outputStream the stream to write to
+         * @throws IOException if the stream could not be written
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+}
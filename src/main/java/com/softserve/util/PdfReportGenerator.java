@@ -11,13 +11,29 @@ import com.softserve.exception.FileDownloadException;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Locale;
 
-
+/**
+ * Renders schedules into pdf documents. The generator holds no per-report state,
+ * so a single instance serves all requests.
+ */
 @Slf4j
 public class PdfReportGenerator {
 
+    private final TeacherTableBuilder teacherTableBuilder;
+    private final GroupTableBuilder groupTableBuilder;
+
+    /**
+     * Constructs a PdfReportGenerator.
+     *
+     * @param context the shared fonts, styles and translations
+     */
+    public PdfReportGenerator(ReportRenderingContext context) {
+        this.teacherTableBuilder = new TeacherTableBuilder(context);
+        this.groupTableBuilder = new GroupTableBuilder(context);
+    }
+
     /**
      * Method used for generating byte array, which we convert into pdf in controller.
      *
@@ -26,24 +42,26 @@ public class PdfReportGenerator {
      * @return ByteArrayOutputStream teacher schedule in byte array format
      */
     public ByteArrayOutputStream teacherScheduleReport(ScheduleForTeacherDTO schedule, Locale language) {
-        log.info("Enter into teacherScheduleReport method with schedule {}", schedule);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        writeTeacherScheduleReport(schedule, language, bos);
+        return bos;
+    }
 
-        ByteArrayOutputStream bys;
+    /**
+     * Method used for writing teacher schedule in pdf straight to the given stream, without buffering the document.
+     *
+     * @param schedule     for selected teacher and semester
+     * @param language     for selected language
+     * @param outputStream the stream the document is written to, left open
+     */
+    public void writeTeacherScheduleReport(ScheduleForTeacherDTO schedule, Locale language, OutputStream outputStream) {
+        log.info("Enter into writeTeacherScheduleReport method with schedule {}", schedule);
         try {
-            Document document = new Document();
-            document.setPageSize(PageSize.A4);
-            document.setPageSize(PageSize.LETTER.rotate());
-            bys = new ByteArrayOutputStream();
-            PdfWriter.getInstance(document, bys);
-            document.open();
-            PdfPTable table = new TeacherTableBuilder().createTeacherTable(schedule, language);
-            document.add(table);
-            document.close();
-        } catch (DocumentException | IOException e) {
+            writeTable(teacherTableBuilder.createTeacherTable(schedule, language), outputStream);
+        } catch (DocumentException e) {
             log.error(e.getMessage(), e);
             throw new FileDownloadException("Failed to download file");
         }
-        return bys;
     }
 
     /**
@@ -54,24 +72,38 @@ public class PdfReportGenerator {
      * @return ByteArrayOutputStream group schedule in byte array format
      */
     public ByteArrayOutputStream groupScheduleReport(ScheduleForGroupDTO schedule, Locale language) {
-        log.info("Enter into groupScheduleReport method with schedule {}", schedule);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        writeGroupScheduleReport(schedule, language, bos);
+        return bos;
+    }
 
-        ByteArrayOutputStream bys;
+    /**
+     * Method used for writing group schedule in pdf straight to the given stream, without buffering the document.
+     *
+     * @param schedule     for selected group and semester
+     * @param language     for selected language
+     * @param outputStream the stream the document is written to, left open
+     */
+    public void writeGroupScheduleReport(ScheduleForGroupDTO schedule, Locale language, OutputStream outputStream) {
+        log.info("Enter into writeGroupScheduleReport method with schedule {}", schedule);
         try {
-            Document document = new Document();
-            document.setPageSize(PageSize.A4);
-            document.setPageSize(PageSize.LETTER.rotate());
-            bys = new ByteArrayOutputStream();
-            PdfWriter.getInstance(document, bys);
-            document.open();
-            PdfPTable table = new GroupTableBuilder().createGroupTable(schedule, language);
-            document.add(table);
-            document.close();
-        } catch (DocumentException | IOException e) {
+            writeTable(groupTableBuilder.createGroupTable(schedule, language), outputStream);
+        } catch (DocumentException e) {
             log.error(e.getMessage(), e);
             throw new FileDownloadException("Failed to download file");
         }
-        return bys;
     }
-}
 
+    /**
+     * The table is built before the document is opened, so a schedule that cannot be rendered
+     * fails before anything is written to the stream.
+     */
+    private void writeTable(PdfPTable table, OutputStream outputStream) throws DocumentException {
+        Document document = new Document(PageSize.LETTER.rotate());
+        PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+        writer.setCloseStream(false);
+        document.open();
+        document.add(table);
+        document.close();
+    }
+}
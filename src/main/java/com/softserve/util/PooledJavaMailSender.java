@@ -0,0 +1,174 @@
+package com.softserve.util;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link JavaMailSenderImpl} that keeps authenticated SMTP connections in a pool instead of opening,
+ * securing and authenticating a new one for every message. A connection is checked with NOOP before
+ * it is borrowed, closed after sitting idle for {@code idleTimeout} and replaced after
+ * {@code maxMessagesPerConnection} messages, as most servers cap the number of messages per session.
+ * Messages passed to one {@code send} call go over one connection.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private final GenericObjectPool<PooledTransport> pool;
+    private final int maxMessagesPerConnection;
+
+    public PooledJavaMailSender(int maxConnections, Duration idleTimeout, Duration borrowTimeout,
+                                int maxMessagesPerConnection) {
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        GenericObjectPoolConfig<PooledTransport> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(maxConnections);
+        config.setMaxIdle(maxConnections);
+        config.setMinIdle(0);
+        config.setMaxWait(borrowTimeout);
+        config.setTestOnBorrow(true);
+        config.setTestWhileIdle(true);
+        config.setMinEvictableIdleDuration(idleTimeout);
+        config.setTimeBetweenEvictionRuns(idleTimeout.dividedBy(2));
+        config.setJmxEnabled(false);
+        this.pool = new GenericObjectPool<>(new TransportFactory(), config);
+    }
+
+    /**
+     * Returns how many SMTP connections have been opened so far.
+     *
+     * @return the number of opened connections
+     */
+    public long getConnectionsCreated() {
+        return pool.getCreatedCount();
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport transport = null;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                Object original = originalMessages != null ? originalMessages[i] : mimeMessages[i];
+                if (transport == null) {
+                    try {
+                        transport = pool.borrowObject();
+                    } catch (Exception ex) {
+                        for (int j = i; j < mimeMessages.length; j++) {
+                            failedMessages.put(originalMessages != null ? originalMessages[j] : mimeMessages[j], ex);
+                        }
+                        throw new MailSendException("Mail server connection failed", ex, failedMessages);
+                    }
+                }
+                try {
+                    send(transport, mimeMessages[i]);
+                    if (transport.sent >= maxMessagesPerConnection) {
+                        invalidate(transport);
+                        transport = null;
+                    }
+                } catch (SendFailedException ex) {
+                    // the server rejected recipients of this message, the connection is still usable
+                    failedMessages.put(original, ex);
+                } catch (MessagingException ex) {
+                    failedMessages.put(original, ex);
+                    invalidate(transport);
+                    transport = null;
+                }
+            }
+        } finally {
+            if (transport != null) {
+                pool.returnObject(transport);
+            }
+        }
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.close();
+    }
+
+    private void send(PooledTransport transport, MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            // preserve the explicitly specified message id, saveChanges() replaces it
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+        Address[] addresses = mimeMessage.getAllRecipients();
+        transport.transport.sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+        transport.sent++;
+    }
+
+    private void invalidate(PooledTransport transport) {
+        try {
+            pool.invalidateObject(transport);
+        } catch (Exception ex) {
+            log.warn("Failed to close broken SMTP connection: {}", ex.getMessage());
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private int sent;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+
+    private final class TransportFactory extends BasePooledObjectFactory<PooledTransport> {
+
+        @Override
+        public PooledTransport create() throws MessagingException {
+            log.debug("Opening SMTP connection to {}:{}", getHost(), getPort());
+            return new PooledTransport(connectTransport());
+        }
+
+        @Override
+        public PooledObject<PooledTransport> wrap(PooledTransport transport) {
+            return new DefaultPooledObject<>(transport);
+        }
+
+        /**
+         * {@link Transport#isConnected()} of the SMTP transport sends NOOP, so a connection dropped
+         * by the server is detected here and replaced before a message is lost on it.
+         */
+        @Override
+        public boolean validateObject(PooledObject<PooledTransport> pooled) {
+            PooledTransport transport = pooled.getObject();
+            return transport.sent < maxMessagesPerConnection && transport.transport.isConnected();
+        }
+
+        @Override
+        public void destroyObject(PooledObject<PooledTransport> pooled) {
+            try {
+                pooled.getObject().transport.close();
+            } catch (MessagingException ex) {
+                log.debug("Failed to close SMTP connection: {}", ex.getMessage());
+            }
+        }
+    }
+}
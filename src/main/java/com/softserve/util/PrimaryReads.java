@@ -0,0 +1,52 @@
+package com.softserve.util;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the read-only transactions of the current thread to the primary database. Reads whose result
+ * outlives the request must not come from a replica that may not have replayed the last write yet:
+ * a stale result would stay in the cache until the next eviction. So every {@code @Cacheable} method
+ * reads the primary on a cache miss, which is rare by design; other lag-sensitive reads use
+ * {@link #call(Supplier)}.
+ */
+@Aspect
+public class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> false);
+
+    public static boolean isPinned() {
+        return PINNED.get();
+    }
+
+    /**
+     * Runs the action with the read-only transactions it starts pinned to the primary.
+     *
+     * @param action the action to run
+     * @param <T>    the type of the result
+     * @return the result of the action
+     */
+    public static <T> T call(Supplier<T> action) {
+        boolean pinned = PINNED.get();
+        PINNED.set(true);
+        try {
+            return action.get();
+        } finally {
+            PINNED.set(pinned);
+        }
+    }
+
+    @Around("@annotation(org.springframework.cache.annotation.Cacheable)")
+    public Object pinCachedRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean pinned = PINNED.get();
+        PINNED.set(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PINNED.set(pinned);
+        }
+    }
+}
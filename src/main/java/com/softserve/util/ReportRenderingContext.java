@@ -0,0 +1,49 @@
+package com.softserve.util;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.pdf.BaseFont;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Resources shared by all pdf reports: the base font, the fonts derived from it, cell styles and translations.
+ * The font file is parsed once when the context is created. The context is never modified afterwards,
+ * so one instance can be used by any number of reports rendered at the same time.
+ */
+@Slf4j
+@Getter
+public final class ReportRenderingContext {
+
+    private static final String FONT_PATH = "font/times.ttf";
+
+    private final BaseFont baseFont;
+    private final Font cellFont;
+    private final Font linkFont;
+    private final Font titleFont;
+    private final Font headFont;
+    private final Style style;
+    private final Translator translator;
+
+    /**
+     * Constructs a ReportRenderingContext, reading the font file and the dictionary.
+     *
+     * @throws IOException       when the font file could not be read
+     * @throws DocumentException when the font is invalid
+     */
+    public ReportRenderingContext() throws DocumentException, IOException {
+        log.info("Loading pdf report resources from {}", FONT_PATH);
+        this.baseFont = BaseFont.createFont(Objects.requireNonNull(getClass().getClassLoader()
+                .getResource(FONT_PATH)).toString(), BaseFont.IDENTITY_H, BaseFont.NOT_EMBEDDED);
+        this.cellFont = new Font(baseFont, 11, Font.NORMAL, BaseColor.BLACK);
+        this.linkFont = new Font(baseFont, 11, Font.NORMAL, BaseColor.BLUE);
+        this.titleFont = new Font(baseFont, 14, Font.BOLD, BaseColor.WHITE);
+        this.headFont = new Font(baseFont, 12, Font.BOLD, BaseColor.BLACK);
+        this.style = new Style();
+        this.translator = Translator.getInstance();
+    }
+}
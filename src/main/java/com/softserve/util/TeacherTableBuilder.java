@@ -9,10 +9,8 @@ import com.softserve.dto.*;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.IOException;
 import java.text.MessageFormat;
 import java.time.DayOfWeek;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,10 +22,10 @@ public class TeacherTableBuilder extends BaseTableBuilder {
     /**
      * Constructs a TeacherTableBuilder.
      *
-     * @throws IOException       if the font file could not be read
-     * @throws DocumentException if the font is invalid, or when size of table is wrong
+     * @param context the shared fonts, styles and translations
      */
-    protected TeacherTableBuilder() throws DocumentException, IOException {
+    public TeacherTableBuilder(ReportRenderingContext context) {
+        super(context);
     }
 
     /**
@@ -38,7 +36,7 @@ public class TeacherTableBuilder extends BaseTableBuilder {
      * @return PdfPTable schedule for group
      * @throws DocumentException if the table could not be created
      */
-    public PdfPTable createTeacherTable(ScheduleForTeacherDTO schedule, Locale language) throws DocumentException, IOException {
+    public PdfPTable createTeacherTable(ScheduleForTeacherDTO schedule, Locale language) throws DocumentException {
         log.info("Enter into createTeacherTable method with schedule {} and language {}", schedule, language);
 
         // getting amount of columns, setting columns width when creating main table
@@ -60,16 +58,10 @@ public class TeacherTableBuilder extends BaseTableBuilder {
         TreeSet<PeriodDTO> periods = getAllPeriods(schedule);
 
         // creating table cells with values
-        PdfPCell cell;
-
         //getting in first loop layer - iterating every period
         for (PeriodDTO period : periods) {
             //first column is period
-            cell = new PdfPCell(new Phrase(period.getName() + "\n\n" +
-                    period.getStartTime().format(DateTimeFormatter.ofPattern("HH:mm"))
-                    + "-" + period.getEndTime().format(DateTimeFormatter.ofPattern("HH:mm")), headFont));
-            style.periodCellStyle(cell);
-            table.addCell(cell);
+            table.addCell(createPeriodCell(period));
             //getting in second loop layer - iterating days
             for (DaysOfWeekWithClassesForTeacherDTO day : schedule.getDays()) {
                 //getting odd and even classes by day and period
@@ -90,7 +82,7 @@ public class TeacherTableBuilder extends BaseTableBuilder {
      * @return ClassForTeacherScheduleDTO by period
      */
     private ClassForTeacherScheduleDTO getClassByPeriod(List<ClassForTeacherScheduleDTO> classes, PeriodDTO period) {
-        log.info("Enter into getClassByPeriod method with classes {} and period {}", classes, period);
+        log.debug("Enter into getClassByPeriod method with classes {} and period {}", classes, period);
 
         ClassForTeacherScheduleDTO classForTeacherScheduleDTO = new ClassForTeacherScheduleDTO();
         classForTeacherScheduleDTO.setLessons(Collections.emptyList());
@@ -110,7 +102,7 @@ public class TeacherTableBuilder extends BaseTableBuilder {
      * @return sorted treeSet of periodDTO
      */
     private TreeSet<PeriodDTO> getAllPeriods(ScheduleForTeacherDTO schedule) {
-        log.info("Enter into getAllPeriods method with schedule {}", schedule);
+        log.debug("Enter into getAllPeriods method with schedule {}", schedule);
 
         return schedule.getDays().stream()
                 .flatMap(s -> Stream.of(s.getEvenWeek().getPeriods(), s.getOddWeek().getPeriods()))
@@ -133,7 +125,7 @@ public class TeacherTableBuilder extends BaseTableBuilder {
      * @return PdfPTable schedule for group
      */
     private PdfPCell createTitleCell(int tableWidth, ScheduleForTeacherDTO schedule, Locale language) {
-        log.info("Enter into createTableTitleCell method with tableWidth {} and schedule {} and language {}", tableWidth, schedule, language);
+        log.debug("Enter into createTableTitleCell method with tableWidth {} and schedule {} and language {}", tableWidth, schedule, language);
 
         String scheduleTitle = MessageFormat.format("{0} {1} {2} {3}, {4}",
                 StringUtils.capitalize(translator.getTranslation("schedule for", language)),
@@ -155,7 +147,7 @@ public class TeacherTableBuilder extends BaseTableBuilder {
      * @return inner PdfPCell for table
      */
     private PdfPCell createInnerCell(ClassForTeacherScheduleDTO oddClasses, ClassForTeacherScheduleDTO evenClasses, Locale language) {
-        log.info("Enter into createInnerCell method with oddClasses {} evenClasses {}", oddClasses, evenClasses);
+        log.debug("Enter into createInnerCell method with oddClasses {} evenClasses {}", oddClasses, evenClasses);
 
         PdfPCell cell;
         // creating one whole empty cell, if both odd and even lists of lessons r empty
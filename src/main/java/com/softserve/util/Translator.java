@@ -17,29 +17,39 @@ import java.util.Map;
 @Slf4j
 @NoArgsConstructor
 public class Translator {
-    private static Translator translator;
-
     private Map<String, Map<Locale, String>> dictionary = new HashMap<>();
 
+    /**
+     * Returns the translator loaded from dictionary.yaml. The file is read once, on the first call,
+     * and the class loader guarantees that concurrent first calls see the same fully loaded instance.
+     *
+     * @return the shared translator
+     */
     public static Translator getInstance() {
-        if (translator == null) {
-            ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
-            mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
-            try (InputStream inputStream = new ClassPathResource("dictionary.yaml").getInputStream()) {
-                translator = mapper.readValue(inputStream, Translator.class);
-            } catch (IOException e) {
-                log.error("Error occurred while parsing file dictionary.yaml", e);
-                translator = new Translator();
-            }
+        return Holder.INSTANCE;
+    }
+
+    private static Translator load() {
+        ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        try (InputStream inputStream = new ClassPathResource("dictionary.yaml").getInputStream()) {
+            return mapper.readValue(inputStream, Translator.class);
+        } catch (IOException e) {
+            log.error("Error occurred while parsing file dictionary.yaml", e);
+            return new Translator();
         }
-        return translator;
     }
 
     public String getTranslation(String key, Locale language) {
-        if (dictionary.containsKey(key) && dictionary.get(key).containsKey(language)) {
-            return dictionary.get(key).get(language);
+        Map<Locale, String> translations = dictionary.get(key);
+        if (translations != null && translations.containsKey(language)) {
+            return translations.get(language);
         }
         log.warn("There is no translation of the word = {}", key);
         return key;
     }
+
+    private static final class Holder {
+        private static final Translator INSTANCE = load();
+    }
 }
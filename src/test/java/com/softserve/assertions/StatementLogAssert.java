@@ -0,0 +1,64 @@
+package com.softserve.assertions;
+
+import com.softserve.metrics.QueryCountInspector;
+import com.softserve.metrics.StatementLog;
+import org.assertj.core.api.AbstractAssert;
+
+import java.util.Map;
+
+/**
+ * Query budget assertions over the statements a block of test code runs, for example
+ * <pre>
+ * StatementLog statements = captureStatements(queryCountInspector, () -> mockMvc.perform(get(url)));
+ * assertThatStatements(statements).hasAtMost(5).hasNoShapeRepeatedMoreThan(1);
+ * </pre>
+ * A failed assertion lists every statement the block has run.
+ */
+public class StatementLogAssert extends AbstractAssert<StatementLogAssert, StatementLog> {
+
+    @FunctionalInterface
+    public interface Block {
+        void run() throws Exception;
+    }
+
+    private StatementLogAssert(StatementLog actual) {
+        super(actual, StatementLogAssert.class);
+    }
+
+    public static StatementLogAssert assertThatStatements(StatementLog actual) {
+        return new StatementLogAssert(actual);
+    }
+
+    /**
+     * Runs the block and returns the statements Hibernate has prepared on this thread meanwhile.
+     */
+    public static StatementLog captureStatements(QueryCountInspector inspector, Block block) throws Exception {
+        StatementLog statements;
+        inspector.startCapture();
+        try {
+            block.run();
+        } finally {
+            statements = inspector.stopCapture();
+        }
+        return statements;
+    }
+
+    public StatementLogAssert hasAtMost(int maxStatements) {
+        isNotNull();
+        if (actual.count() > maxStatements) {
+            failWithMessage("Expected at most <%d> statements but <%d> were run:%n%s",
+                    maxStatements, actual.count(), String.join(System.lineSeparator(), actual.statements()));
+        }
+        return this;
+    }
+
+    public StatementLogAssert hasNoShapeRepeatedMoreThan(int maxRepeats) {
+        isNotNull();
+        Map<String, Long> repeated = actual.repeatedMoreThan(maxRepeats);
+        if (!repeated.isEmpty()) {
+            failWithMessage("Expected no statement run more than <%d> times but got %s, all statements:%n%s",
+                    maxRepeats, repeated, String.join(System.lineSeparator(), actual.statements()));
+        }
+        return this;
+    }
+}
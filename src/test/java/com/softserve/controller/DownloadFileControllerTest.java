@@ -0,0 +1,109 @@
+package com.softserve.controller;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Tag("integration")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "first@mail.com", password = "$2a$04$SpUhTZ/SjkDQop/Zvx1.seftJdqvOploGce/wau247zQhpEvKtz9.", roles = "MANAGER")
+@Sql(value = "classpath:create-schedule-before.sql")
+class DownloadFileControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void streamTeacherScheduleInPdf() throws Exception {
+        MvcResult started = mockMvc.perform(get("/download/schedule-for-teacher-in-pdf")
+                        .param("teacherId", "4")
+                        .param("semesterId", "4")
+                        .param("language", "en"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andExpect(header().string("Content-Disposition", containsString("Ivanov")))
+                .andReturn();
+        assertThat(new String(result.getResponse().getContentAsByteArray(), 0, 4, StandardCharsets.US_ASCII))
+                .isEqualTo("%PDF");
+    }
+
+    @Test
+    void streamGroupScheduleInPdf() throws Exception {
+        MvcResult started = mockMvc.perform(get("/download/schedule-for-group-in-pdf")
+                        .param("groupId", "4")
+                        .param("semesterId", "4")
+                        .param("language", "en"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andReturn();
+        assertThat(new String(result.getResponse().getContentAsByteArray(), 0, 4, StandardCharsets.US_ASCII))
+                .isEqualTo("%PDF");
+    }
+
+    @Test
+    void streamAllTeacherSchedulesOfSemesterInZip() throws Exception {
+        MvcResult started = mockMvc.perform(get("/download/schedules-for-teachers-in-zip")
+                        .param("semesterId", "4")
+                        .param("language", "en"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andReturn();
+        assertThat(zipEntryNames(result.getResponse().getContentAsByteArray()))
+                .containsExactlyInAnyOrder("schedule for docent Ivanov I. I..pdf", "schedule for aspirant Dmytryk D. D..pdf");
+    }
+
+    @Test
+    @WithMockUser(username = "first@mail.com", roles = "USER")
+    void forbidZipExportForUserWithoutManagerRole() throws Exception {
+        mockMvc.perform(get("/download/schedules-for-groups-in-zip")
+                        .param("semesterId", "4")
+                        .param("language", "en"))
+                .andExpect(status().isForbidden());
+    }
+
+    private List<String> zipEntryNames(byte[] archive) throws Exception {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
+}
@@ -1,8 +1,12 @@
 package com.softserve.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.softserve.dto.*;
 import com.softserve.entity.enums.EvenOdd;
+import com.softserve.metrics.QueryCountInspector;
+import com.softserve.metrics.StatementLog;
 import com.softserve.service.GroupService;
 import com.softserve.service.LessonService;
 import com.softserve.service.SubjectService;
@@ -26,7 +30,10 @@ import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.List;
 
+import static com.softserve.assertions.StatementLogAssert.assertThatStatements;
+import static com.softserve.assertions.StatementLogAssert.captureStatements;
 import static com.softserve.entity.enums.LessonType.LECTURE;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -57,6 +64,9 @@ class ScheduleControllerTest {
     @Autowired
     private LessonService lessonService;
 
+    @Autowired
+    private QueryCountInspector queryCountInspector;
+
     @Test
     void getListOfAllSchedules() throws Exception {
         mockMvc.perform(get("/schedules").accept(MediaType.APPLICATION_JSON))
@@ -148,13 +158,18 @@ class ScheduleControllerTest {
 
     @Test
     void getFullScheduleForGroup() throws Exception {
-        mockMvc.perform(get("/schedules/full/groups")
-                        .param("semesterId", "4")
-                        .param("groupId", "4")
-                        .contentType(MediaType.APPLICATION_JSON))
-                .andDo(print())
-                .andExpect(status().isOk())
-                .andExpect(content().contentType("application/json"));
+        StatementLog statements = captureStatements(queryCountInspector, () ->
+                mockMvc.perform(get("/schedules/full/groups")
+                                .param("semesterId", "4")
+                                .param("groupId", "4")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andDo(print())
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType("application/json")));
+
+        // the group schedule is still read slot by slot: group 4 has classes in three periods on Monday,
+        // each looked up for the even and the odd week, so the lesson lookup runs 3 * 2 times
+        assertThatStatements(statements).hasAtMost(40).hasNoShapeRepeatedMoreThan(6);
     }
 
     @Test
@@ -171,12 +186,100 @@ class ScheduleControllerTest {
 
     @Test
     void getFullScheduleForSemester() throws Exception {
-        mockMvc.perform(get("/schedules/full/semester")
+        StatementLog statements = captureStatements(queryCountInspector, () ->
+                mockMvc.perform(get("/schedules/full/semester")
+                                .param("semesterId", "4")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andDo(print())
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType("application/json")));
+
+        assertThatStatements(statements).hasAtMost(8).hasNoShapeRepeatedMoreThan(1);
+    }
+
+    @Test
+    void getFullCompactScheduleForSemesterWithSameClassesAsFullSchedule() throws Exception {
+        JsonNode full = objectMapper.readTree(mockMvc.perform(get("/schedules/full/semester")
+                        .param("semesterId", "4"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        JsonNode compact = objectMapper.readTree(mockMvc.perform(get("/schedules/full/semester")
                         .param("semesterId", "4")
-                        .contentType(MediaType.APPLICATION_JSON))
-                .andDo(print())
+                        .param("compact", "true"))
                 .andExpect(status().isOk())
-                .andExpect(content().contentType("application/json"));
+                .andReturn().getResponse().getContentAsString());
+
+        int fullClasses = 0;
+        for (JsonNode group : full.get("schedule")) {
+            for (JsonNode day : group.get("days")) {
+                for (JsonNode period : day.get("classes")) {
+                    fullClasses += period.get("weeks").get("even").isNull() ? 0 : 1;
+                    fullClasses += period.get("weeks").get("odd").isNull() ? 0 : 1;
+                }
+            }
+        }
+
+        SoftAssertions softly = new SoftAssertions();
+        int compactClasses = 0;
+        for (JsonNode cell : compact.get("cells")) {
+            long groupId = compact.get("groups").get(cell.get(0).asInt()).get("id").asLong();
+            String day = compact.get("days").get(cell.get(1).asInt()).asText();
+            long periodId = compact.get("periods").get(cell.get(2).asInt()).get("id").asLong();
+            String week = cell.get(3).asText();
+            List<String> weeks = week.equals("WEEKLY") ? List.of("even", "odd") : List.of(week.toLowerCase());
+            for (String fullWeek : weeks) {
+                JsonNode lesson = fullLesson(full, groupId, day, periodId, fullWeek);
+                assertThat(lesson.isNull()).as("class of %s in %s week", cell, fullWeek).isFalse();
+                softly.assertThat(lesson.get("teacher").get("id").asLong())
+                        .isEqualTo(compact.get("teachers").get(cell.get(4).asInt()).get("id").asLong());
+                softly.assertThat(lesson.get("subjectForSite").asText())
+                        .isEqualTo(compact.get("subjects").get(cell.get(5).asInt()).asText());
+                softly.assertThat(lesson.get("room").get("id").asLong())
+                        .isEqualTo(compact.get("rooms").get(cell.get(6).asInt()).get("id").asLong());
+                softly.assertThat(lesson.get("lessonType").asText()).isEqualTo(cell.get(7).asText());
+                compactClasses++;
+            }
+        }
+        softly.assertThat(compactClasses).isEqualTo(fullClasses).isPositive();
+        softly.assertAll();
+    }
+
+    private static JsonNode fullLesson(JsonNode full, long groupId, String day, long periodId, String week) {
+        for (JsonNode group : full.get("schedule")) {
+            if (group.get("group").get("id").asLong() != groupId) {
+                continue;
+            }
+            for (JsonNode days : group.get("days")) {
+                if (!days.get("day").asText().equals(day)) {
+                    continue;
+                }
+                for (JsonNode period : days.get("classes")) {
+                    if (period.get("period").get("id").asLong() == periodId) {
+                        return period.get("weeks").get(week);
+                    }
+                }
+            }
+        }
+        throw new AssertionError("No class of group " + groupId + " on " + day + " in period " + periodId);
+    }
+
+    @Test
+    void getFullScheduleForSemesterAsCborWithSameContentAsJson() throws Exception {
+        JsonNode json = objectMapper.readTree(mockMvc.perform(get("/schedules/full/semester")
+                        .param("semesterId", "4")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn().getResponse().getContentAsString());
+        byte[] cbor = mockMvc.perform(get("/schedules/full/semester")
+                        .param("semesterId", "4")
+                        .header("Accept", "application/json;q=0.5, application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(new CBORMapper().readTree(cbor)).isEqualTo(json);
     }
 
     @Test
@@ -191,13 +294,18 @@ class ScheduleControllerTest {
 
     @Test
     void getFullScheduleForTeacher() throws Exception {
-        mockMvc.perform(get("/schedules/full/teachers")
-                        .param("semesterId", "4")
-                        .param("teacherId", "4")
-                        .contentType(MediaType.APPLICATION_JSON))
-                .andDo(print())
-                .andExpect(status().isOk())
-                .andExpect(content().contentType("application/json"));
+        StatementLog statements = captureStatements(queryCountInspector, () ->
+                mockMvc.perform(get("/schedules/full/teachers")
+                                .param("semesterId", "4")
+                                .param("teacherId", "4")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andDo(print())
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType("application/json")));
+
+        // the teacher schedule is still read slot by slot: teacher 4 has classes on Monday only, its periods
+        // are looked up for the even and the odd week, with one class in each
+        assertThatStatements(statements).hasAtMost(30).hasNoShapeRepeatedMoreThan(2);
     }
 
     @Test
@@ -213,12 +321,16 @@ class ScheduleControllerTest {
 
     @Test
     void getFullScheduleForRoom() throws Exception {
-        mockMvc.perform(get("/schedules/full/rooms")
-                        .param("semesterId", "4")
-                        .contentType(MediaType.APPLICATION_JSON))
-                .andDo(print())
-                .andExpect(status().isOk())
-                .andExpect(content().contentType("application/json"));
+        StatementLog statements = captureStatements(queryCountInspector, () ->
+                mockMvc.perform(get("/schedules/full/rooms")
+                                .param("semesterId", "4")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andDo(print())
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType("application/json")));
+
+        // schedules and rooms load their eager associations one by one, the budget keeps it from growing further
+        assertThatStatements(statements).hasAtMost(40);
     }
 
     @Test
@@ -1,6 +1,7 @@
 package com.softserve.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.softserve.assertions.CustomMockMvcAssertions;
 import com.softserve.dto.GroupDTO;
 import com.softserve.dto.StudentDTO;
@@ -114,6 +115,40 @@ class StudentControllerTest {
                 studentDTOWithId8L, studentDTOWithId9L, studentDTOWithId10L, studentDTOWithId12L));
     }
 
+    @Test
+    void getStudentsPageByPage() throws Exception {
+        String firstPage = mockMvc.perform(get("/students/page").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id").value(8))
+                .andExpect(jsonPath("$.content[0].group.title").value("First Title"))
+                .andExpect(jsonPath("$.content[1].id").value(9))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/students/page").param("size", "2")
+                        .param("cursor", JsonPath.<String>read(firstPage, "$.nextCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id").value(12))
+                .andExpect(jsonPath("$.content[1].id").value(10))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getStudentsPageFilteredByText() throws Exception {
+        mockMvc.perform(get("/students/page").param("text", "romaniuk"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(10));
+    }
+
+    @Test
+    void returnBadRequestIfCursorIsIncorrect() throws Exception {
+        mockMvc.perform(get("/students/page").param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getStudentById() throws Exception {
         assertions.assertForGet(studentDTOWithId8L, "/students/8");
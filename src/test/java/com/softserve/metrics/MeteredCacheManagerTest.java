@@ -0,0 +1,37 @@
+package com.softserve.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class MeteredCacheManagerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final MeteredCacheManager cacheManager =
+            new MeteredCacheManager(new ConcurrentMapCacheManager("groups"), registry);
+
+    @Test
+    void hitsMissesPutsAndEvictionsAreCounted() {
+        Cache cache = cacheManager.getCache("groups");
+
+        assertNull(cache.get(1L));
+        cache.put(1L, "111");
+        assertEquals("111", cache.get(1L).get());
+        assertEquals("222", cache.get(2L, () -> "222"));
+        assertEquals("222", cache.get(2L, () -> fail("value is cached")));
+        cache.evict(1L);
+
+        assertEquals(2, registry.get("cache.gets").tags("cache", "groups", "result", "hit").counter().count());
+        assertEquals(2, registry.get("cache.gets").tags("cache", "groups", "result", "miss").counter().count());
+        assertEquals(1, registry.get("cache.puts").tag("cache", "groups").counter().count());
+        assertEquals(1, registry.get("cache.evictions").tag("cache", "groups").counter().count());
+        assertEquals(2, registry.get("cache.lookup").tag("cache", "groups").timer().count());
+        assertSame(cache, cacheManager.getCache("groups"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.softserve.metrics;
+
+import com.softserve.entity.Group;
+import com.softserve.repository.GroupRepository;
+import com.softserve.repository.impl.GroupRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+class MethodMetricsAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void repositoryCallsAreTimedAndFailuresCounted() {
+        GroupRepositoryImpl target = mock(GroupRepositoryImpl.class);
+        when(target.getAll()).thenReturn(List.of(new Group()));
+        when(target.findById(1L)).thenThrow(new IllegalStateException("connection lost"));
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new MethodMetricsAspect(registry));
+        GroupRepository repository = factory.getProxy();
+
+        repository.getAll();
+        repository.getAll();
+        assertThrows(IllegalStateException.class, () -> repository.findById(1L));
+
+        assertEquals(2, registry.get(MethodMetricsAspect.TIMER)
+                .tags("layer", "repository", "class", "GroupRepositoryImpl", "method", "getAll")
+                .timer().count());
+        assertEquals(1, registry.get(MethodMetricsAspect.TIMER).tag("method", "findById").timer().count());
+        assertEquals(1, registry.get(MethodMetricsAspect.ERRORS)
+                .tags("method", "findById", "exception", "IllegalStateException")
+                .counter().count());
+    }
+}
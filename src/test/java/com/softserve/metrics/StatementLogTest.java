@@ -0,0 +1,45 @@
+package com.softserve.metrics;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class StatementLogTest {
+
+    @Test
+    void statementsDifferingInLiteralsAndInListLengthHaveOneShape() {
+        StatementLog statements = new StatementLog(List.of(
+                "select r1_0.id from rooms r1_0 where r1_0.id=?",
+                "select r1_0.id\n  from rooms r1_0   where r1_0.id=?",
+                "select g1_0.id from groups g1_0 where g1_0.id in (?,?,?) and g1_0.title='111'",
+                "select g1_0.id from groups g1_0 where g1_0.id in (?) and g1_0.title='222'",
+                "select p1_0.id from periods p1_0 limit 10"));
+
+        assertEquals(Map.of(
+                "select r1_0.id from rooms r1_0 where r1_0.id=?", 2L,
+                "select g1_0.id from groups g1_0 where g1_0.id in (?) and g1_0.title=?", 2L,
+                "select p1_0.id from periods p1_0 limit ?", 1L), statements.countByShape());
+        assertEquals(5, statements.count());
+        assertTrue(statements.repeatedMoreThan(2).isEmpty());
+        assertEquals(2, statements.repeatedMoreThan(1).size());
+    }
+
+    @Test
+    void inspectorKeepsStatementsOnlyWhileCapturing() {
+        QueryCountInspector inspector = new QueryCountInspector();
+
+        inspector.inspect("select 1");
+        inspector.startCapture();
+        inspector.inspect("select 2");
+        StatementLog captured = inspector.stopCapture();
+        inspector.inspect("select 3");
+
+        assertEquals(List.of("select 2"), captured.statements());
+        assertEquals(3, inspector.getCount());
+    }
+}
@@ -0,0 +1,196 @@
+package com.softserve.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.entity.enums.EvenOdd;
+import com.softserve.metrics.QueryCountInspector;
+import com.softserve.metrics.StatementLog;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.softserve.assertions.StatementLogAssert.captureStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plans of the SQL the hot schedule queries of {@link ScheduleRepository}, {@link RoomRepository} and
+ * {@link LessonRepository} emit. Each repository method is run, the statements Hibernate prepares for it are
+ * captured and every one that reads {@code schedules} or {@code lessons} is explained as a generic plan, the
+ * plan for any value of its parameters (PostgreSQL 16 or later). Sequential scans, hash and merge joins are
+ * priced out, so the planner has to reach every row of {@code schedules} and {@code lessons} through an index
+ * condition; a seq scan or an unbounded index scan on them means the query no longer matches the indexes of
+ * the {@code add-schedule-access-path-indexes} changeset. The fixture is too small for the costs to matter,
+ * so this checks that an index covers each query, not which plan wins.
+ */
+@Tag("integration")
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(value = "classpath:create-schedule-before.sql")
+class ScheduleQueryPlanTest {
+
+    private static final Set<String> INDEXED_TABLES = Set.of("schedules", "lessons");
+    private static final Pattern READS_INDEXED_TABLE = Pattern.compile("\\b(schedules|lessons)\\b");
+
+    @FunctionalInterface
+    interface RepositoryCall {
+        void run(ScheduleRepository schedules, RoomRepository rooms, LessonRepository lessons);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private QueryCountInspector queryCountInspector;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    static Stream<Arguments> hotQueries() {
+        DayOfWeek monday = DayOfWeek.MONDAY;
+        return Stream.of(
+                // lessons of a group and a teacher in a slot
+                call("lessonForGroupByDayBySemesterByPeriodByWeek",
+                        (s, r, l) -> s.lessonForGroupByDayBySemesterByPeriodByWeek(4L, 4L, 4L, monday, EvenOdd.ODD)),
+                call("lessonsForTeacherBySemesterByDayByPeriodByWeek",
+                        (s, r, l) -> s.lessonsForTeacherBySemesterByDayByPeriodByWeek(4L, 4L, 4L, monday, EvenOdd.ODD)),
+                call("getRoomForLesson",
+                        (s, r, l) -> s.getRoomForLesson(4L, 4L, 4L, monday, EvenOdd.EVEN)),
+                // days and periods of a group and a teacher
+                call("getDaysWhenGroupHasClassesBySemester",
+                        (s, r, l) -> s.getDaysWhenGroupHasClassesBySemester(4L, 4L)),
+                call("periodsForGroupByDayBySemester",
+                        (s, r, l) -> s.periodsForGroupByDayBySemester(4L, 4L, monday)),
+                call("getDaysWhenTeacherHasClassesBySemester",
+                        (s, r, l) -> s.getDaysWhenTeacherHasClassesBySemester(4L, 4L)),
+                call("periodsForTeacherBySemesterByDayByWeek",
+                        (s, r, l) -> s.periodsForTeacherBySemesterByDayByWeek(4L, 4L, monday, EvenOdd.ODD)),
+                // conflict counts and occupied rooms of a slot
+                call("conflictForGroupInSchedule",
+                        (s, r, l) -> s.conflictForGroupInSchedule(4L, monday, EvenOdd.ODD, 4L, 4L)),
+                call("conflictForTeacherInSchedule",
+                        (s, r, l) -> s.conflictForTeacherInSchedule(4L, monday, EvenOdd.ODD, 4L, 4L)),
+                call("getNotAvailableRoomsForSchedule",
+                        (s, r, l) -> r.getNotAvailableRoomsForSchedule(4L, monday, EvenOdd.ODD, 4L)),
+                call("freeRoomBySpecificPeriod",
+                        (s, r, l) -> r.freeRoomBySpecificPeriod(4L, monday, EvenOdd.ODD)),
+                // room schedule and placements of a lesson
+                call("scheduleForRoomBySemester",
+                        (s, r, l) -> s.scheduleForRoomBySemester(4L, 4L)),
+                call("countByLessonIdPeriodIdEvenOddDayOfWeek",
+                        (s, r, l) -> s.countByLessonIdPeriodIdEvenOddDayOfWeek(4L, 4L, EvenOdd.ODD, monday)),
+                // lessons of a group and a teacher
+                call("getAllForGroup",
+                        (s, r, l) -> l.getAllForGroup(4L, 4L)),
+                call("getLessonByTeacher",
+                        (s, r, l) -> l.getLessonByTeacher(4L, 4L)),
+                // the whole semester
+                call("findAllBySemesterWithDetails",
+                        (s, r, l) -> s.findAllBySemesterWithDetails(4L))
+        );
+    }
+
+    private static Arguments call(String name, RepositoryCall call) {
+        return Arguments.of(Named.of(name, call));
+    }
+
+    @ParameterizedTest
+    @MethodSource("hotQueries")
+    void hotQueryDoesNotScanScheduleTables(RepositoryCall call) throws Exception {
+        List<String> statements = emittedStatements(call).statements().stream()
+                .filter(sql -> READS_INDEXED_TABLE.matcher(sql.toLowerCase(Locale.ROOT)).find())
+                .toList();
+
+        assertThat(statements).as("statements reading schedules or lessons").isNotEmpty();
+        for (String sql : statements) {
+            assertThat(fullScans(sql)).as("full scans in the plan of %s", sql).isEmpty();
+        }
+    }
+
+    private StatementLog emittedStatements(RepositoryCall call) throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        return captureStatements(queryCountInspector, () -> transaction.executeWithoutResult(status -> {
+            call.run(scheduleRepository, roomRepository, lessonRepository);
+            status.setRollbackOnly();
+        }));
+    }
+
+    private List<String> fullScans(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+                statement.execute("SET LOCAL enable_hashjoin = off");
+                statement.execute("SET LOCAL enable_mergejoin = off");
+                try (ResultSet plan = statement.executeQuery("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numbered(sql))) {
+                    plan.next();
+                    List<String> scans = new ArrayList<>();
+                    collectFullScans(objectMapper.readTree(plan.getString(1)).get(0).get("Plan"), scans);
+                    return scans;
+                }
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    /**
+     * Replaces the JDBC placeholders with the numbered ones a generic plan takes.
+     */
+    private static String numbered(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private void collectFullScans(JsonNode node, List<String> scans) {
+        String type = node.path("Node Type").asText();
+        String relation = node.path("Relation Name").asText();
+        boolean unbounded = type.equals("Seq Scan")
+                || (type.startsWith("Index") && !node.has("Index Cond"));
+        if (unbounded && INDEXED_TABLES.contains(relation)) {
+            scans.add(type + " on " + relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectFullScans(child, scans);
+        }
+    }
+}
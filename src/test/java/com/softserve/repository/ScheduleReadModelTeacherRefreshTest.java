@@ -0,0 +1,95 @@
+package com.softserve.repository;
+
+import com.softserve.dto.TeacherImportDTO;
+import com.softserve.entity.Lesson;
+import com.softserve.entity.Schedule;
+import com.softserve.entity.Teacher;
+import com.softserve.service.TeacherService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teacher updates that bypass {@code TeacherService.update} still have to reach the rows of
+ * {@code schedule_read_model}, or {@link ScheduleReadModelRepository#findVisibleBySemester} keeps serving the old
+ * department and user of the teacher.
+ */
+@Tag("integration")
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql({"classpath:create-users-before.sql", "classpath:create-schedule-before.sql"})
+class ScheduleReadModelTeacherRefreshTest {
+
+    private static final long SEMESTER_ID = 4L;
+    private static final long TEACHER_ID = 4L;
+    private static final long DEPARTMENT_ID = 9L;
+    private static final long USER_ID = 5L;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private ScheduleReadModelRepository scheduleReadModelRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into \"public\".department(id, name, disable) values (?, 'Imported', false) "
+                + "on conflict (id) do nothing", DEPARTMENT_ID);
+    }
+
+    @Test
+    void importOfExistingTeacherRefreshesItsDepartmentAndUser() {
+        teacherService.saveTeachers(DEPARTMENT_ID, List.of(importedIvanov()));
+
+        assertThat(readModelTeachers()).isNotEmpty().allSatisfy(teacher -> {
+            assertThat(teacher.getDepartment()).isNotNull();
+            assertThat(teacher.getDepartment().getId()).isEqualTo(DEPARTMENT_ID);
+            assertThat(teacher.getUserId()).isEqualTo(USER_ID);
+        });
+    }
+
+    @Test
+    void removingUserFromTeacherRefreshesItsUser() {
+        teacherService.saveTeachers(DEPARTMENT_ID, List.of(importedIvanov()));
+
+        teacherService.removeUserFromTeacher(USER_ID);
+
+        assertThat(readModelTeachers()).isNotEmpty().allSatisfy(teacher -> assertThat(teacher.getUserId()).isNull());
+    }
+
+    private static TeacherImportDTO importedIvanov() {
+        TeacherImportDTO teacher = new TeacherImportDTO();
+        teacher.setName("Ivan");
+        teacher.setSurname("Ivanov");
+        teacher.setPatronymic("Ivanovych");
+        teacher.setPosition("docent");
+        teacher.setEmail("second@mail.com");
+        return teacher;
+    }
+
+    private List<Teacher> readModelTeachers() {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                scheduleReadModelRepository.findVisibleBySemester(SEMESTER_ID).stream()
+                        .map(Schedule::getLesson)
+                        .map(Lesson::getTeacher)
+                        .filter(teacher -> teacher.getId() == TEACHER_ID)
+                        .toList());
+    }
+}
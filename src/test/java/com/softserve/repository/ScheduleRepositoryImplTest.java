@@ -0,0 +1,69 @@
+package com.softserve.repository;
+
+import com.softserve.entity.Schedule;
+import com.softserve.exception.ScheduleConflictException;
+import com.softserve.repository.impl.ScheduleRepositoryImpl;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+class ScheduleRepositoryImplTest {
+
+    private final Session session = mock(Session.class);
+
+    private final ScheduleRepositoryImpl scheduleRepository = new ScheduleRepositoryImpl();
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.getCurrentSession()).thenReturn(session);
+        scheduleRepository.setSessionFactory(sessionFactory);
+    }
+
+    @Test
+    void saveTranslatesSlotConstraintViolation() {
+        doThrow(violation(null, "ERROR: conflicting key value violates exclusion constraint \"schedules_room_slot_excl\""))
+                .when(session).persist(any());
+
+        ScheduleConflictException exception = assertThrows(ScheduleConflictException.class,
+                () -> scheduleRepository.save(new Schedule()));
+
+        assertEquals("The room is already taken by another lesson at this time", exception.getMessage());
+    }
+
+    @Test
+    void updateFlushesAndTranslatesSlotConstraintViolation() {
+        Schedule schedule = new Schedule();
+        when(session.merge(schedule)).thenReturn(schedule);
+        doThrow(violation("schedules_group_slot_excl", "ERROR: conflicting key value"))
+                .when(session).flush();
+
+        ScheduleConflictException exception = assertThrows(ScheduleConflictException.class,
+                () -> scheduleRepository.update(schedule));
+
+        assertEquals("The group already has a lesson at this time", exception.getMessage());
+    }
+
+    @Test
+    void otherConstraintViolationsArePassedOn() {
+        ConstraintViolationException violation = violation("schedules_lesson_id_fkey", "ERROR: foreign key violation");
+        doThrow(violation).when(session).persist(any());
+
+        assertSame(violation, assertThrows(ConstraintViolationException.class,
+                () -> scheduleRepository.save(new Schedule())));
+    }
+
+    private ConstraintViolationException violation(String constraintName, String message) {
+        return new ConstraintViolationException(message, new SQLException(message, "23P01"), constraintName);
+    }
+}
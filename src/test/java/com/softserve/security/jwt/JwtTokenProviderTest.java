@@ -0,0 +1,115 @@
+package com.softserve.security.jwt;
+
+import com.softserve.service.TokenVersionService;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.Servlet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+class JwtTokenProviderTest {
+
+    private final TokenVersionService tokenVersionService = mock(TokenVersionService.class);
+
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        when(tokenVersionService.getVersion(1L)).thenReturn(3L);
+        jwtTokenProvider = jwtTokenProvider(Duration.ofHours(24));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void parseClaimsReturnsSameClaimsForRepeatedToken() {
+        String token = jwtTokenProvider.createToken(1L, "first@mail.com", "ROLE_MANAGER");
+
+        Claims first = jwtTokenProvider.parseClaims(token);
+
+        assertThat(first.getSubject()).isEqualTo("first@mail.com");
+        assertThat(first.get("roles", String.class)).isEqualTo("ROLE_MANAGER");
+        assertThat(jwtTokenProvider.parseClaims(token)).isSameAs(first);
+    }
+
+    @Test
+    void parseClaimsRejectsTamperedAndExpiredTokens() {
+        String token = jwtTokenProvider.createToken(1L, "first@mail.com", "ROLE_MANAGER");
+        String expired = jwtTokenProvider(Duration.ofMillis(-1)).createToken(1L, "first@mail.com", "ROLE_MANAGER");
+
+        assertThat(jwtTokenProvider.parseClaims(token.substring(0, token.length() - 2) + "xx")).isNull();
+        assertThat(jwtTokenProvider.parseClaims(expired)).isNull();
+    }
+
+    @Test
+    void getAuthenticationBuildsPrincipalFromClaimsWithoutLoadingUser() {
+        Claims claims = jwtTokenProvider.parseClaims(jwtTokenProvider.createToken(1L, "first@mail.com", "ROLE_MANAGER"));
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+
+        JwtUser principal = (JwtUser) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUsername()).isEqualTo("first@mail.com");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_MANAGER");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void getAuthenticationRejectsTokenOfRevokedVersion() {
+        Claims claims = jwtTokenProvider.parseClaims(jwtTokenProvider.createToken(1L, "first@mail.com", "ROLE_MANAGER"));
+        when(tokenVersionService.getVersion(1L)).thenReturn(4L);
+
+        assertThat(jwtTokenProvider.getAuthentication(claims)).isNull();
+    }
+
+    @Test
+    void filtersShareClaimsParsedOnceThroughRequestAttribute() throws Exception {
+        JwtTokenProvider provider = spy(jwtTokenProvider(Duration.ofMinutes(1)));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/teachers");
+        // issued with a shorter validity, so less than half of it is left and the refresh filter kicks in
+        String token = jwtTokenProvider(Duration.ofSeconds(20)).createToken(1L, "first@mail.com", "ROLE_MANAGER");
+        request.addHeader("Authorization", "Bearer_" + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain(mock(Servlet.class),
+                new JwtTokenFilter(provider), new JwtTokenRefreshFilter(provider));
+
+        chain.doFilter(request, response);
+
+        verify(provider, times(1)).parseClaims(any());
+        assertThat(provider.getVerifiedClaims(request).getSubject()).isEqualTo("first@mail.com");
+        assertThat(response.getHeader("X-New-Token")).isNotNull();
+    }
+
+    private JwtTokenProvider jwtTokenProvider(Duration validity) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secret", "jwttoken");
+        ReflectionTestUtils.setField(provider, "validity", validity);
+        ReflectionTestUtils.setField(provider, "claimsCacheSize", 100);
+        ReflectionTestUtils.setField(provider, "claimsAuthentication", true);
+        ReflectionTestUtils.setField(provider, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(provider, "tokenVersionService", tokenVersionService);
+        provider.init();
+        return provider;
+    }
+}
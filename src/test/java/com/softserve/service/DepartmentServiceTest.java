@@ -9,6 +9,7 @@ import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.mapper.DepartmentMapper;
 import com.softserve.mapper.TeacherMapper;
 import com.softserve.repository.DepartmentRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.service.impl.DepartmentServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -41,6 +42,9 @@ class DepartmentServiceTest {
     @Mock
     private TeacherMapper teacherMapper;
 
+    @Mock
+    private ScheduleReadModelRepository scheduleReadModelRepository;
+
     @InjectMocks
     private DepartmentServiceImpl service;
 
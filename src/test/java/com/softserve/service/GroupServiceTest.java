@@ -8,6 +8,7 @@ import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.mapper.GroupMapper;
 import com.softserve.mapper.StudentMapper;
 import com.softserve.repository.GroupRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.SortOrderRepository;
 import com.softserve.service.impl.GroupServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +45,9 @@ class GroupServiceTest {
     @Mock
     private StudentMapper studentMapper;
 
+    @Mock
+    private ScheduleReadModelRepository scheduleReadModelRepository;
+
     @InjectMocks
     private GroupServiceImpl groupService;
 
@@ -0,0 +1,107 @@
+package com.softserve.service;
+
+import com.softserve.dto.ImportJobDTO;
+import com.softserve.dto.TeacherImportDTO;
+import com.softserve.dto.enums.ImportJobStatus;
+import com.softserve.dto.enums.ImportSaveStatus;
+import com.softserve.exception.EntityNotFoundException;
+import com.softserve.service.impl.ImportJobServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucket;
+import org.redisson.api.RList;
+import org.redisson.api.RedissonClient;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class ImportJobServiceTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private TeacherService teacherService;
+
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private RBucket<Object> jobBucket;
+
+    @Mock
+    private RList<Object> resultList;
+
+    private ImportJobServiceImpl importJobService;
+
+    @BeforeEach
+    void setUp() {
+        importJobService = new ImportJobServiceImpl(redissonClient, teacherService, studentService, Runnable::run);
+    }
+
+    @Test
+    void startTeacherImportStoresProgressAndReport() {
+        String csv = "name,surname,patronymic,position,email\n"
+                + "First,First,First,First,first@test.com\n"
+                + "Broken,Broken\n"
+                + "Second,Second,Second,Second,second@test.com\n";
+        MockMultipartFile file = new MockMultipartFile("file", "teachers.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+        AtomicReference<Object> storedJob = new AtomicReference<>();
+
+        when(redissonClient.getBucket(startsWith("import:job:"))).thenReturn(jobBucket);
+        doAnswer(invocation -> {
+            storedJob.set(invocation.getArgument(0));
+            return null;
+        }).when(jobBucket).set(any(), any(Duration.class));
+        when(jobBucket.get()).thenAnswer(invocation -> storedJob.get());
+        when(redissonClient.getList(endsWith(":result"))).thenReturn(resultList);
+        when(teacherService.saveTeachers(eq(1L), anyList())).thenAnswer(invocation -> {
+            List<TeacherImportDTO> chunk = invocation.getArgument(1);
+            chunk.get(0).setImportSaveStatus(ImportSaveStatus.SAVED);
+            chunk.get(1).setImportSaveStatus(ImportSaveStatus.VALIDATION_ERROR);
+            return chunk;
+        });
+
+        ImportJobDTO job = importJobService.startTeacherImport(file, 1L);
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getRowsRead());
+        assertEquals(1, job.getRowsSaved());
+        assertEquals(2, job.getRowsFailed());
+        assertNotNull(job.getFinishedAt());
+        verify(teacherService, times(1)).saveTeachers(eq(1L), anyList());
+        ArgumentCaptor<List<Object>> report = ArgumentCaptor.captor();
+        verify(resultList, times(1)).addAll(report.capture());
+        verify(resultList, never()).add(any());
+        assertThat(report.getValue()).hasSize(3);
+        assertEquals("First", ((TeacherImportDTO) report.getValue().get(0)).getName());
+        TeacherImportDTO error = (TeacherImportDTO) report.getValue().get(1);
+        assertEquals(ImportSaveStatus.VALIDATION_ERROR, error.getImportSaveStatus());
+        assertEquals(3L, error.getLineNumber());
+        assertNotNull(error.getMessage());
+        assertEquals("Second", ((TeacherImportDTO) report.getValue().get(2)).getName());
+    }
+
+    @Test
+    void throwEntityNotFoundExceptionIfJobExpired() {
+        when(redissonClient.getBucket("import:job:1")).thenReturn(jobBucket);
+        when(jobBucket.get()).thenReturn(null);
+
+        assertThrows(EntityNotFoundException.class, () -> importJobService.getById("1"));
+    }
+}
@@ -10,6 +10,7 @@ import com.softserve.exception.EntityAlreadyExistsException;
 import com.softserve.exception.EntityNotFoundException;
 import com.softserve.mapper.LessonInfoMapper;
 import com.softserve.repository.LessonRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.SemesterRepository;
 import com.softserve.service.impl.LessonServiceImpl;
 import org.junit.jupiter.api.Tag;
@@ -20,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -46,6 +48,9 @@ class LessonServiceTest {
     @Mock
     private LessonInfoMapper lessonInfoMapper;
 
+    @Mock
+    private ScheduleReadModelRepository scheduleReadModelRepository;
+
     @InjectMocks
     private LessonServiceImpl lessonService;
 
@@ -286,5 +291,6 @@ class LessonServiceTest {
 
         assertEquals(2, result);
         verify(lessonRepository).updateLinkToMeeting(lesson);
+        verify(scheduleReadModelRepository).refresh(ScheduleReadModelRepository.Scope.TEACHER, List.of(5L));
     }
 }
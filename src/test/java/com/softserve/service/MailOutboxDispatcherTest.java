@@ -0,0 +1,116 @@
+package com.softserve.service;
+
+import com.softserve.entity.MailOutboxMessage;
+import com.softserve.entity.Teacher;
+import com.softserve.exception.EntityNotFoundException;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateLimiterConfig;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class MailOutboxDispatcherTest {
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private ScheduleService scheduleService;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RRateLimiter rateLimiter;
+
+    private MailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getRateLimiter("mail:rate")).thenReturn(rateLimiter);
+        when(rateLimiter.trySetRate(RateType.OVERALL, 5, 1, RateIntervalUnit.SECONDS)).thenReturn(true);
+        dispatcher = new MailOutboxDispatcher(mailOutboxService, scheduleService, Runnable::run, redissonClient, 5, 3);
+    }
+
+    @Test
+    void keepsSharedRateLimiterWhenRateIsUnchanged() {
+        when(rateLimiter.trySetRate(RateType.OVERALL, 5, 1, RateIntervalUnit.SECONDS)).thenReturn(false);
+        RateLimiterConfig config = rateConfig(5L);
+        when(rateLimiter.getConfig()).thenReturn(config);
+
+        new MailOutboxDispatcher(mailOutboxService, scheduleService, Runnable::run, redissonClient, 5, 3);
+
+        verify(rateLimiter, never()).setRate(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void overwritesSharedRateLimiterWhenRateChanges() {
+        when(rateLimiter.trySetRate(RateType.OVERALL, 10, 1, RateIntervalUnit.SECONDS)).thenReturn(false);
+        RateLimiterConfig config = rateConfig(5L);
+        when(rateLimiter.getConfig()).thenReturn(config);
+
+        new MailOutboxDispatcher(mailOutboxService, scheduleService, Runnable::run, redissonClient, 10, 3);
+
+        verify(rateLimiter).setRate(RateType.OVERALL, 10, 1, RateIntervalUnit.SECONDS);
+    }
+
+    @Test
+    void dispatchSendsEveryClaimedLetterWithinRateLimit() throws MessagingException {
+        when(mailOutboxService.claimDue(3)).thenReturn(List.of(message(1L, 10L), message(2L, 20L)));
+
+        dispatcher.dispatch();
+
+        verify(rateLimiter, times(2)).acquire();
+        verify(scheduleService).sendScheduleToTeacher(4L, 10L, Locale.ENGLISH);
+        verify(scheduleService).sendScheduleToTeacher(4L, 20L, Locale.ENGLISH);
+        verify(mailOutboxService).markSent(1L);
+        verify(mailOutboxService).markSent(2L);
+    }
+
+    @Test
+    void dispatchRecordsFailuresWithoutStoppingOtherLetters() throws MessagingException {
+        when(mailOutboxService.claimDue(3)).thenReturn(List.of(message(1L, 10L), message(2L, 20L), message(3L, 30L)));
+        doThrow(new MessagingException("Connection refused"))
+                .when(scheduleService).sendScheduleToTeacher(4L, 10L, Locale.ENGLISH);
+        doThrow(new EntityNotFoundException(Teacher.class, "id", "20"))
+                .when(scheduleService).sendScheduleToTeacher(4L, 20L, Locale.ENGLISH);
+
+        dispatcher.dispatch();
+
+        verify(mailOutboxService).markFailed(1L, "Connection refused", true);
+        verify(mailOutboxService).markFailed(eq(2L), anyString(), eq(false));
+        verify(mailOutboxService).markSent(3L);
+    }
+
+    private RateLimiterConfig rateConfig(Long rate) {
+        RateLimiterConfig config = mock(RateLimiterConfig.class);
+        when(config.getRateType()).thenReturn(RateType.OVERALL);
+        when(config.getRate()).thenReturn(rate);
+        when(config.getRateInterval()).thenReturn(1000L);
+        return config;
+    }
+
+    private MailOutboxMessage message(Long id, Long teacherId) {
+        MailOutboxMessage message = new MailOutboxMessage();
+        message.setId(id);
+        message.setSemesterId(4L);
+        message.setTeacherId(teacherId);
+        message.setLanguage("en");
+        message.setAttempts(1);
+        return message;
+    }
+}
@@ -0,0 +1,138 @@
+package com.softserve.service;
+
+import com.softserve.dto.MailBatchDTO;
+import com.softserve.entity.MailOutboxMessage;
+import com.softserve.entity.enums.MailOutboxStatus;
+import com.softserve.exception.EntityNotFoundException;
+import com.softserve.mapper.MailOutboxMapper;
+import com.softserve.repository.MailOutboxRepository;
+import com.softserve.service.impl.MailOutboxServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private MailOutboxMapper mailOutboxMapper;
+
+    private MailOutboxServiceImpl mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxService = new MailOutboxServiceImpl(mailOutboxRepository, mailOutboxMapper, 3,
+                Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void enqueueSchedulesSavesOnePendingLetterPerTeacher() {
+        when(mailOutboxRepository.save(any(MailOutboxMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MailBatchDTO batch = mailOutboxService.enqueueSchedules(4L, new Long[]{1L, 2L, 1L}, Locale.ENGLISH);
+
+        verify(mailOutboxRepository, times(2)).save(argThat(message ->
+                message.getStatus() == MailOutboxStatus.PENDING
+                        && message.getBatchId().equals(batch.getBatchId())
+                        && message.getSemesterId() == 4L
+                        && "en".equals(message.getLanguage())));
+        assertEquals(2, batch.getPending());
+        assertEquals(0, batch.getSent());
+    }
+
+    @Test
+    void claimDueMarksLettersAsSendingAndCountsAttempt() {
+        MailOutboxMessage message = message(MailOutboxStatus.PENDING, 1);
+        when(mailOutboxRepository.lockDue(any(), any(), anyInt())).thenReturn(List.of(message));
+
+        List<MailOutboxMessage> claimed = mailOutboxService.claimDue(5);
+
+        assertEquals(List.of(message), claimed);
+        assertEquals(MailOutboxStatus.SENDING, message.getStatus());
+        assertEquals(2, message.getAttempts());
+        assertNotNull(message.getClaimedAt());
+    }
+
+    @Test
+    void claimDueFailsStaleLetterThatUsedItsLastAttempt() {
+        MailOutboxMessage exhausted = message(MailOutboxStatus.SENDING, 3);
+        MailOutboxMessage stale = message(MailOutboxStatus.SENDING, 2);
+        when(mailOutboxRepository.lockDue(any(), any(), anyInt())).thenReturn(List.of(exhausted, stale));
+
+        List<MailOutboxMessage> claimed = mailOutboxService.claimDue(5);
+
+        assertEquals(List.of(stale), claimed);
+        assertEquals(MailOutboxStatus.FAILED, exhausted.getStatus());
+        assertEquals(3, exhausted.getAttempts());
+        assertNotNull(exhausted.getLastError());
+        assertEquals(MailOutboxStatus.SENDING, stale.getStatus());
+        assertEquals(3, stale.getAttempts());
+    }
+
+    @Test
+    void markFailedSchedulesRetryWithBackoff() {
+        MailOutboxMessage message = message(MailOutboxStatus.SENDING, 2);
+        when(mailOutboxRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        mailOutboxService.markFailed(1L, "Connection refused", true);
+
+        assertEquals(MailOutboxStatus.PENDING, message.getStatus());
+        assertEquals("Connection refused", message.getLastError());
+        assertTrue(message.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(50)));
+    }
+
+    @Test
+    void markFailedGivesUpWhenAttemptsRunOutOrErrorIsPermanent() {
+        MailOutboxMessage exhausted = message(MailOutboxStatus.SENDING, 3);
+        MailOutboxMessage permanent = message(MailOutboxStatus.SENDING, 1);
+        when(mailOutboxRepository.findById(1L)).thenReturn(Optional.of(exhausted));
+        when(mailOutboxRepository.findById(2L)).thenReturn(Optional.of(permanent));
+
+        mailOutboxService.markFailed(1L, "Connection refused", true);
+        mailOutboxService.markFailed(2L, "Teacher not found", false);
+
+        assertEquals(MailOutboxStatus.FAILED, exhausted.getStatus());
+        assertEquals(MailOutboxStatus.FAILED, permanent.getStatus());
+    }
+
+    @Test
+    void backoffDoublesUpToMaximum() {
+        assertEquals(Duration.ofSeconds(30), mailOutboxService.backoff(1));
+        assertEquals(Duration.ofSeconds(60), mailOutboxService.backoff(2));
+        assertEquals(Duration.ofMinutes(1), mailOutboxService.backoff(10));
+    }
+
+    @Test
+    void getBatchThrowsExceptionIfBatchNotFound() {
+        when(mailOutboxRepository.findByBatchId("missing")).thenReturn(List.of());
+
+        assertThrows(EntityNotFoundException.class, () -> mailOutboxService.getBatch("missing"));
+    }
+
+    private MailOutboxMessage message(MailOutboxStatus status, int attempts) {
+        MailOutboxMessage message = new MailOutboxMessage();
+        message.setId(1L);
+        message.setStatus(status);
+        message.setAttempts(attempts);
+        message.setNextAttemptAt(LocalDateTime.now());
+        return message;
+    }
+}
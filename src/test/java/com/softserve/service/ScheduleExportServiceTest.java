@@ -0,0 +1,130 @@
+package com.softserve.service;
+
+import com.softserve.dto.GroupDTO;
+import com.softserve.dto.ScheduleForGroupDTO;
+import com.softserve.dto.ScheduleForTeacherDTO;
+import com.softserve.dto.TeacherDTO;
+import com.softserve.exception.FileDownloadException;
+import com.softserve.service.impl.ScheduleExportServiceImpl;
+import com.softserve.util.PdfReportGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class ScheduleExportServiceTest {
+
+    @Mock
+    private PdfReportGenerator pdfReportGenerator;
+
+    private ExecutorService reportExecutor;
+
+    private ScheduleExportServiceImpl scheduleExportService;
+
+    @BeforeEach
+    void setUp() {
+        reportExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        scheduleExportService = new ScheduleExportServiceImpl(pdfReportGenerator, reportExecutor, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportExecutor.shutdownNow();
+    }
+
+    @Test
+    void writeTeacherSchedulesZipAddsOneEntryPerTeacher() throws IOException {
+        List<ScheduleForTeacherDTO> schedules = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            schedules.add(teacherSchedule("Surname" + i));
+        }
+        // two teachers with the same name must not clash inside the archive
+        schedules.add(teacherSchedule("Surname0"));
+        when(pdfReportGenerator.teacherScheduleReport(any(), eq(Locale.ENGLISH)))
+                .thenAnswer(invocation -> pdf(invocation.<ScheduleForTeacherDTO>getArgument(0).getTeacher().getSurname()));
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+
+        scheduleExportService.writeTeacherSchedulesZip(schedules, Locale.ENGLISH, archive);
+
+        Map<String, String> entries = readZip(archive.toByteArray());
+        assertEquals(21, entries.size());
+        assertEquals("Surname7", entries.get("schedule for Position Surname7 N. P..pdf"));
+        assertEquals("Surname0", entries.get("schedule for Position Surname0 N. P. (2).pdf"));
+    }
+
+    @Test
+    void writeGroupSchedulesZipReplacesPathSeparatorsInFileNames() throws IOException {
+        ScheduleForGroupDTO schedule = new ScheduleForGroupDTO();
+        schedule.setGroup(new GroupDTO(1L, false, "CS-1/2"));
+        when(pdfReportGenerator.groupScheduleReport(schedule, Locale.ENGLISH)).thenReturn(pdf("group"));
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+
+        scheduleExportService.writeGroupSchedulesZip(List.of(schedule), Locale.ENGLISH, archive);
+
+        assertEquals(Map.of("schedule for CS-1_2 group.pdf", "group"), readZip(archive.toByteArray()));
+    }
+
+    @Test
+    void writeTeacherSchedulesZipFailsWhenReportCannotBeRendered() {
+        when(pdfReportGenerator.teacherScheduleReport(any(), any()))
+                .thenThrow(new FileDownloadException("Failed to download file"));
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        List<ScheduleForTeacherDTO> schedules = List.of(teacherSchedule("Surname"));
+
+        assertThrows(FileDownloadException.class,
+                () -> scheduleExportService.writeTeacherSchedulesZip(schedules, Locale.ENGLISH, archive));
+    }
+
+    private ScheduleForTeacherDTO teacherSchedule(String surname) {
+        TeacherDTO teacher = new TeacherDTO();
+        teacher.setName("Name");
+        teacher.setSurname(surname);
+        teacher.setPatronymic("Patronymic");
+        teacher.setPosition("Position");
+        ScheduleForTeacherDTO schedule = new ScheduleForTeacherDTO();
+        schedule.setTeacher(teacher);
+        schedule.setDays(List.of());
+        return schedule;
+    }
+
+    private ByteArrayOutputStream pdf(String content) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        bos.write(content.getBytes(StandardCharsets.UTF_8));
+        return bos;
+    }
+
+    private Map<String, String> readZip(byte[] archive) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
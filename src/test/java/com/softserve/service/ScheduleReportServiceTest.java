@@ -0,0 +1,103 @@
+package com.softserve.service;
+
+import com.softserve.dto.GroupDTO;
+import com.softserve.dto.ScheduleForGroupDTO;
+import com.softserve.service.impl.ScheduleReportServiceImpl;
+import com.softserve.util.PdfReport;
+import com.softserve.util.PdfReportGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class ScheduleReportServiceTest {
+
+    private static final byte[] PDF = "%PDF-1.4 group schedule".getBytes(StandardCharsets.US_ASCII);
+
+    @Mock
+    private PdfReportGenerator pdfReportGenerator;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RMapCache<Object, Object> reports;
+
+    @Mock
+    private RMap<Object, Object> versions;
+
+    private ScheduleReportServiceImpl scheduleReportService;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(reports).when(redissonClient).getMapCache("report:pdf");
+        doReturn(versions).when(redissonClient).getMap(eq("report:version"), any(Codec.class));
+        scheduleReportService = new ScheduleReportServiceImpl(pdfReportGenerator, redissonClient, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    void renderedReportIsStreamedAndCachedThenServedFromCache() throws IOException {
+        when(versions.getAll(anySet())).thenReturn(Map.of("4", 3L));
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write(PDF);
+            return null;
+        }).when(pdfReportGenerator).writeGroupScheduleReport(any(), eq(Locale.ENGLISH), any());
+
+        PdfReport rendered = scheduleReportService.getGroupReport(4L, 7L, Locale.ENGLISH, this::groupSchedule);
+        ByteArrayOutputStream firstDownload = new ByteArrayOutputStream();
+        rendered.content().writeTo(firstDownload);
+
+        ArgumentCaptor<Object> cached = ArgumentCaptor.forClass(Object.class);
+        verify(reports).fastPut(eq("4:group:7:en:0:3"), cached.capture(), eq(3_600_000L), eq(TimeUnit.MILLISECONDS));
+        assertArrayEquals(PDF, firstDownload.toByteArray());
+        assertFalse(rendered.hasContentLength());
+        assertEquals("schedule for 111 group.pdf", rendered.fileName());
+
+        when(reports.get("4:group:7:en:0:3")).thenReturn(cached.getValue());
+        PdfReport fromCache = scheduleReportService.getGroupReport(4L, 7L, Locale.ENGLISH, () -> fail("schedule is not needed"));
+        ByteArrayOutputStream secondDownload = new ByteArrayOutputStream();
+        fromCache.content().writeTo(secondDownload);
+
+        assertArrayEquals(PDF, secondDownload.toByteArray());
+        assertEquals(PDF.length, fromCache.contentLength());
+        assertEquals("schedule for 111 group.pdf", fromCache.fileName());
+        verify(pdfReportGenerator, times(1)).writeGroupScheduleReport(any(), any(), any());
+    }
+
+    @Test
+    void invalidateBumpsSemesterVersion() {
+        scheduleReportService.invalidate(4L);
+        scheduleReportService.invalidateAll();
+
+        verify(versions).addAndGet("4", 1L);
+        verify(versions).addAndGet("*", 1L);
+    }
+
+    private ScheduleForGroupDTO groupSchedule() {
+        ScheduleForGroupDTO schedule = new ScheduleForGroupDTO();
+        schedule.setGroup(new GroupDTO(7L, false, "111"));
+        return schedule;
+    }
+}
@@ -8,6 +8,7 @@ import com.softserve.entity.Semester;
 import com.softserve.exception.*;
 import com.softserve.mapper.SemesterMapper;
 import com.softserve.repository.GroupRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.ScheduleRepository;
 import com.softserve.repository.SemesterRepository;
 import com.softserve.service.impl.SemesterServiceImpl;
@@ -42,6 +43,9 @@ class SemesterServiceTest {
     @Mock
     private SemesterMapper semesterMapper;
 
+    @Mock
+    private ScheduleReadModelRepository scheduleReadModelRepository;
+
     @InjectMocks
     private SemesterServiceImpl semesterService;
 
@@ -1,6 +1,7 @@
 package com.softserve.service;
 
 import com.softserve.dto.GroupDTO;
+import com.softserve.dto.PageDTO;
 import com.softserve.dto.StudentDTO;
 import com.softserve.dto.StudentImportDTO;
 import com.softserve.dto.enums.ImportSaveStatus;
@@ -15,6 +16,7 @@ import com.softserve.mapper.GroupMapper;
 import com.softserve.mapper.StudentMapper;
 import com.softserve.repository.StudentRepository;
 import com.softserve.service.impl.StudentServiceImpl;
+import com.softserve.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -114,6 +116,31 @@ class StudentServiceTest {
         verify(studentRepository).getAll();
     }
 
+    @Test
+    void getPageReturnsCursorOfLastStudentWhenThereIsNextPage() {
+        studentDTOWithId1L.setId(1L);
+        studentDTOWithId2L.setId(2L);
+        KeysetCursor after = new KeysetCursor("Adams", 7L);
+        when(studentRepository.getPage(4L, null, "name", after, 1))
+                .thenReturn(List.of(studentDTOWithId1L, studentDTOWithId2L));
+
+        PageDTO<StudentDTO> actual = studentService.getPage(4L, null, "name", after.encode(), 1);
+
+        assertThat(actual.content()).containsExactly(studentDTOWithId1L);
+        assertThat(KeysetCursor.decode(actual.nextCursor())).isEqualTo(new KeysetCursor("Surname", 1L));
+    }
+
+    @Test
+    void getPageReturnsNoCursorOnLastPage() {
+        when(studentRepository.getPage(null, null, null, null, KeysetCursor.MAX_PAGE_SIZE))
+                .thenReturn(List.of(studentDTOWithId1L));
+
+        PageDTO<StudentDTO> actual = studentService.getPage(null, null, null, null, Integer.MAX_VALUE);
+
+        assertThat(actual.content()).containsExactly(studentDTOWithId1L);
+        assertThat(actual.nextCursor()).isNull();
+    }
+
     @Test
     void getById() {
         Student expected = studentWithId1L;
@@ -8,6 +8,7 @@ import com.softserve.entity.enums.LessonType;
 import com.softserve.exception.EntityNotFoundException;
 import com.softserve.exception.FieldAlreadyExistsException;
 import com.softserve.mapper.SubjectMapper;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.SubjectRepository;
 import com.softserve.service.impl.SubjectServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +36,9 @@ class SubjectServiceTest {
     @Mock
     private SubjectMapper subjectMapper;
 
+    @Mock
+    private ScheduleReadModelRepository scheduleReadModelRepository;
+
     @InjectMocks
     private SubjectServiceImpl subjectService;
 
@@ -2,11 +2,15 @@ package com.softserve.service;
 
 import com.softserve.dto.TeacherDTO;
 import com.softserve.dto.TeacherForUpdateDTO;
+import com.softserve.dto.TeacherImportDTO;
+import com.softserve.dto.enums.ImportSaveStatus;
+import com.softserve.entity.Department;
 import com.softserve.entity.Teacher;
 import com.softserve.entity.User;
 import com.softserve.exception.EntityNotFoundException;
 import com.softserve.mapper.TeacherMapper;
 import com.softserve.repository.DepartmentRepository;
+import com.softserve.repository.ScheduleReadModelRepository;
 import com.softserve.repository.TeacherRepository;
 import com.softserve.service.impl.TeacherServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,10 +22,13 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.softserve.entity.enums.Role.ROLE_TEACHER;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,6 +51,9 @@ class TeacherServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private ScheduleReadModelRepository scheduleReadModelRepository;
+
     @InjectMocks
     private TeacherServiceImpl teacherService;
 
@@ -347,6 +357,7 @@ class TeacherServiceTest {
 
         verify(teacherRepository, times(1)).findByUserId(1L);
         verify(teacherRepository, times(1)).update(argThat(t -> t.getUserId() == null));
+        verify(scheduleReadModelRepository).refresh(ScheduleReadModelRepository.Scope.TEACHER, List.of(teacher.getId()));
     }
 
     @Test
@@ -357,4 +368,61 @@ class TeacherServiceTest {
 
         verify(teacherRepository, times(1)).findByUserId(1L);
     }
+
+    @Test
+    void saveTeachersResolvesExistingTeachersWithOneQueryPerChunk() {
+        Department department = new Department();
+        department.setId(1L);
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("teacher@gmail.com");
+
+        TeacherImportDTO importDTO = new TeacherImportDTO();
+        importDTO.setName("Name1");
+        importDTO.setSurname("Surname1");
+        importDTO.setPatronymic("Patronymic1");
+        importDTO.setPosition("Position1");
+        importDTO.setEmail("teacher@gmail.com");
+        TeacherImportDTO mappedDTO = new TeacherImportDTO();
+        mappedDTO.setId(1L);
+
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
+        when(userService.findAllByEmails(List.of("teacher@gmail.com"))).thenReturn(List.of(user));
+        when(teacherRepository.getExistingTeachersBySurnames(List.of("Surname1")))
+                .thenReturn(List.of(teacherWithId1LAndWithoutUser));
+        when(teacherMapper.teacherImportDTOToTeacherWithoutUser(importDTO)).thenReturn(teacherWithoutId);
+        when(teacherMapper.teacherToTeacherImportDTOWithoutEmail(teacherWithId1LAndWithoutUser)).thenReturn(mappedDTO);
+
+        List<TeacherImportDTO> imported = teacherService.saveTeachers(1L, List.of(importDTO, importDTO));
+
+        assertThat(imported).hasSize(2).allMatch(t -> t.getImportSaveStatus() == ImportSaveStatus.ALREADY_EXIST);
+        assertEquals("teacher@gmail.com", imported.get(0).getEmail());
+        assertEquals(1L, teacherWithId1LAndWithoutUser.getUserId());
+        assertEquals(department, teacherWithId1LAndWithoutUser.getDepartment());
+        verify(departmentRepository, times(1)).findById(1L);
+        verify(userService, times(1)).findAllByEmails(anyCollection());
+        verify(teacherRepository, times(1)).getExistingTeachersBySurnames(anyCollection());
+        verify(teacherRepository, never()).save(any(Teacher.class));
+        verify(teacherRepository, times(1)).flushAndClear();
+        verify(scheduleReadModelRepository).refresh(ScheduleReadModelRepository.Scope.TEACHER, Set.of(1L));
+        verify(userService, never()).automaticRegistration(anyString(), any());
+    }
+
+    @Test
+    void saveFromFileReturnsValidationErrorRowForBrokenLine() {
+        Department department = new Department();
+        department.setId(1L);
+        MockMultipartFile file = new MockMultipartFile("file", "teachers.csv", "text/csv",
+                "name,surname,patronymic,position,email\nBroken,Broken\n".getBytes(StandardCharsets.UTF_8));
+
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
+
+        List<TeacherImportDTO> imported = teacherService.saveFromFile(file, 1L);
+
+        assertThat(imported).hasSize(1);
+        assertEquals(ImportSaveStatus.VALIDATION_ERROR, imported.get(0).getImportSaveStatus());
+        assertEquals(2L, imported.get(0).getLineNumber());
+        assertNotNull(imported.get(0).getMessage());
+        verify(teacherRepository, never()).getExistingTeachersBySurnames(anyCollection());
+    }
 }
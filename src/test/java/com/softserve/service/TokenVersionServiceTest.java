@@ -0,0 +1,88 @@
+package com.softserve.service;
+
+import com.softserve.repository.UserRepository;
+import com.softserve.service.impl.TokenVersionServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.LocalCachedMapOptions;
+import org.redisson.api.RLocalCachedMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class TokenVersionServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RLocalCachedMap<Object, Object> versions;
+
+    private TokenVersionServiceImpl tokenVersionService;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(versions).when(redissonClient)
+                .getLocalCachedMap(eq("user:token-version"), any(Codec.class), any(LocalCachedMapOptions.class));
+        tokenVersionService = new TokenVersionServiceImpl(userRepository, redissonClient, transactionManager, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getVersionServesCachedVersionWithoutDatabase() {
+        when(versions.get(1L)).thenReturn(3L);
+
+        assertEquals(3L, tokenVersionService.getVersion(1L));
+        verifyNoInteractions(userRepository, transactionManager);
+    }
+
+    @Test
+    void getVersionLoadsMissingVersionFromDatabase() {
+        when(userRepository.findTokenVersion(1L)).thenReturn(Optional.of(2L));
+
+        assertEquals(2L, tokenVersionService.getVersion(1L));
+        assertEquals(-1L, tokenVersionService.getVersion(5L));
+        verify(versions).fastPutIfAbsent(1L, 2L);
+    }
+
+    @Test
+    void revokePublishesNewVersionAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(userRepository.findTokenVersion(1L)).thenReturn(Optional.of(4L));
+
+        tokenVersionService.revoke(1L);
+
+        verify(userRepository).incrementTokenVersion(1L);
+        verify(versions, never()).fastPut(any(), any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(versions).fastPut(1L, 4L);
+    }
+}
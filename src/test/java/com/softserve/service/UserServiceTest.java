@@ -39,6 +39,9 @@ class UserServiceTest {
     @Mock
     private MailServiceImpl mailService;
 
+    @Mock
+    private TokenVersionService tokenVersionService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -115,6 +118,7 @@ class UserServiceTest {
         verify(userRepository, times(1)).update(oldUser);
         verify(userRepository, times(1)).findById(anyLong());
         verify(userRepository, times(1)).findByEmail(oldUser.getEmail());
+        verify(tokenVersionService).revoke(1L);
     }
 
     @Test
@@ -268,6 +272,7 @@ class UserServiceTest {
         //  verify(userRepository, times(1)).findById(1L);
         verify(encoder, times(1)).encode(any(CharSequence.class));
         verify(userRepository, times(1)).update(user);
+        verify(tokenVersionService).revoke(1L);
         verify(mailService, times(1)).send(
                 ArgumentMatchers.eq("some@mail.com"),
                 ArgumentMatchers.contains("Change password"),
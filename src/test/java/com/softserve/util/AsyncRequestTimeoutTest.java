@@ -0,0 +1,44 @@
+package com.softserve.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class AsyncRequestTimeoutTest {
+
+    @Test
+    void appliesTimeoutOnlyToRequestItWasAppliedTo() throws Exception {
+        MockHttpServletRequest exportRequest = asyncRequest();
+        MockHttpServletRequest otherRequest = asyncRequest();
+
+        new AsyncRequestTimeout(Duration.ofMinutes(10)).applyTo(exportRequest);
+        startStreaming(exportRequest);
+        startStreaming(otherRequest);
+
+        assertThat(exportRequest.getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(10).toMillis());
+        assertThat(otherRequest.getAsyncContext().getTimeout()).isEqualTo(30_000L);
+    }
+
+    private static MockHttpServletRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download/schedules-for-groups-in-zip");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private static void startStreaming(MockHttpServletRequest request) throws Exception {
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.createAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncWebRequest.setTimeout(30_000L);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(asyncWebRequest);
+        asyncManager.startCallableProcessing(() -> null);
+    }
+}
@@ -0,0 +1,58 @@
+package com.softserve.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class ContextCopyingTaskDecoratorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ContextCopyingTaskDecorator decorator = new ContextCopyingTaskDecorator("test", registry);
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void runsTaskWithContextOfSubmitter() throws Exception {
+        Authentication user = new UsernamePasswordAuthenticationToken("manager@test.com", null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(user);
+        MDC.put("requestId", "42");
+        AtomicReference<Authentication> seenUser = new AtomicReference<>();
+        AtomicReference<String> seenRequestId = new AtomicReference<>();
+
+        Runnable task = decorator.decorate(() -> {
+            seenUser.set(SecurityContextHolder.getContext().getAuthentication());
+            seenRequestId.set(MDC.get("requestId"));
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(task).get();
+            // the worker must not keep the context of the task for the next one
+            assertThat(executor.submit(() -> SecurityContextHolder.getContext().getAuthentication()).get()).isNull();
+            assertThat(executor.submit(() -> MDC.get("requestId")).get()).isNull();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(seenUser.get()).isSameAs(user);
+        assertThat(seenRequestId.get()).isEqualTo("42");
+        assertThat(registry.get("app.async.task.execution").tag("executor", "test").timer().count()).isEqualTo(1);
+        assertThat(registry.get("app.async.task.wait").tag("executor", "test").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,84 @@
+package com.softserve.util;
+
+import com.opencsv.exceptions.CsvException;
+import com.softserve.dto.TeacherImportDTO;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class CsvFileParserTest {
+
+    private static final String HEADER = "name,surname,patronymic,position,email\n";
+
+    @Test
+    void parseInChunksReportsBrokenLinesAndContinues() {
+        String csv = HEADER
+                + "First,First,First,First,first@test.com\n"
+                + "Broken,Broken\n"
+                + "Third,Third,Third,Third,third@test.com\n"
+                + "Fourth,Fourth,Fourth,Fourth,fourth@test.com\n";
+        MockMultipartFile file = new MockMultipartFile("file", "teachers.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+        List<List<TeacherImportDTO>> chunks = new ArrayList<>();
+        List<CsvException> errors = new ArrayList<>();
+
+        CsvFileParser.parseInChunks(file, TeacherImportDTO.class, 2, chunks::add, errors::add);
+
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).extracting(TeacherImportDTO::getName).containsExactly("First", "Third");
+        assertThat(chunks.get(1)).extracting(TeacherImportDTO::getEmail).containsExactly("fourth@test.com");
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).getLineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    void importInChunksKeepsSkippedLinesInFileOrder() {
+        String csv = HEADER
+                + "First,First,First,First,first@test.com\n"
+                + "Second,Second,Second,Second,second@test.com\n"
+                + "Broken,Broken\n"
+                + "Fifth,Fifth,Fifth,Fifth,fifth@test.com\n"
+                + "Broken,Broken\n"
+                + "Broken,Broken\n";
+        MockMultipartFile file = new MockMultipartFile("file", "teachers.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+        List<List<String>> results = new ArrayList<>();
+
+        CsvFileParser.importInChunks(file, TeacherImportDTO.class, 2,
+                chunk -> chunk.stream().map(TeacherImportDTO::getName).toList(),
+                e -> "line " + e.getLineNumber(),
+                results::add);
+
+        assertThat(results).containsExactly(
+                List.of("First", "Second"),
+                List.of("line 4", "Fifth", "line 6", "line 7"));
+    }
+
+    @Test
+    void parseInChunksPassesEveryRowInChunksOfAtMostChunkSize() {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int row = 1; row <= 2500; row++) {
+            csv.append("Name").append(row).append(",Surname").append(row).append(",Patronymic").append(row)
+                    .append(",Position,teacher").append(row).append("@test.com\n");
+        }
+        MockMultipartFile file = new MockMultipartFile("file", "teachers.csv", "text/csv",
+                csv.toString().getBytes(StandardCharsets.UTF_8));
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<String> lastNames = new ArrayList<>();
+
+        CsvFileParser.parseInChunks(file, TeacherImportDTO.class, 1000, chunk -> {
+            chunkSizes.add(chunk.size());
+            lastNames.add(chunk.get(chunk.size() - 1).getName());
+        }, e -> { });
+
+        assertThat(chunkSizes).containsExactly(1000, 1000, 500);
+        assertThat(lastNames).containsExactly("Name1000", "Name2000", "Name2500");
+    }
+}
@@ -0,0 +1,40 @@
+package com.softserve.util;
+
+import com.softserve.exception.IncorrectCursorException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+class KeysetCursorTest {
+
+    @Test
+    void decodesEncodedCursor() {
+        KeysetCursor cursor = new KeysetCursor("Романюк: 2", 42L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void returnsNullForFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+    }
+
+    @Test
+    void throwIncorrectCursorExceptionIfCursorIsNotValid() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor"))
+                .isInstanceOf(IncorrectCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("YWJj"))
+                .isInstanceOf(IncorrectCursorException.class);
+    }
+
+    @Test
+    void limitsPageSize() {
+        assertThat(KeysetCursor.pageSize(10)).isEqualTo(10);
+        assertThat(KeysetCursor.pageSize(100_000)).isEqualTo(KeysetCursor.MAX_PAGE_SIZE);
+        assertThat(KeysetCursor.pageSize(0)).isEqualTo(1);
+    }
+}
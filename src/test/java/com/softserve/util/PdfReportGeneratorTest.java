@@ -0,0 +1,98 @@
+package com.softserve.util;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+import com.softserve.dto.*;
+import com.softserve.entity.enums.LessonType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class PdfReportGeneratorTest {
+
+    private static PdfReportGenerator generator;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        generator = new PdfReportGenerator(new ReportRenderingContext());
+    }
+
+    @Test
+    void teacherScheduleReportRendersTeacherTable() throws Exception {
+        byte[] pdf = generator.teacherScheduleReport(teacherSchedule("Petrenko"), Locale.ENGLISH).toByteArray();
+
+        PdfReader reader = new PdfReader(pdf);
+        assertThat(PdfTextExtractor.getTextFromPage(reader, 1)).contains("Petrenko", "Math");
+        reader.close();
+    }
+
+    @Test
+    void sharedGeneratorRendersReportsConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> reports = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                ScheduleForTeacherDTO schedule = teacherSchedule("Teacher" + i);
+                reports.add(executor.submit(() ->
+                        generator.teacherScheduleReport(schedule, Locale.ENGLISH).toByteArray()));
+            }
+
+            for (int i = 0; i < reports.size(); i++) {
+                PdfReader reader = new PdfReader(reports.get(i).get());
+                assertThat(PdfTextExtractor.getTextFromPage(reader, 1)).contains("Teacher" + i);
+                reader.close();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ScheduleForTeacherDTO teacherSchedule(String surname) {
+        PeriodDTO period = new PeriodDTO();
+        period.setId(1L);
+        period.setName("1");
+        period.setStartTime(LocalTime.of(8, 0));
+        period.setEndTime(LocalTime.of(9, 20));
+
+        LessonForTeacherScheduleDTO lesson = new LessonForTeacherScheduleDTO();
+        lesson.setId(1L);
+        lesson.setSubjectForSite("Math");
+        lesson.setLessonType(LessonType.LECTURE);
+        lesson.setGroup(new GroupDTO(1L, false, "Group"));
+        lesson.setRoom("Room");
+
+        ClassForTeacherScheduleDTO clazz = new ClassForTeacherScheduleDTO();
+        clazz.setPeriod(period);
+        clazz.setLessons(List.of(lesson));
+        ClassesInScheduleForTeacherDTO classes = new ClassesInScheduleForTeacherDTO();
+        classes.setPeriods(List.of(clazz));
+
+        DaysOfWeekWithClassesForTeacherDTO day = new DaysOfWeekWithClassesForTeacherDTO();
+        day.setDay(DayOfWeek.MONDAY);
+        day.setOddWeek(classes);
+        day.setEvenWeek(classes);
+
+        TeacherDTO teacher = new TeacherDTO();
+        teacher.setName("Name");
+        teacher.setSurname(surname);
+        teacher.setPatronymic("Patronymic");
+        teacher.setPosition("Position");
+
+        ScheduleForTeacherDTO schedule = new ScheduleForTeacherDTO();
+        schedule.setTeacher(teacher);
+        schedule.setDays(List.of(day));
+        return schedule;
+    }
+}
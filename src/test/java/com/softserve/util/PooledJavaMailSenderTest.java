@@ -0,0 +1,89 @@
+package com.softserve.util;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("sender@localhost", "sender", "secret"));
+
+    private PooledJavaMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = mailSender(5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailSender.destroy();
+    }
+
+    @Test
+    void sendsSeparateCallsOverOneConnection() {
+        for (int i = 0; i < 5; i++) {
+            mailSender.send(message(i));
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(mailSender.getConnectionsCreated()).isEqualTo(1);
+    }
+
+    @Test
+    void replacesConnectionAfterMaxMessages() {
+        SimpleMailMessage[] messages = new SimpleMailMessage[12];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = message(i);
+        }
+
+        mailSender.send(messages);
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(12);
+        assertThat(mailSender.getConnectionsCreated()).isEqualTo(3);
+    }
+
+    @Test
+    void reconnectsWhenServerDroppedIdleConnection() {
+        mailSender.send(message(1));
+        greenMail.reset();
+
+        mailSender.send(message(2));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(mailSender.getConnectionsCreated()).isEqualTo(2);
+    }
+
+    private PooledJavaMailSender mailSender(int maxMessagesPerConnection) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(2, Duration.ofMinutes(1), Duration.ofSeconds(5),
+                maxMessagesPerConnection);
+        sender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        sender.setUsername("sender");
+        sender.setPassword("secret");
+        sender.getJavaMailProperties().setProperty("mail.smtp.auth", "true");
+        return sender;
+    }
+
+    private SimpleMailMessage message(int number) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("sender@localhost");
+        message.setTo("teacher@localhost");
+        message.setSubject("Schedule " + number);
+        message.setText("Schedule for teacher");
+        return message;
+    }
+}
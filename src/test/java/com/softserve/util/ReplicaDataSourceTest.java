@@ -0,0 +1,118 @@
+package com.softserve.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+class ReplicaDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource first = mock(DataSource.class);
+    private final DataSource second = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstConnection = mock(Connection.class);
+    private final Connection secondConnection = mock(Connection.class);
+
+    private ReplicaDataSource replicaDataSource() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(first.getConnection()).thenReturn(firstConnection);
+        when(second.getConnection()).thenReturn(secondConnection);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("first", first);
+        replicas.put("second", second);
+        return new ReplicaDataSource(primary, replicas, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void spreadsConnectionsOverReplicas() throws SQLException {
+        ReplicaDataSource dataSource = replicaDataSource();
+
+        assertThat(dataSource.getConnection()).isSameAs(firstConnection);
+        assertThat(dataSource.getConnection()).isSameAs(secondConnection);
+        assertThat(dataSource.getConnection()).isSameAs(firstConnection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void skipsReplicaThatFailedToConnect() throws SQLException {
+        ReplicaDataSource dataSource = replicaDataSource();
+        when(first.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertThat(dataSource.getConnection()).isSameAs(secondConnection);
+        assertThat(dataSource.getConnection()).isSameAs(secondConnection);
+        verify(first, times(1)).getConnection();
+    }
+
+    @Test
+    void readsPrimaryWhenNoReplicaIsHealthy() throws SQLException {
+        ReplicaDataSource dataSource = replicaDataSource();
+        when(first.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(second.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void readsPrimaryWithExplicitCredentials() throws SQLException {
+        ReplicaDataSource dataSource = replicaDataSource();
+        Connection userConnection = mock(Connection.class);
+        when(primary.getConnection("reporter", "secret")).thenReturn(userConnection);
+
+        assertThat(dataSource.getConnection("reporter", "secret")).isSameAs(userConnection);
+        verify(first, never()).getConnection();
+        verify(second, never()).getConnection();
+    }
+
+    @Test
+    void readsPrimaryWhenPinned() throws SQLException {
+        ReplicaDataSource dataSource = replicaDataSource();
+
+        Connection connection = PrimaryReads.call(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(PrimaryReads.isPinned()).isFalse();
+    }
+
+    @Test
+    void healthCheckTakesLaggingReplicaOutAndBringsItBack() throws SQLException {
+        ReplicaDataSource dataSource = replicaDataSource();
+        ResultSet lag = lag(firstConnection);
+        when(lag.getDouble(1)).thenReturn(30.0, 0.5);
+        lag(secondConnection);
+
+        dataSource.checkReplicas();
+        assertThat(dataSource.getConnection()).isSameAs(secondConnection);
+        assertThat(dataSource.getConnection()).isSameAs(secondConnection);
+
+        dataSource.checkReplicas();
+        assertThat(dataSource.getConnection()).isSameAs(firstConnection);
+    }
+
+    private ResultSet lag(Connection connection) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        return resultSet;
+    }
+}
@@ -74,3 +74,26 @@ insert into "public".schedules(id, day_of_week, evenodd, lesson_id, period_id, r
 (5, 'MONDAY', 'ODD', 5, 5, 5),
 (6, 'MONDAY', 'ODD', 4, 5, 6),
 (7, 'MONDAY', 'ODD', 6, 6, 6);
+
+insert into "public".schedule_read_model (schedule_id, semester_id, day_of_week, evenodd,
+    lesson_id, lesson_type, lesson_hours, lesson_grouped, subject_for_site, link_to_meeting,
+    subject_id, subject_name, group_id, group_title, group_sort_order,
+    teacher_id, teacher_name, teacher_surname, teacher_patronymic, teacher_position, teacher_user_id,
+    department_id, department_name, room_id, room_name, room_sort_order,
+    period_id, period_name, period_start_time, period_end_time, visible)
+select s.id, l.semester_id, s.day_of_week, s.evenodd,
+    l.id, l.lessontype, l.hours, l.grouped, l.subject_for_site, l.link_to_meeting,
+    subj.id, subj.name, g.id, g.title, g.sort_order,
+    t.id, t.name, t.surname, t.patronymic, t.position, t.user_id,
+    d.id, d.name, r.id, r.name, r.sort_order,
+    p.id, p.name, p.start_time, p.end_time,
+    not (r.disable or sem.disable or g.disable or t.disable or subj.disable)
+from "public".schedules s
+join "public".lessons l on l.id = s.lesson_id
+join "public".semesters sem on sem.id = l.semester_id
+join "public".groups g on g.id = l.group_id
+join "public".teachers t on t.id = l.teacher_id
+join "public".subjects subj on subj.id = l.subject_id
+join "public".rooms r on r.id = s.room_id
+join "public".periods p on p.id = s.period_id
+left join "public".department d on d.id = t.department_id;